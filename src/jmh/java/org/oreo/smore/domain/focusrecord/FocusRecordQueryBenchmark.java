@@ -0,0 +1,155 @@
+package org.oreo.smore.domain.focusrecord;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 사용자 한 달 집중도 조회 비교 (H2 인메모리, 2분 간격 샘플)
+// - 기존: 인덱스 없는 테이블에서 전체 컬럼을 읽어 FocusRecord 객체 목록으로 변환
+// - 변경: (user_id, timestamp, status) 인덱스 + (timestamp, status)만 스트리밍해 바로 누적
+// ./gradlew jmh -Pjmh.includes=FocusRecordQueryBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FocusRecordQueryBenchmark {
+
+    private static final String CREATE_SQL = "CREATE TABLE %s (record_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "user_id BIGINT NOT NULL, \"timestamp\" TIMESTAMP NOT NULL, status INT NOT NULL)";
+    private static final String ENTITY_SQL = "SELECT record_id, user_id, \"timestamp\", status FROM focus_records_plain " +
+            "WHERE user_id = ? AND \"timestamp\" > ?";
+    private static final String PROJECTION_SQL = "SELECT \"timestamp\", status FROM focus_records_indexed " +
+            "WHERE user_id = ? AND \"timestamp\" >= ? ORDER BY \"timestamp\"";
+    private static final int SAMPLE_INTERVAL_SECONDS = 120;
+
+    @Param({"2000000"})
+    public int totalRows;
+
+    @Param({"100"})
+    public int users;
+
+    private Connection connection;
+    private Timestamp oneMonthAgo;
+    private long targetUserId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:focus_bench;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format(CREATE_SQL, "focus_records_plain"));
+            statement.execute(String.format(CREATE_SQL, "focus_records_indexed"));
+            statement.execute("CREATE INDEX idx_focus_records_user_timestamp_status " +
+                    "ON focus_records_indexed (user_id, \"timestamp\", status)");
+        }
+
+        int rowsPerUser = totalRows / users;
+        Instant end = Instant.parse("2025-08-20T00:00:00Z");
+        Instant start = end.minusSeconds((long) rowsPerUser * SAMPLE_INTERVAL_SECONDS);
+        oneMonthAgo = Timestamp.from(end.atOffset(ZoneOffset.UTC).minusMonths(1).toInstant());
+        targetUserId = users / 2;
+
+        seed("focus_records_plain", rowsPerUser, start);
+        seed("focus_records_indexed", rowsPerUser, start);
+    }
+
+    private void seed(String table, int rowsPerUser, Instant start) throws SQLException {
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO " + table + " (user_id, \"timestamp\", status) VALUES (?, ?, ?)")) {
+            // 실제처럼 여러 사용자의 샘플이 시간순으로 섞여 저장되도록 시각 → 사용자 순서로 삽입
+            for (int i = 0; i < rowsPerUser; i++) {
+                Timestamp timestamp = Timestamp.from(start.plusSeconds((long) i * SAMPLE_INTERVAL_SECONDS));
+                for (long userId = 0; userId < users; userId++) {
+                    ps.setLong(1, userId);
+                    ps.setTimestamp(2, timestamp);
+                    ps.setInt(3, random.nextInt(101));
+                    ps.addBatch();
+                }
+                if (i % 100 == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    // 변경 전: findByUserIdAndTimestampAfter 와 같은 조건으로 엔티티 목록을 만든 뒤 계산
+    @Benchmark
+    public long entityListBaseline() throws SQLException {
+        List<FocusRecord> records = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(ENTITY_SQL)) {
+            ps.setLong(1, targetUserId);
+            ps.setTimestamp(2, oneMonthAgo);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    records.add(FocusRecord.builder()
+                            .recordId(rs.getLong(1))
+                            .userId(rs.getLong(2))
+                            .timestamp(rs.getTimestamp(3).toInstant())
+                            .status(rs.getInt(4))
+                            .build());
+                }
+            }
+        }
+
+        long sum = 0;
+        for (FocusRecord record : records) {
+            sum += record.getStatus();
+        }
+        return sum;
+    }
+
+    // 변경 후: streamSamples 와 같은 조건으로 필요한 컬럼만 읽으며 바로 누적
+    @Benchmark
+    public long indexedProjection() throws SQLException {
+        long sum = 0;
+        try (PreparedStatement ps = connection.prepareStatement(PROJECTION_SQL)) {
+            ps.setFetchSize(1000);
+            ps.setLong(1, targetUserId);
+            ps.setTimestamp(2, oneMonthAgo);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    sum += rs.getInt(2);
+                }
+            }
+        }
+        return sum;
+    }
+}
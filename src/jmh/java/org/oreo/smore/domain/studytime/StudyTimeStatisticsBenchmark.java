@@ -0,0 +1,126 @@
+package org.oreo.smore.domain.studytime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.oreo.smore.domain.studytime.dto.response.StudyTimeStatisticsResponse;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+// 공부 통계 계산 비교: 기존 HashMap/Stream 방식 vs epoch day 배열 방식
+// 입력은 1년치 study_time_daily 행 (같은 조회 결과에서 시작)
+// ./gradlew jmh -Pjmh.includes=StudyTimeStatisticsBenchmark  (-prof gc 로 할당량 함께 측정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(java.util.concurrent.TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudyTimeStatisticsBenchmark {
+
+    private static final Long USER_ID = 1L;
+
+    private LocalDate today;
+    private LocalDate from;
+    private List<StudyTimeDaily> rows;
+
+    @Setup
+    public void setUp() {
+        today = LocalDate.of(2025, 8, 20);
+        from = today.minusYears(1).minusDays(1);
+
+        Random random = new Random(42);
+        rows = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(today); date = date.plusDays(1)) {
+            if (random.nextInt(10) < 7) {
+                rows.add(StudyTimeDaily.builder()
+                        .userId(USER_ID)
+                        .studyDate(date)
+                        .seconds((long) random.nextInt(6 * 3600))
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public StudyTimeStatisticsResponse primitiveArray() {
+        long firstEpochDay = from.toEpochDay();
+        long[] secondsByDay = new long[(int) (today.toEpochDay() - firstEpochDay) + 1];
+        for (StudyTimeDaily row : rows) {
+            secondsByDay[(int) (row.getStudyDate().toEpochDay() - firstEpochDay)] += row.getSeconds();
+        }
+        return StudyTimeStatisticsCalculator.calculate(USER_ID, today, from, secondsByDay);
+    }
+
+    // 변경 전 getStatistics 계산 로직
+    @Benchmark
+    public StudyTimeStatisticsResponse hashMapBaseline() {
+        Map<LocalDate, Long> dailySeconds = new HashMap<>();
+        for (StudyTimeDaily row : rows) {
+            dailySeconds.merge(row.getStudyDate(), row.getSeconds(), Long::sum);
+        }
+
+        Map<LocalDate, Integer> dailyMinutes = new HashMap<>();
+        dailySeconds.forEach((d, sec) -> dailyMinutes.put(d, (int) Math.floorDiv(sec, 60)));
+
+        int attendanceStreak = 0;
+        for (int i = 1; ; i++) {
+            LocalDate date = today.minusDays(i);
+            if (dailyMinutes.getOrDefault(date, 0) >= 60) attendanceStreak++;
+            else break;
+        }
+        if (dailyMinutes.getOrDefault(today, 0) >= 60) attendanceStreak++;
+
+        int[] weekdayGraph = new int[7];
+        LocalDate monday = today.with(DayOfWeek.MONDAY);
+        for (int i = 0; i < 7; i++) {
+            LocalDate date = monday.plusDays(i);
+            int dow = date.getDayOfWeek().getValue() % 7;
+            weekdayGraph[dow] = dailyMinutes.getOrDefault(date, 0) / 60;
+        }
+
+        List<Integer> weeklyGraph = new ArrayList<>();
+        for (int i = 4; i >= 0; i--) {
+            LocalDate start = monday.minusWeeks(i);
+            LocalDate end = start.plusDays(6);
+            int sumMinutes = 0;
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                sumMinutes += dailyMinutes.getOrDefault(date, 0);
+            }
+            weeklyGraph.add(sumMinutes / 60);
+        }
+
+        LocalDate oneYearAgo = today.minusYears(1);
+        List<StudyTimeStatisticsResponse.Point> points =
+                Stream.iterate(oneYearAgo, date -> date.plusDays(1))
+                        .limit(ChronoUnit.DAYS.between(oneYearAgo, today) + 1)
+                        .map(date -> new StudyTimeStatisticsResponse.Point(
+                                date.toString(),
+                                dailyMinutes.getOrDefault(date, 0)))
+                        .toList();
+
+        return StudyTimeStatisticsResponse.builder()
+                .userId(USER_ID)
+                .totalAttendance(attendanceStreak)
+                .weekdayGraph(Arrays.stream(weekdayGraph).boxed().toList())
+                .weeklyGraph(weeklyGraph)
+                .studyTrack(new StudyTimeStatisticsResponse.StudyTrack(points))
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package org.oreo.smore.domain.video.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.oreo.smore.domain.video.dto.TokenRequest;
+import org.oreo.smore.domain.video.dto.TokenResponse;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+// LiveKit 토큰 발급 비교: 매번 HMAC 서명 vs 캐시 적중
+// 같은 사용자가 토큰 수명 안에 /join, /rejoin을 반복하는 재접속 상황
+// ./gradlew jmh -Pjmh.includes=LiveKitTokenBenchmark  (-prof gc 로 할당량 함께 측정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LiveKitTokenBenchmark {
+
+    private static final String API_KEY = "bench-api-key";
+    private static final String API_SECRET = "bench-api-secret-bench-api-secret";
+
+    private LiveKitTokenService signing;
+    private LiveKitTokenService cached;
+    private TokenRequest request;
+
+    @Setup
+    public void setUp() {
+        // 최대 크기 0 → 캐시에 담지 않으므로 매번 서명
+        signing = new LiveKitTokenService(API_KEY, API_SECRET, new LiveKitTokenCache(Clock.systemUTC(), 0.5, 0));
+        cached = new LiveKitTokenService(API_KEY, API_SECRET, new LiveKitTokenCache(Clock.systemUTC(), 0.5, 1000));
+
+        request = TokenRequest.builder()
+                .roomName("study-room-3f2a9c1e")
+                .identity("12345")
+                .name("오레오")
+                .canPublish(true)
+                .canSubscribe(true)
+                .tokenExpirySeconds(3600)
+                .build();
+        cached.generateToken(request);
+    }
+
+    @Benchmark
+    public TokenResponse signEveryTime() {
+        return signing.generateToken(request);
+    }
+
+    @Benchmark
+    public TokenResponse cacheHit() {
+        return cached.generateToken(request);
+    }
+}
@@ -4,7 +4,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
-import org.oreo.smore.domain.user.User;
+import org.oreo.smore.global.websocket.ChatPrincipal;
+import org.oreo.smore.global.websocket.ChatPrincipalRegistry;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
@@ -13,7 +14,6 @@ import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
-import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -23,6 +23,8 @@ public class ChatController {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatService chatService;
+    private final ChatPrincipalRegistry chatPrincipalRegistry;
+    private final ChatPresenceAggregator chatPresenceAggregator;
     // 채팅 메시지 전송
     @MessageMapping("/chat/send")
     public void sendMessage(@Valid @Payload ChatMessageDTO.Request request,
@@ -30,16 +32,15 @@ public class ChatController {
         try {
             log.info("💬 채팅 메시지 수신 - 룸ID: {}, 내용: {}", request.getRoomId(), request.getContent());
 
-            // 세션에서 사용자 정보 추출
-            User user = (User) headerAccessor.getSessionAttributes().get("user");
+            // 세션에서 사용자 정보 추출 (핸드셰이크 시 만든 스냅샷)
+            ChatPrincipal user = chatPrincipalRegistry.resolve(headerAccessor.getSessionAttributes());
             if (user == null) {
                 log.error("❌ 사용자 정보를 찾을 수 없습니다 - 세션: {}", headerAccessor.getSessionId());
                 return;
             }
 
-            // 메시지 타입 설정 (기본값: CHAT)
-            ChatMessageDTO.Response savedMessage = chatService.saveMessage(request, user);
-            log.info("메시지 DB 저장 완료 - 메시지 ID: {}", savedMessage.getMessageId());
+            // 메시지 발행 (DB 저장은 지연 저장 큐에서 배치 처리)
+            ChatMessageDTO.Response savedMessage = chatService.publishMessage(request, user);
 
             // 브로드캐스트용 메시지 생성
             ChatMessageDTO.Broadcast broadcastMessage = ChatMessageDTO.Broadcast.builder()
@@ -51,7 +52,7 @@ public class ChatController {
                     .messageType(savedMessage.getMessageType())
                     .timestamp(savedMessage.getCreatedAt())
                     .broadcastType("NEW_MESSAGE")
-                    .metadata(createMessageMetadata(savedMessage))
+                    .metadata(ChatMessageDTO.Broadcast.messageMetadata(savedMessage))
                     .build();
 
             // 모든 클라이언트에게 브로드캐스트
@@ -59,7 +60,7 @@ public class ChatController {
             messagingTemplate.convertAndSend(destination, broadcastMessage);
 
             log.info("✅ 메시지 브로드캐스트 완료 - 사용자: {}, 룸ID: {}",
-                    user.getNickname(), request.getRoomId());
+                    user.nickname(), request.getRoomId());
 
         } catch (Exception e) {
             log.error("❌ 채팅 메시지 처리 중 오류 발생", e);
@@ -80,99 +81,36 @@ public class ChatController {
         }
     }
 
-    // 사용자 입장 알림
+    // 사용자 입장 알림 (짧은 구간의 입장/퇴장을 모아 한 번에 저장/브로드캐스트)
     @MessageMapping("/chat/join")
     public void joinRoom(@Payload ChatMessageDTO.Request request,
                          SimpMessageHeaderAccessor headerAccessor) {
-        try {
-            User user = (User) headerAccessor.getSessionAttributes().get("user");
-            if (user == null) {
-                log.error("❌ 사용자 정보를 찾을 수 없습니다");
-                return;
-            }
-
-            log.info("🚪 사용자 입장 - 사용자: {}, 룸ID: {}", user.getNickname(), request.getRoomId());
-
-            // 입장 알림 메시지
-            ChatMessageDTO.Request joinRequest = ChatMessageDTO.Request.builder()
-                    .roomId(request.getRoomId())
-                    .content(user.getNickname() + "님이 입장하셨습니다.")
-                    .messageType(MessageType.USER_JOIN)
-                    .build();
-
-            ChatMessageDTO.Response savedJoinMessage = chatService.saveMessage(joinRequest, user);
-
-            // 입장 알림 브로드캐스트
-            ChatMessageDTO.Broadcast joinMessage = ChatMessageDTO.Broadcast.builder()
-                    .messageId(savedJoinMessage.getMessageId())
-                    .roomId(savedJoinMessage.getRoomId())
-                    .userId(savedJoinMessage.getUserId())
-                    .nickname(user.getNickname())
-                    .content(savedJoinMessage.getContent())
-                    .messageType(MessageType.USER_JOIN)
-                    .timestamp(savedJoinMessage.getCreatedAt())
-                    .broadcastType("USER_JOIN")
-                    .build();
-
-            String destination = "/topic/study-rooms/" + savedJoinMessage.getRoomId() + "/chat";
-            messagingTemplate.convertAndSend(destination, joinMessage);
-
-            log.info("✅ 입장 알림 브로드캐스트 완료 - 사용자: {}", user.getNickname());
-
-        } catch (Exception e) {
-            log.error("❌ 사용자 입장 처리 중 오류 발생", e);
-        }
+        submitPresence(request, headerAccessor, MessageType.USER_JOIN);
     }
 
     // 사용자 퇴장 알림
     @MessageMapping("/chat/leave")
     public void leaveRoom(@Payload ChatMessageDTO.Request request,
                           SimpMessageHeaderAccessor headerAccessor) {
+        submitPresence(request, headerAccessor, MessageType.USER_LEAVE);
+    }
+
+    private void submitPresence(ChatMessageDTO.Request request, SimpMessageHeaderAccessor headerAccessor,
+                                MessageType messageType) {
         try {
-            User user = (User) headerAccessor.getSessionAttributes().get("user");
+            ChatPrincipal user = chatPrincipalRegistry.resolve(headerAccessor.getSessionAttributes());
             if (user == null) {
                 log.error("❌ 사용자 정보를 찾을 수 없습니다");
                 return;
             }
 
-            log.info("🚪 사용자 퇴장 - 사용자: {}, 룸ID: {}", user.getNickname(), request.getRoomId());
-
-            // ✅ 시스템 메시지로 퇴장 알림 저장
-            ChatMessageDTO.Request leaveRequest = ChatMessageDTO.Request.builder()
-                    .roomId(request.getRoomId())
-                    .content(user.getNickname() + "님이 퇴장하셨습니다.")
-                    .messageType(MessageType.USER_LEAVE)
-                    .build();
-
-            ChatMessageDTO.Response savedLeaveMessage = chatService.saveMessage(leaveRequest, user);
-
-            // 퇴장 알림 브로드캐스트
-            ChatMessageDTO.Broadcast leaveMessage = ChatMessageDTO.Broadcast.builder()
-                    .messageId(savedLeaveMessage.getMessageId())
-                    .roomId(savedLeaveMessage.getRoomId())
-                    .userId(savedLeaveMessage.getUserId())
-                    .nickname(user.getNickname())
-                    .content(savedLeaveMessage.getContent())
-                    .messageType(MessageType.USER_LEAVE)
-                    .timestamp(savedLeaveMessage.getCreatedAt())
-                    .broadcastType("USER_LEAVE")
-                    .build();
+            log.info("🚪 사용자 {} - 사용자: {}, 룸ID: {}",
+                    messageType == MessageType.USER_JOIN ? "입장" : "퇴장", user.nickname(), request.getRoomId());
 
-            String destination = "/topic/study-rooms/" + savedLeaveMessage.getRoomId() + "/chat";
-            messagingTemplate.convertAndSend(destination, leaveMessage);
-
-            log.info("✅ 퇴장 알림 브로드캐스트 완료 - 사용자: {}", user.getNickname());
+            chatPresenceAggregator.submit(request.getRoomId(), user, messageType);
 
         } catch (Exception e) {
-            log.error("❌ 사용자 퇴장 처리 중 오류 발생", e);
+            log.error("❌ 사용자 입장/퇴장 처리 중 오류 발생", e);
         }
     }
-
-    private Object createMessageMetadata(ChatMessageDTO.Response savedMessage) {
-        return Map.of(
-                "messageId", savedMessage.getMessageId(),
-                "user", savedMessage.getUser(),
-                "savedAt", savedMessage.getCreatedAt()
-        );
-    }
 }
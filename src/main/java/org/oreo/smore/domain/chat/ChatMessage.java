@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.oreo.smore.domain.user.User;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -33,10 +34,10 @@ import java.time.LocalDateTime;
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class ChatMessage {
+public class ChatMessage implements Persistable<Long> {
 
+    // 애플리케이션에서 생성하는 시간순 ID (TsidGenerator)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(name = "room_id", nullable = false)
@@ -63,14 +64,31 @@ public class ChatMessage {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // ID를 직접 할당하므로 save 시 merge(SELECT) 대신 persist 하도록 신규 여부 추적
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     @Builder
-    public ChatMessage(Long roomId, User user, String content, MessageType messageType) {
+    public ChatMessage(Long id, Long roomId, User user, String content, MessageType messageType) {
+        this.id = id;
         this.roomId = roomId;
         this.user = user;
         this.content = content;
         this.messageType = messageType;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     public void softDelete() {
         this.deletedAt = LocalDateTime.now();
     }
@@ -79,8 +97,9 @@ public class ChatMessage {
         return this.deletedAt != null;
     }
 
-    public static ChatMessage createSystemMessage(Long roomId, String content, MessageType messageType) {
+    public static ChatMessage createSystemMessage(Long id, Long roomId, String content, MessageType messageType) {
         return ChatMessage.builder()
+                .id(id)
                 .roomId(roomId)
                 .user(null) // 시스템 메시지는 user null
                 .content(content)
@@ -0,0 +1,221 @@
+package org.oreo.smore.domain.chat;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 채팅 메시지 지연 저장 큐 - 브로드캐스트와 DB 저장을 분리하고 JDBC 배치로 일괄 INSERT
+// 저장 전 삭제된 메시지는 저장하지 않고, 끝내 저장하지 못한 메시지는 실패 리스너에 알림
+@Slf4j
+@Component
+public class ChatMessageWriteBehindQueue {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_messages (id, room_id, user_id, content, message_type, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SOFT_DELETE_SQL =
+            "UPDATE chat_messages SET deleted_at = ? WHERE id = ? AND deleted_at IS NULL";
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final Thread flusher;
+    // 아직 저장되지 않은 메시지 (취소되면 제거)
+    private final ConcurrentHashMap<Long, PendingMessage> pending = new ConcurrentHashMap<>();
+    private final List<Consumer<PendingMessage>> failureListeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running = true;
+
+    public ChatMessageWriteBehindQueue(JdbcTemplate jdbcTemplate,
+                                       @Value("${chat.write-behind.capacity:10000}") int capacity,
+                                       @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                       @Value("${chat.write-behind.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.flusher = new Thread(this::flushLoop, "chat-write-behind-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher.start();
+        log.info("✅ 채팅 지연 저장 큐 시작 - 배치 크기: {}", batchSize);
+    }
+
+    // 최종 저장 실패 리스너 등록
+    public void addFailureListener(Consumer<PendingMessage> listener) {
+        failureListeners.add(listener);
+    }
+
+    // 저장 대기열에 추가 - 큐가 가득 차면 호출 스레드가 직접 저장 (백프레셔)
+    public void enqueue(PendingMessage message) {
+        pending.put(message.id(), message);
+        boolean accepted = false;
+        if (running) {
+            try {
+                accepted = queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (!accepted) {
+            log.warn("⚠️ 채팅 저장 큐 포화 - 직접 저장 (대기: {}건)", queue.size());
+            flush(List.of(message));
+        }
+    }
+
+    // 아직 저장되지 않은 메시지 삭제 - 방/작성자가 일치하면 저장하지 않음 (저장 중이면 저장 직후 삭제 처리)
+    // 이미 저장된 메시지면 false
+    public boolean cancel(Long messageId, Long roomId, Long userId) {
+        boolean[] cancelled = {false};
+        pending.computeIfPresent(messageId, (id, message) -> {
+            if (message.roomId().equals(roomId) && userId != null && userId.equals(message.userId())) {
+                cancelled[0] = true;
+                return null;
+            }
+            return message;
+        });
+        return cancelled[0];
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            flusher.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 남은 메시지 모두 저장 후 종료
+        List<PendingMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("✅ 채팅 지연 저장 큐 종료 - 종료 시 저장: {}건", remaining.size());
+    }
+
+    private void flushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingMessage first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("❌ 채팅 지연 저장 처리 중 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        // 저장 전에 삭제된 메시지 제외
+        List<PendingMessage> live = batch.stream()
+                .filter(message -> pending.containsKey(message.id()))
+                .toList();
+        if (live.isEmpty()) {
+            return;
+        }
+
+        try {
+            insertBatch(live);
+            live.forEach(this::complete);
+        } catch (Exception e) {
+            // 배치 일부만 반영됐을 수 있으므로 한 건씩 재시도 (이미 저장된 건은 건너뜀)
+            log.warn("채팅 배치 저장 실패 - 개별 재시도 ({}건): {}", live.size(), e.getMessage());
+            for (PendingMessage message : live) {
+                try {
+                    insertBatch(List.of(message));
+                    complete(message);
+                } catch (DuplicateKeyException ignored) {
+                    // 이미 저장됨
+                    complete(message);
+                } catch (Exception retry) {
+                    log.error("❌ 채팅 메시지 저장 최종 실패 - 메시지 ID: {}, 룸ID: {}, 오류: {}",
+                            message.id(), message.roomId(), retry.getMessage());
+                    if (pending.remove(message.id()) != null) {
+                        notifyFailure(message);
+                    }
+                }
+            }
+        }
+    }
+
+    // 저장 완료 처리 - 저장 중에 취소된 메시지는 바로 삭제 처리
+    private void complete(PendingMessage message) {
+        if (pending.remove(message.id()) != null) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(SOFT_DELETE_SQL, Timestamp.valueOf(LocalDateTime.now()), message.id());
+        } catch (Exception e) {
+            log.error("❌ 저장 중 삭제된 채팅 메시지 삭제 처리 실패 - 메시지 ID: {}, 오류: {}", message.id(), e.getMessage());
+        }
+    }
+
+    private void notifyFailure(PendingMessage message) {
+        for (Consumer<PendingMessage> listener : failureListeners) {
+            try {
+                listener.accept(message);
+            } catch (Exception e) {
+                log.error("❌ 채팅 저장 실패 알림 오류 - 메시지 ID: {}, 오류: {}", message.id(), e.getMessage());
+            }
+        }
+    }
+
+    private void insertBatch(List<PendingMessage> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, message) -> {
+            ps.setLong(1, message.id());
+            ps.setLong(2, message.roomId());
+            if (message.userId() != null) {
+                ps.setLong(3, message.userId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, message.content());
+            ps.setString(5, message.messageType().name());
+            ps.setTimestamp(6, Timestamp.valueOf(message.createdAt()));
+        });
+        log.debug("채팅 배치 저장 완료 - {}건", batch.size());
+    }
+
+    public record PendingMessage(Long id, Long roomId, Long userId, String content,
+                                 MessageType messageType, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,178 @@
+package org.oreo.smore.domain.chat;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.oreo.smore.global.websocket.ChatPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 입장/퇴장 알림 집계기
+// 방별로 짧은 구간 동안 이벤트를 모아 사용자별 최종 상태만 남기고 (입장→퇴장, 퇴장→재입장은 상쇄)
+// 입장/퇴장 각각 한 번의 메시지로 저장/브로드캐스트 ("A, B님이 입장하셨습니다.")
+@Slf4j
+@Component
+public class ChatPresenceAggregator {
+
+    private static final int MAX_NAMES_IN_CONTENT = 3;
+
+    private final ChatService chatService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long windowMillis;
+
+    private final ConcurrentHashMap<Long, RoomWindow> windows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "chat-presence-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChatPresenceAggregator(ChatService chatService,
+                                  SimpMessagingTemplate messagingTemplate,
+                                  @Value("${chat.presence.window-ms:1000}") long windowMillis) {
+        this.chatService = chatService;
+        this.messagingTemplate = messagingTemplate;
+        this.windowMillis = windowMillis;
+    }
+
+    // 입장(USER_JOIN) / 퇴장(USER_LEAVE) 이벤트 등록 - 방의 첫 이벤트부터 windowMillis 뒤에 한 번에 발행
+    public void submit(Long roomId, ChatPrincipal principal, MessageType messageType) {
+        windows.compute(roomId, (id, window) -> {
+            RoomWindow target = window != null ? window : new RoomWindow();
+            target.record(principal, messageType);
+            if (window == null) {
+                flusher.schedule(() -> flush(id), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            return target;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdownNow();
+        flushAll();
+    }
+
+    void flushAll() {
+        for (Long roomId : List.copyOf(windows.keySet())) {
+            flush(roomId);
+        }
+    }
+
+    private void flush(Long roomId) {
+        RoomWindow window = windows.remove(roomId);
+        if (window == null) {
+            return;
+        }
+
+        List<ChatPrincipal> joined = new ArrayList<>();
+        List<ChatPrincipal> left = new ArrayList<>();
+        for (Presence presence : window.presences.values()) {
+            // 처음과 마지막 이벤트가 다르면 구간 전후 상태가 같으므로 알릴 필요 없음
+            if (presence.first != presence.last) {
+                continue;
+            }
+            (presence.last == MessageType.USER_JOIN ? joined : left).add(presence.principal);
+        }
+
+        try {
+            emit(roomId, MessageType.USER_JOIN, joined);
+            emit(roomId, MessageType.USER_LEAVE, left);
+        } catch (Exception e) {
+            log.error("❌ 입장/퇴장 알림 발행 실패 - 룸ID: {}, 오류: {}", roomId, e.getMessage(), e);
+        }
+
+        int received = window.events;
+        if (received > joined.size() + left.size()) {
+            log.debug("입장/퇴장 알림 병합 - 룸ID: {}, 이벤트 {}건 → 입장 {}명, 퇴장 {}명",
+                    roomId, received, joined.size(), left.size());
+        }
+    }
+
+    private void emit(Long roomId, MessageType messageType, List<ChatPrincipal> principals) {
+        if (principals.isEmpty()) {
+            return;
+        }
+
+        ChatPrincipal single = principals.size() == 1 ? principals.get(0) : null;
+        String content = content(principals, messageType);
+        ChatMessageDTO.Response saved = chatService.publishPresenceMessage(roomId, messageType, content, single);
+
+        List<Long> userIds = principals.stream().map(ChatPrincipal::userId).toList();
+        List<String> nicknames = principals.stream().map(ChatPrincipal::nickname).toList();
+
+        ChatMessageDTO.Broadcast broadcast = ChatMessageDTO.Broadcast.builder()
+                .messageId(saved.getMessageId())
+                .roomId(roomId)
+                .userId(single != null ? single.userId() : null)
+                .nickname(String.join(", ", nicknames))
+                .content(content)
+                .messageType(messageType)
+                .timestamp(saved.getCreatedAt())
+                .broadcastType(messageType.name())
+                .metadata(Map.of("userIds", userIds, "nicknames", nicknames))
+                .build();
+
+        String destination = "/topic/study-rooms/" + roomId + "/chat";
+        messagingTemplate.convertAndSend(destination, broadcast);
+
+        log.info("✅ {} 알림 브로드캐스트 완료 - 룸ID: {}, 사용자: {}", messageType, roomId, nicknames);
+    }
+
+    private static String content(List<ChatPrincipal> principals, MessageType messageType) {
+        StringBuilder names = new StringBuilder();
+        int shown = Math.min(principals.size(), MAX_NAMES_IN_CONTENT);
+        for (int i = 0; i < shown; i++) {
+            if (i > 0) {
+                names.append(", ");
+            }
+            names.append(principals.get(i).nickname());
+        }
+        if (principals.size() > shown) {
+            names.append("님 외 ").append(principals.size() - shown).append("명이 ");
+        } else {
+            names.append("님이 ");
+        }
+        String action = messageType == MessageType.USER_JOIN ? "입장하셨습니다." : "퇴장하셨습니다.";
+        return names + action;
+    }
+
+    // 방별 집계 구간 (windows.compute/remove 안에서만 접근)
+    private static final class RoomWindow {
+        private final Map<Long, Presence> presences = new LinkedHashMap<>();
+        private int events;
+
+        void record(ChatPrincipal principal, MessageType messageType) {
+            events++;
+            Presence presence = presences.get(principal.userId());
+            if (presence == null) {
+                presences.put(principal.userId(), new Presence(principal, messageType));
+                return;
+            }
+            presence.principal = principal;
+            presence.last = messageType;
+        }
+    }
+
+    private static final class Presence {
+        private ChatPrincipal principal;
+        private final MessageType first;
+        private MessageType last;
+
+        Presence(ChatPrincipal principal, MessageType messageType) {
+            this.principal = principal;
+            this.first = messageType;
+            this.last = messageType;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package org.oreo.smore.domain.chat;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+// 채팅방별 최근 메시지 버퍼 (최신 N개)
+// 전송 시 추가, 첫 조회 시 DB에서 채움, 유휴/삭제 시 제거
+// 버퍼 범위 안의 조회는 메모리에서 응답하고 더 오래된 기록만 DB로 조회
+@Slf4j
+@Component
+public class ChatRecentMessageBuffer {
+
+    // 키셋 정렬과 동일 (createdAt, id) 오름차순
+    private static final Comparator<ChatMessageDTO.Response> ORDER = Comparator
+            .comparing(ChatMessageDTO.Response::getCreatedAt)
+            .thenComparing(ChatMessageDTO.Response::getMessageId);
+
+    private final int capacity;
+    private final long idleMillis;
+    private final boolean enabled;
+
+    private final ConcurrentHashMap<Long, RoomBuffer> buffers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "chat-recent-buffer-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChatRecentMessageBuffer(@Value("${chat.recent-buffer.size:50}") int capacity,
+                                   @Value("${chat.recent-buffer.idle-minutes:10}") long idleMinutes,
+                                   @Value("${chat.broadcast.mode:local}") String broadcastMode) {
+        this.capacity = capacity;
+        this.idleMillis = TimeUnit.MINUTES.toMillis(idleMinutes);
+        // 다중 인스턴스 모드에서는 다른 인스턴스에서 보낸 메시지가 버퍼에 반영되지 않으므로 사용 안 함
+        this.enabled = !"redis".equalsIgnoreCase(broadcastMode);
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            sweeper.scheduleWithFixedDelay(this::evictIdle, 1, 1, TimeUnit.MINUTES);
+        }
+        log.info("✅ 채팅 최근 메시지 버퍼 - 사용: {}, 방별 크기: {}", enabled, capacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    // 새 메시지 추가 (트랜잭션 중이면 커밋 후 반영)
+    public void append(ChatMessageDTO.Response message) {
+        if (!enabled) {
+            return;
+        }
+        runAfterCommit(() -> buffers.computeIfAbsent(message.getRoomId(), id -> new RoomBuffer())
+                .add(message, capacity));
+    }
+
+    // 메시지 삭제 반영
+    public void remove(Long roomId, Long messageId) {
+        RoomBuffer buffer = buffers.get(roomId);
+        if (buffer != null) {
+            runAfterCommit(() -> buffer.remove(messageId));
+        }
+    }
+
+    // 채팅방 삭제 시 버퍼 제거
+    public void evict(Long roomId) {
+        runAfterCommit(() -> buffers.remove(roomId));
+    }
+
+    // 키셋 페이지 조회 - 버퍼로 응답할 수 없으면 empty (DB 조회 필요)
+    // loader: 최신 메시지 limit개를 최신순으로 반환
+    public Optional<Slice<ChatMessageDTO.Response>> findPage(Long roomId, Long lastMessageId,
+                                                             LocalDateTime lastCreatedAt, int size,
+                                                             IntFunction<List<ChatMessageDTO.Response>> loader) {
+        if (!canServe() || size <= 0 || (lastMessageId != null && lastCreatedAt == null)) {
+            return Optional.empty();
+        }
+
+        RoomBuffer buffer = loadedBuffer(roomId, loader);
+        synchronized (buffer) {
+            List<ChatMessageDTO.Response> page = new ArrayList<>(size + 1);
+            for (ChatMessageDTO.Response message : buffer.messages.descendingSet()) {
+                if (lastMessageId != null && !isBefore(message, lastCreatedAt, lastMessageId)) {
+                    continue;
+                }
+                page.add(message);
+                if (page.size() > size) {
+                    break;
+                }
+            }
+
+            boolean hasNext = page.size() > size;
+            if (!hasNext && !buffer.complete) {
+                return Optional.empty(); // 버퍼 밖의 과거 기록이 필요
+            }
+            List<ChatMessageDTO.Response> content = hasNext ? page.subList(0, size) : page;
+            return Optional.of(new SliceImpl<>(new ArrayList<>(content), PageRequest.of(0, size), hasNext));
+        }
+    }
+
+    // since 이후 메시지 (오래된 순) - 버퍼 범위를 벗어나면 empty
+    public Optional<List<ChatMessageDTO.Response>> findSince(Long roomId, LocalDateTime since,
+                                                             IntFunction<List<ChatMessageDTO.Response>> loader) {
+        if (!canServe()) {
+            return Optional.empty();
+        }
+
+        RoomBuffer buffer = loadedBuffer(roomId, loader);
+        synchronized (buffer) {
+            boolean covered = buffer.complete
+                    || (!buffer.messages.isEmpty() && buffer.messages.first().getCreatedAt().isBefore(since));
+            if (!covered) {
+                return Optional.empty();
+            }
+            return Optional.of(buffer.messages.stream()
+                    .filter(message -> !message.getCreatedAt().isBefore(since))
+                    .toList());
+        }
+    }
+
+    // 최신 메시지 1개 - 버퍼가 채워진 뒤에는 항상 메모리에서 응답 (canServe() 확인 후 호출)
+    public Optional<ChatMessageDTO.Response> findLatest(Long roomId,
+                                                        IntFunction<List<ChatMessageDTO.Response>> loader) {
+        RoomBuffer buffer = loadedBuffer(roomId, loader);
+        synchronized (buffer) {
+            return buffer.messages.isEmpty() ? Optional.empty() : Optional.of(buffer.messages.last());
+        }
+    }
+
+    // 쓰기 트랜잭션 안에서는 커밋 전 변경이 버퍼에 없고, 로딩하면 미커밋 데이터가 섞이므로 DB로 조회
+    public boolean canServe() {
+        return enabled && !(TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+    }
+
+    // 첫 조회 시 DB에서 최신 메시지로 채움 (동시에 들어온 조회는 한 번만 로딩)
+    private RoomBuffer loadedBuffer(Long roomId, IntFunction<List<ChatMessageDTO.Response>> loader) {
+        RoomBuffer buffer = buffers.computeIfAbsent(roomId, id -> new RoomBuffer());
+        synchronized (buffer) {
+            buffer.lastAccess = System.currentTimeMillis();
+            if (!buffer.loaded) {
+                List<ChatMessageDTO.Response> latest = loader.apply(capacity);
+                // 로딩 전에 전송된 메시지는 아직 DB에 없을 수도 있으므로 ID 기준으로 합침
+                Set<Long> bufferedIds = new HashSet<>();
+                buffer.messages.forEach(message -> bufferedIds.add(message.getMessageId()));
+                latest.stream()
+                        .filter(message -> !bufferedIds.contains(message.getMessageId()))
+                        .forEach(buffer.messages::add);
+                buffer.trim(capacity);
+                buffer.complete = latest.size() < capacity && buffer.messages.size() < capacity;
+                buffer.loaded = true;
+                log.debug("채팅 버퍼 로딩 - 룸ID: {}, {}건", roomId, buffer.messages.size());
+            }
+        }
+        return buffer;
+    }
+
+    private void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleMillis;
+        int before = buffers.size();
+        buffers.entrySet().removeIf(entry -> entry.getValue().lastAccess < threshold);
+        int evicted = before - buffers.size();
+        if (evicted > 0) {
+            log.debug("유휴 채팅 버퍼 제거 - {}개", evicted);
+        }
+    }
+
+    // 키셋 커서 (lastCreatedAt, lastMessageId) 보다 이전 메시지인지 (DB 쿼리 조건과 동일)
+    private static boolean isBefore(ChatMessageDTO.Response message, LocalDateTime lastCreatedAt, Long lastMessageId) {
+        int cmp = message.getCreatedAt().compareTo(lastCreatedAt);
+        return cmp < 0 || (cmp == 0 && message.getMessageId() < lastMessageId);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class RoomBuffer {
+        private final TreeSet<ChatMessageDTO.Response> messages = new TreeSet<>(ORDER);
+        private boolean loaded;
+        private boolean complete;   // 방의 전체 기록이 버퍼 안에 있음
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        synchronized void add(ChatMessageDTO.Response message, int capacity) {
+            messages.add(message);
+            trim(capacity);
+            lastAccess = System.currentTimeMillis();
+        }
+
+        synchronized void remove(Long messageId) {
+            messages.removeIf(message -> message.getMessageId().equals(messageId));
+        }
+
+        // 가장 오래된 메시지부터 버림 - 버린 이상 전체 기록은 아님
+        void trim(int capacity) {
+            while (messages.size() > capacity) {
+                messages.pollFirst();
+                complete = false;
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatRecentMessageBuffer chatRecentMessageBuffer;
 
     // StudyRoom 생성 시 ChatRoom 자동 생성
     @Transactional
@@ -67,6 +68,7 @@ public class ChatRoomService {
 
             // 1. 관련 채팅 메시지 소프트 삭제
             chatMessageRepository.softDeleteAllMessagesByRoomId(studyRoomId);
+            chatRecentMessageBuffer.evict(studyRoomId);
             log.info("✅ 채팅 메시지 소프트 삭제 완료 - StudyRoom ID: {}", studyRoomId);
 
             // 2. ChatRoom 비활성화
@@ -1,14 +1,17 @@
 package org.oreo.smore.domain.chat;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
 import org.oreo.smore.domain.user.User;
-import org.oreo.smore.domain.user.UserRepository;
+import org.oreo.smore.global.common.TsidGenerator;
+import org.oreo.smore.global.websocket.ChatPrincipal;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -22,41 +25,56 @@ import java.util.Optional;
 public class ChatService {
 
     private final ChatMessageRepository chatMessageRepository;
-    private final UserRepository userRepository;
+    private final TsidGenerator tsidGenerator;
+    private final ChatMessageWriteBehindQueue chatMessageWriteBehindQueue;
+    private final ChatRecentMessageBuffer chatRecentMessageBuffer;
+    private final StudyRoomNotificationService studyRoomNotificationService;
+
+    // 지연 저장에 끝내 실패한 메시지는 최근 메시지 버퍼에서 빼고 방에 알림 (보낸 메시지가 저장된 것처럼 남지 않도록)
+    @PostConstruct
+    void registerWriteFailureListener() {
+        chatMessageWriteBehindQueue.addFailureListener(message -> {
+            chatRecentMessageBuffer.remove(message.roomId(), message.id());
+            studyRoomNotificationService.notifyMessageNotSaved(message.roomId(), message.id());
+        });
+    }
+
+    // 채팅 메시지 발행 - ID/시간을 즉시 할당해 응답하고 DB 저장은 지연 저장 큐에 위임
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatMessageDTO.Response publishMessage(ChatMessageDTO.Request request, ChatPrincipal principal) {
+        MessageType messageType = request.getMessageType() != null ? request.getMessageType() : MessageType.CHAT;
+        return publish(request.getRoomId(), principal.userId(), request.getContent(), messageType, toUserInfo(principal));
+    }
 
+    // 입장/퇴장 알림 발행 - 여러 사용자를 합친 알림이면 principal은 null
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatMessageDTO.Response publishPresenceMessage(Long roomId, MessageType messageType,
+                                                          String content, ChatPrincipal principal) {
+        return publish(roomId, principal != null ? principal.userId() : null, content, messageType,
+                principal != null ? toUserInfo(principal) : null);
+    }
 
+    private ChatMessageDTO.Response publish(Long roomId, Long userId, String content,
+                                            MessageType messageType, ChatMessageDTO.UserInfo userInfo) {
+        long messageId = tsidGenerator.nextId();
+        LocalDateTime createdAt = LocalDateTime.now();
 
-    // 채팅 메시지 저장
-    @Transactional
-    public ChatMessageDTO.Response saveMessage(ChatMessageDTO.Request request, User user) {
-         try {
-             log.info("메시지 저장 시작 - 사용자: {}, 룸ID: {}, 내용: {}",
-                     user.getNickname(), request.getRoomId(), request.getContent());
-
-             // 사용자 존재 확인
-             User foundUser = userRepository.findById(user.getUserId())
-                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + user.getUserId()));
-
-             // ChatMessage 엔티티 생성
-             ChatMessage chatMessage = ChatMessage.builder()
-                     .roomId(request.getRoomId())
-                     .user(foundUser)
-                     .content(request.getContent())
-                     .messageType(request.getMessageType() != null ? request.getMessageType() : MessageType.CHAT)
-                     .build();
-
-             // 메시지 저장
-             ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
-             log.info("✅ 메시지 저장 완료 - 메시지 ID: {}", savedMessage.getId());
-
-             // 응답 DTO 생성
-             return createMessageResponse(savedMessage, foundUser);
-
-         } catch (Exception e) {
-             log.error("❌ 메시지 저장 중 오류 발생 - 사용자: {}, 룸ID: {}",
-                     user.getUserId(), request.getRoomId(), e);
-             throw new RuntimeException("메시지 저장에 실패했습니다", e);
-         }
+        chatMessageWriteBehindQueue.enqueue(new ChatMessageWriteBehindQueue.PendingMessage(
+                messageId, roomId, userId, content, messageType, createdAt));
+
+        log.debug("메시지 발행 - 메시지 ID: {}, 사용자: {}, 룸ID: {}", messageId, userId, roomId);
+
+        ChatMessageDTO.Response response = ChatMessageDTO.Response.builder()
+                .messageId(messageId)
+                .roomId(roomId)
+                .userId(userId)
+                .content(content)
+                .messageType(messageType)
+                .createdAt(createdAt)
+                .user(userInfo)
+                .build();
+        chatRecentMessageBuffer.append(response);
+        return response;
     }
 
     // 키셋 페이지네이션으로 채팅방 메시지 조회
@@ -65,6 +83,13 @@ public class ChatService {
         log.info("📖 채팅방 메시지 조회 - 룸ID: {}, 마지막 메시지 ID: {}, 크기: {}",
                 roomId, lastMessageId, size);
 
+        // 커서가 최근 메시지 버퍼 범위 안이면 메모리에서 응답
+        Optional<Slice<ChatMessageDTO.Response>> buffered = chatRecentMessageBuffer.findPage(
+                roomId, lastMessageId, lastCreatedAt, size, limit -> loadLatestMessages(roomId, limit));
+        if (buffered.isPresent()) {
+            return buffered.get();
+        }
+
         Pageable pageable = PageRequest.of(0, size);
         Slice<ChatMessage> messageSlice = chatMessageRepository.findMessagesByRoomIdWithKeyset(
                 roomId, lastMessageId, lastCreatedAt, pageable);
@@ -76,6 +101,12 @@ public class ChatService {
     public List<ChatMessageDTO.Response> getRecentMessages(Long roomId, LocalDateTime since) {
         log.info("📱 최근 메시지 조회 - 룸ID: {}, 기준 시간: {}", roomId, since);
 
+        Optional<List<ChatMessageDTO.Response>> buffered = chatRecentMessageBuffer.findSince(
+                roomId, since, limit -> loadLatestMessages(roomId, limit));
+        if (buffered.isPresent()) {
+            return buffered.get();
+        }
+
         List<ChatMessage> recentMessages = chatMessageRepository.findRecentMessages(roomId, since);
 
         return recentMessages.stream()
@@ -86,6 +117,10 @@ public class ChatService {
     public Optional<ChatMessageDTO.Response> getLatestMessage(Long roomId) {
         log.info("🔍 최신 메시지 조회 - 룸ID: {}", roomId);
 
+        if (chatRecentMessageBuffer.canServe()) {
+            return chatRecentMessageBuffer.findLatest(roomId, limit -> loadLatestMessages(roomId, limit));
+        }
+
         return chatMessageRepository.findLatestMessageByRoomId(roomId)
                 .map(this::convertToResponseDTO);
     }
@@ -94,11 +129,19 @@ public class ChatService {
     public void deleteMessage(Long messageId, Long roomId, Long userId) {
         log.info("🗑️ 메시지 삭제 - 메시지 ID: {}, 룸ID: {}, 사용자 ID: {}", messageId, roomId, userId);
 
+        // 아직 저장 대기 중인 메시지는 저장하지 않음
+        if (chatMessageWriteBehindQueue.cancel(messageId, roomId, userId)) {
+            chatRecentMessageBuffer.remove(roomId, messageId);
+            log.info("✅ 저장 전 메시지 삭제 완료 - 메시지 ID: {}", messageId);
+            return;
+        }
+
         int deletedCount = chatMessageRepository.softDeleteMessage(messageId, roomId, userId);
 
         if (deletedCount == 0) {
             throw new IllegalArgumentException("메시지 삭제에 실패했습니다. 권한이 없거나 메시지를 찾을 수 없습니다.");
         }
+        chatRecentMessageBuffer.remove(roomId, messageId);
 
         log.info("✅ 메시지 삭제 완료 - 메시지 ID: {}", messageId);
     }
@@ -113,6 +156,13 @@ public class ChatService {
         return chatMessageRepository.countUserMessagesAfter(userId, since);
     }
 
+    // 최근 메시지 버퍼 로딩용 - 최신 limit개 (최신순)
+    private List<ChatMessageDTO.Response> loadLatestMessages(Long roomId, int limit) {
+        return chatMessageRepository.findMessagesByRoomIdWithKeyset(roomId, null, null, PageRequest.of(0, limit))
+                .map(this::convertToResponseDTO)
+                .getContent();
+    }
+
     private ChatMessageDTO.Response convertToResponseDTO(ChatMessage message) {
         User user = message.getUser();
         ChatMessageDTO.UserInfo userInfo = null;
@@ -137,22 +187,12 @@ public class ChatService {
                 .build();
     }
 
-    private ChatMessageDTO.Response createMessageResponse(ChatMessage savedMessage, User user) {
-        ChatMessageDTO.UserInfo userInfo = ChatMessageDTO.UserInfo.builder()
-                .userId(user.getUserId())
-                .nickname(user.getNickname())
-                .email(user.getEmail())
-                .profileUrl(user.getProfileUrl())
-                .build();
-
-        return ChatMessageDTO.Response.builder()
-                .messageId(savedMessage.getId())
-                .roomId(savedMessage.getRoomId())
-                .userId(savedMessage.getUser().getUserId())
-                .content(savedMessage.getContent())
-                .messageType(savedMessage.getMessageType())
-                .createdAt(savedMessage.getCreatedAt())
-                .user(userInfo)
+    private ChatMessageDTO.UserInfo toUserInfo(ChatPrincipal principal) {
+        return ChatMessageDTO.UserInfo.builder()
+                .userId(principal.userId())
+                .nickname(principal.nickname())
+                .email(principal.email())
+                .profileUrl(principal.profileUrl())
                 .build();
     }
 }
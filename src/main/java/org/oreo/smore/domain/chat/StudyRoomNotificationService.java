@@ -39,4 +39,24 @@ public class StudyRoomNotificationService {
             log.error("❌ 방 삭제 알림 전송 실패 - 방ID: {}, 오류: {}", roomId, e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    // 저장에 끝내 실패한 채팅 메시지 알림 - 클라이언트는 해당 메시지를 목록에서 제거
+    public void notifyMessageNotSaved(Long roomId, Long messageId) {
+        try {
+            ChatMessageDTO.Broadcast failedMessage = ChatMessageDTO.Broadcast.builder()
+                    .messageId(messageId)
+                    .roomId(roomId)
+                    .content("메시지 저장에 실패했습니다.")
+                    .messageType(MessageType.SYSTEM)
+                    .timestamp(LocalDateTime.now())
+                    .broadcastType("MESSAGE_NOT_SAVED")
+                    .build();
+
+            messagingTemplate.convertAndSend("/topic/study-rooms/" + roomId + "/chat", failedMessage);
+            log.warn("⚠️ 메시지 저장 실패 알림 전송 - 방ID: {}, 메시지 ID: {}", roomId, messageId);
+
+        } catch (Exception e) {
+            log.error("❌ 메시지 저장 실패 알림 전송 실패 - 방ID: {}, 메시지 ID: {}, 오류: {}", roomId, messageId, e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.oreo.smore.domain.chat.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.nimbusds.openid.connect.sdk.claims.UserInfo;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -12,6 +14,7 @@ import lombok.NoArgsConstructor;
 import org.oreo.smore.domain.chat.MessageType;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public class ChatMessageDTO {
 
@@ -42,6 +45,8 @@ public class ChatMessageDTO {
     @Builder
     public static class Response {
 
+        // TSID(53bit 초과)는 JS 숫자로 정밀도가 손실되므로 문자열로 전송
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long messageId;
 
         @NotNull
@@ -80,6 +85,8 @@ public class ChatMessageDTO {
     @Builder
     public static class Broadcast {
 
+        // TSID(53bit 초과)는 JS 숫자로 정밀도가 손실되므로 문자열로 전송
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long messageId;
 
         private Long roomId;
@@ -96,6 +103,15 @@ public class ChatMessageDTO {
         private String broadcastType = "NEW_MESSAGE";
 
         private Object metadata;
+
+        // 새 메시지 브로드캐스트 메타데이터 (messageId도 본문과 같이 문자열로 전송)
+        public static Map<String, Object> messageMetadata(Response savedMessage) {
+            return Map.of(
+                    "messageId", String.valueOf(savedMessage.getMessageId()),
+                    "user", savedMessage.getUser(),
+                    "savedAt", savedMessage.getCreatedAt()
+            );
+        }
     }
 
     @Data
@@ -103,6 +119,7 @@ public class ChatMessageDTO {
     @AllArgsConstructor
     @Builder
     public static class PageCursor {
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long lastMessageId;
 
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
@@ -0,0 +1,182 @@
+package org.oreo.smore.domain.focusrecord;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// focus_hourly_stats 집계 관리 (사용자, UTC 일자, 시) → 집중도 합계/샘플 수/집중 구간
+// 샘플 수집 시 누적하고, 조회는 기간 내 시간대 행만 읽어 24칸으로 합산
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FocusAggregateService {
+
+    static final int FOCUS_THRESHOLD = 80;
+
+    private static final int STATUS_SUM = 0;
+    private static final int SAMPLE_COUNT = 1;
+    private static final int STREAK_COUNT = 2;
+    private static final int STREAK_SAMPLES = 3;
+
+    private final FocusHourlyStatRepository focusHourlyStatRepository;
+    private final FocusStreakStateRepository focusStreakStateRepository;
+    private final FocusRecordRepository focusRecordRepository;
+
+    // 새로 저장된 샘플을 집계에 반영
+    @Transactional
+    public void record(Long userId, List<FocusRecord> samples) {
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        FocusStreakState state = lockState(userId);
+        Map<Bucket, long[]> deltas = accumulate(samples, state);
+        focusStreakStateRepository.save(state);
+
+        deltas.forEach((bucket, delta) -> add(userId, bucket, delta));
+    }
+
+    // since 이후 시간대별 집계 (UTC 기준 24칸)
+    @Transactional(readOnly = true)
+    public HourlyProfile getProfile(Long userId, Instant since) {
+        LocalDateTime sinceHour = LocalDateTime.ofInstant(since, ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+
+        long[] statusSum = new long[24];
+        long[] sampleCount = new long[24];
+        long streakCount = 0;
+        long streakSamples = 0;
+        for (FocusHourlyStat row : focusHourlyStatRepository.findAllByUserIdAndStatDateGreaterThanEqual(
+                userId, sinceHour.toLocalDate())) {
+            if (row.getStatDate().atTime(row.getStatHour(), 0).isBefore(sinceHour)) {
+                continue;
+            }
+            statusSum[row.getStatHour()] += row.getStatusSum();
+            sampleCount[row.getStatHour()] += row.getSampleCount();
+            streakCount += row.getStreakCount();
+            streakSamples += row.getStreakSamples();
+        }
+
+        // 진행 중인 집중 구간도 하나의 구간으로 계산
+        FocusStreakState state = focusStreakStateRepository.findById(userId).orElse(null);
+        if (state != null && state.getOpenStreak() > 0
+                && state.getLastTimestamp() != null && state.getLastTimestamp().isAfter(since)) {
+            streakCount++;
+            streakSamples += state.getOpenStreak();
+        }
+
+        return new HourlyProfile(statusSum, sampleCount, streakCount, streakSamples);
+    }
+
+    // 한 사용자의 집계를 focus_records 원본으로 다시 계산 (백필용)
+    @Transactional
+    public int rebuild(Long userId) {
+        // 실시간 반영(record)과 같은 순서로 상태 행을 먼저 잠금
+        FocusStreakState state = lockState(userId);
+        state.setLastTimestamp(null);
+        state.setOpenStreak(0);
+        focusHourlyStatRepository.deleteAllByUserId(userId);
+
+        Map<Bucket, long[]> totals;
+        try (Stream<FocusSample> samples = focusRecordRepository.streamSamples(userId, Instant.EPOCH)) {
+            totals = accumulate(samples, state);
+        }
+        focusStreakStateRepository.save(state);
+
+        totals.forEach((bucket, total) -> add(userId, bucket, total));
+        return totals.size();
+    }
+
+    // 샘플을 시간순으로 시간대별 증분에 더하고 state의 집중 구간을 이어감
+    static Map<Bucket, long[]> accumulate(List<FocusRecord> samples, FocusStreakState state) {
+        return accumulate(samples.stream()
+                .map(record -> new FocusSample(record.getTimestamp(), record.getStatus()))
+                .sorted(Comparator.comparing(FocusSample::timestamp)), state);
+    }
+
+    // 시간순으로 정렬된 샘플 - 마지막 샘플보다 늦게 도착한 과거 샘플은 시간대별 합계에만 반영
+    static Map<Bucket, long[]> accumulate(Stream<FocusSample> sortedSamples, FocusStreakState state) {
+        Map<Bucket, long[]> deltas = new LinkedHashMap<>();
+        Instant lastTimestamp = state.getLastTimestamp();
+        int openStreak = state.getOpenStreak();
+
+        Iterator<FocusSample> iterator = sortedSamples.iterator();
+        while (iterator.hasNext()) {
+            FocusSample sample = iterator.next();
+            long[] delta = deltas.computeIfAbsent(Bucket.of(sample.timestamp()), bucket -> new long[4]);
+            delta[STATUS_SUM] += sample.status();
+            delta[SAMPLE_COUNT]++;
+
+            if (lastTimestamp != null && !sample.timestamp().isAfter(lastTimestamp)) {
+                continue;
+            }
+            lastTimestamp = sample.timestamp();
+
+            if (sample.status() >= FOCUS_THRESHOLD) {
+                openStreak++;
+            } else if (openStreak > 0) {
+                // 집중 구간은 끊긴 샘플의 시간대에 기록
+                delta[STREAK_COUNT]++;
+                delta[STREAK_SAMPLES] += openStreak;
+                openStreak = 0;
+            }
+        }
+
+        state.setLastTimestamp(lastTimestamp);
+        state.setOpenStreak(openStreak);
+        return deltas;
+    }
+
+    private void add(Long userId, Bucket bucket, long[] delta) {
+        focusHourlyStatRepository.add(userId, bucket.date(), bucket.hour(),
+                delta[STATUS_SUM], delta[SAMPLE_COUNT], delta[STREAK_COUNT], delta[STREAK_SAMPLES]);
+    }
+
+    // 상태 행을 보장한 뒤 잠금 (첫 샘플이 동시에 들어와도 한 요청만 진행)
+    private FocusStreakState lockState(Long userId) {
+        focusStreakStateRepository.insertIfAbsent(userId);
+        return focusStreakStateRepository.findForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("집중 구간 상태를 찾을 수 없습니다: " + userId));
+    }
+
+    // UTC 일자 + 시
+    record Bucket(LocalDate date, int hour) {
+
+        static Bucket of(Instant timestamp) {
+            LocalDateTime utc = LocalDateTime.ofInstant(timestamp, ZoneOffset.UTC);
+            return new Bucket(utc.toLocalDate(), utc.getHour());
+        }
+    }
+
+    // statusSum[h], sampleCount[h] = h시(UTC 또는 rotate 후 클라이언트 시간대) 합계
+    public record HourlyProfile(long[] statusSum, long[] sampleCount, long streakCount, long streakSamples) {
+
+        // 24칸을 클라이언트 오프셋만큼 회전 (30분 단위 오프셋은 시 단위로 내림)
+        public HourlyProfile rotate(ZoneOffset offset) {
+            int shift = Math.floorMod(Math.floorDiv(offset.getTotalSeconds(), 3600), 24);
+            long[] rotatedSum = new long[24];
+            long[] rotatedCount = new long[24];
+            for (int hour = 0; hour < 24; hour++) {
+                rotatedSum[(hour + shift) % 24] = statusSum[hour];
+                rotatedCount[(hour + shift) % 24] = sampleCount[hour];
+            }
+            return new HourlyProfile(rotatedSum, rotatedCount, streakCount, streakSamples);
+        }
+
+        public double average(int hour) {
+            return sampleCount[hour] == 0 ? 0.0 : (double) statusSum[hour] / sampleCount[hour];
+        }
+    }
+}
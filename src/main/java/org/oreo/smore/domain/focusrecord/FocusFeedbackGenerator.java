@@ -0,0 +1,159 @@
+package org.oreo.smore.domain.focusrecord;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordsResponse.FocusTimeDto;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordsResponse.FocusTrackDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// AI 한 줄 피드백 비동기 생성기
+// 조회는 항상 사용자별로 캐시된 마지막 피드백을 즉시 반환하고,
+// 반올림한 입력의 해시가 바뀌었을 때만 백그라운드에서 GMS 호출 (동시 호출 수 제한 + 서킷 브레이커)
+// 캐시는 최근 조회 순으로 최대 cacheMaxSize명만 유지
+@Slf4j
+@Component
+public class FocusFeedbackGenerator {
+
+    // 점수는 5점, 유지 시간은 5분 단위로 반올림해 작은 변화로는 다시 생성하지 않음
+    private static final int SCORE_STEP = 5;
+    private static final int DURATION_STEP = 5;
+
+    private final FocusFeedbackService focusFeedbackService;
+    private final ThreadPoolExecutor executor;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final Map<Long, CachedFeedback> cache;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openUntil;
+
+    public FocusFeedbackGenerator(FocusFeedbackService focusFeedbackService,
+                                  @Value("${focus.feedback.max-concurrency:2}") int maxConcurrency,
+                                  @Value("${focus.feedback.queue-capacity:100}") int queueCapacity,
+                                  @Value("${focus.feedback.failure-threshold:5}") int failureThreshold,
+                                  @Value("${focus.feedback.open-seconds:60}") long openSeconds,
+                                  @Value("${focus.feedback.cache-max-size:10000}") int cacheMaxSize) {
+        this.focusFeedbackService = focusFeedbackService;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedFeedback> eldest) {
+                return size() > cacheMaxSize;
+            }
+        };
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openSeconds * 1000;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "focus-feedback-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // 캐시된 피드백 (없으면 기본 문구) - 입력이 달라졌으면 백그라운드 생성 요청
+    public String getFeedback(Long userId, FocusTimeDto best, FocusTimeDto worst,
+                              int avgDuration, FocusTrackDto track) {
+        int inputHash = inputHash(best, worst, avgDuration, track);
+        CachedFeedback cached;
+        synchronized (cache) {
+            cached = cache.get(userId);
+        }
+        if (cached == null || cached.inputHash() != inputHash) {
+            requestAsync(userId, inputHash, best, worst, avgDuration, track);
+        }
+        return cached != null ? cached.feedback() : FocusFeedbackService.DEFAULT_FEEDBACKS.get(0);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    int cacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    boolean isCircuitOpen() {
+        return System.currentTimeMillis() < openUntil;
+    }
+
+    private void requestAsync(Long userId, int inputHash, FocusTimeDto best, FocusTimeDto worst,
+                              int avgDuration, FocusTrackDto track) {
+        if (isCircuitOpen() || !inFlight.add(userId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(userId, inputHash, best, worst, avgDuration, track);
+                } finally {
+                    inFlight.remove(userId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차면 이번 요청은 건너뛰고 다음 조회 때 다시 시도
+            inFlight.remove(userId);
+            log.warn("⚠️ AI 피드백 생성 대기열 포화 - 사용자ID: {}", userId);
+        }
+    }
+
+    private void generate(Long userId, int inputHash, FocusTimeDto best, FocusTimeDto worst,
+                          int avgDuration, FocusTrackDto track) {
+        if (isCircuitOpen()) {
+            return;
+        }
+
+        try {
+            String feedback = focusFeedbackService.requestOneLineFeedback(best, worst, avgDuration, track);
+            synchronized (cache) {
+                cache.put(userId, new CachedFeedback(inputHash, feedback));
+            }
+            consecutiveFailures.set(0);
+            log.info("✅ AI 피드백 생성 완료 - 사용자ID: {}", userId);
+        } catch (Exception e) {
+            // 이전 피드백은 그대로 두고 실패만 기록
+            log.error("❌ AI 피드백 생성 실패 - 사용자ID: {}, 오류: {}", userId, e.getMessage());
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                consecutiveFailures.set(0);
+                openUntil = System.currentTimeMillis() + openMillis;
+                log.warn("⚠️ AI 피드백 연속 실패 {}회 - {}초 동안 GMS 호출 중단", failureThreshold, openMillis / 1000);
+            }
+        }
+    }
+
+    private static int inputHash(FocusTimeDto best, FocusTimeDto worst, int avgDuration, FocusTrackDto track) {
+        int hash = 1;
+        hash = 31 * hash + best.getStart().hashCode();
+        hash = 31 * hash + round(best.getAvgFocusScore(), SCORE_STEP);
+        hash = 31 * hash + worst.getStart().hashCode();
+        hash = 31 * hash + round(worst.getAvgFocusScore(), SCORE_STEP);
+        hash = 31 * hash + round(avgDuration, DURATION_STEP);
+        for (Integer score : track.getScores()) {
+            hash = 31 * hash + round(score, SCORE_STEP);
+        }
+        return hash;
+    }
+
+    private static int round(int value, int step) {
+        return Math.round((float) value / step);
+    }
+
+    private record CachedFeedback(int inputHash, String feedback) {
+    }
+}
@@ -61,6 +61,23 @@ public class FocusFeedbackService {
             FocusRecordsResponse.FocusTimeDto worst,
             int avgDurationSeconds,
             FocusRecordsResponse.FocusTrackDto track) {
+        try {
+            return requestOneLineFeedback(best, worst, avgDurationSeconds, track);
+        } catch (WebClientResponseException e) {
+            log.error("GMS 호출 실패: {} / {}", e.getRawStatusCode(), e.getResponseBodyAsString());
+            return getRandomDefaultFeedback();
+        } catch (Exception e) { // GMS 키 만료돼서 다 기본 피드백으로 바꿈
+            log.error("GMS 호출 중 예외 발생: {}", e.getMessage());
+            return getRandomDefaultFeedback();
+        }
+    }
+
+    // GMS 호출 - 실패 시 기본 피드백 대신 예외를 그대로 던짐 (비동기 생성기의 실패 판정용)
+    public String requestOneLineFeedback(
+            FocusRecordsResponse.FocusTimeDto best,
+            FocusRecordsResponse.FocusTimeDto worst,
+            int avgDurationSeconds,
+            FocusRecordsResponse.FocusTrackDto track) {
 
         String systemPrompt = """
                 당신은 심리학 기반의 생산성 코칭 전문가입니다.
@@ -106,39 +123,34 @@ public class FocusFeedbackService {
                 "temperature", 0.3
         );
 
-        JsonNode resp;
-        try {
-            resp = client.post()
-                    // proxy 경유 경로를 포함
-                    .uri("/api.openai.com/v1/chat/completions")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + props.getKey())
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .bodyValue(body)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, cr ->
-                            cr.bodyToMono(String.class)
-                                    .flatMap(err -> {
-                                        log.error("GMS 피드백 에러 {}: {}", cr.statusCode(), err);
-                                        return Mono.error(new RuntimeException(err));
-                                    })
-                    )
-                    .bodyToMono(JsonNode.class)
-                    .timeout(Duration.ofSeconds(5))
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("GMS 호출 실패: {} / {}", e.getRawStatusCode(), e.getResponseBodyAsString());
-            return getRandomDefaultFeedback();
-        } catch (Exception e) { // GMS 키 만료돼서 다 기본 피드백으로 바꿈
-            log.error("GMS 호출 중 예외 발생: {}", e.getMessage());
-            return getRandomDefaultFeedback();
-        }
+        JsonNode resp = client.post()
+                // proxy 경유 경로를 포함
+                .uri("/api.openai.com/v1/chat/completions")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + props.getKey())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, cr ->
+                        cr.bodyToMono(String.class)
+                                .flatMap(err -> {
+                                    log.error("GMS 피드백 에러 {}: {}", cr.statusCode(), err);
+                                    return Mono.error(new RuntimeException(err));
+                                })
+                )
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofSeconds(5))
+                .block();
 
-        return resp.path("choices")
-                .get(0)
+        String feedback = resp == null ? "" : resp.path("choices")
+                .path(0)
                 .path("message")
                 .path("content")
                 .asText()
                 .trim();
+        if (feedback.isEmpty()) {
+            throw new IllegalStateException("GMS 응답에 피드백이 없습니다.");
+        }
+        return feedback;
     }
 
     private String getRandomDefaultFeedback() {
@@ -0,0 +1,45 @@
+package org.oreo.smore.domain.focusrecord;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 사용자별 UTC (일자, 시) 집중도 집계 - 합계/샘플 수와 해당 시간에 끝난 집중 구간
+@Entity
+@Table(name = "focus_hourly_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_focus_hourly_stats_user_date_hour",
+                columnNames = {"user_id", "stat_date", "stat_hour"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FocusHourlyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "focus_hourly_stat_id", nullable = false)
+    private Long focusHourlyStatId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "stat_hour", nullable = false)
+    private Integer statHour;
+
+    @Column(name = "status_sum", nullable = false)
+    private Long statusSum;
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+
+    @Column(name = "streak_count", nullable = false)
+    private Long streakCount;
+
+    @Column(name = "streak_samples", nullable = false)
+    private Long streakSamples;
+}
@@ -0,0 +1,38 @@
+package org.oreo.smore.domain.focusrecord;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface FocusHourlyStatRepository extends JpaRepository<FocusHourlyStat, Long> {
+
+    // (사용자, 일자, 시) 행이 없으면 만들고 있으면 누적 - 한 문장으로 처리해 동시 삽입에도 중복 키 오류 없음
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO focus_hourly_stats " +
+            "(user_id, stat_date, stat_hour, status_sum, sample_count, streak_count, streak_samples) " +
+            "VALUES (:userId, :statDate, :statHour, :statusSum, :sampleCount, :streakCount, :streakSamples) " +
+            "ON DUPLICATE KEY UPDATE status_sum = status_sum + :statusSum, " +
+            "sample_count = sample_count + :sampleCount, " +
+            "streak_count = streak_count + :streakCount, " +
+            "streak_samples = streak_samples + :streakSamples",
+            nativeQuery = true)
+    int add(@Param("userId") Long userId,
+            @Param("statDate") LocalDate statDate,
+            @Param("statHour") int statHour,
+            @Param("statusSum") long statusSum,
+            @Param("sampleCount") long sampleCount,
+            @Param("streakCount") long streakCount,
+            @Param("streakSamples") long streakSamples);
+
+    List<FocusHourlyStat> findAllByUserIdAndStatDateGreaterThanEqual(Long userId, LocalDate from);
+
+    @Modifying
+    @Query("DELETE FROM FocusHourlyStat s WHERE s.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -6,7 +6,12 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "focus_records")
+@Table(name = "focus_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_focus_records_user_timestamp",
+                columnNames = {"user_id", "`timestamp`"}),
+        // 사용자별 기간 조회가 테이블을 읽지 않고 인덱스만으로 끝나도록 status까지 포함
+        indexes = @Index(name = "idx_focus_records_user_timestamp_status",
+                columnList = "user_id, `timestamp`, status"))
 @Getter
 @Setter
 @NoArgsConstructor
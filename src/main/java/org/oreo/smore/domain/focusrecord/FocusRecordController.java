@@ -1,6 +1,9 @@
 package org.oreo.smore.domain.focusrecord;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordBatchRequest;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordBatchResponse;
 import org.oreo.smore.domain.focusrecord.dto.FocusRecordsResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 public class FocusRecordController {
 
     private final FocusRecordService focusRecordService;
+    private final FocusRecordIngestService focusRecordIngestService;
 
     @GetMapping("/{userId}")
     public ResponseEntity<Object> getFocusRecords(
@@ -28,4 +32,19 @@ public class FocusRecordController {
         FocusRecordsResponse response = focusRecordService.getFocusRecords(userId, tzOffset);
         return ResponseEntity.ok(response);
     }
+
+    // 클라이언트가 모아 둔 샘플을 한 번에 저장 (같은 시각 중복 제외)
+    @PostMapping("/{userId}/batch")
+    public ResponseEntity<Object> saveFocusRecords(
+            @PathVariable Long userId,
+            @Valid @RequestBody FocusRecordBatchRequest request,
+            Authentication authentication
+    ) {
+        if (authentication != null && Long.parseLong(authentication.getPrincipal().toString()) != userId) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        FocusRecordBatchResponse response = focusRecordIngestService.ingest(userId, request);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,98 @@
+package org.oreo.smore.domain.focusrecord;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordBatchRequest;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordBatchResponse;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.TreeMap;
+
+// 집중도 샘플 일괄 저장
+// IDENTITY 키라 JPA saveAll은 건별 INSERT가 되므로 JDBC 배치로 저장하고 같은 트랜잭션에서 집계 반영
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FocusRecordIngestService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FocusRecordRepository focusRecordRepository;
+    private final FocusAggregateService focusAggregateService;
+
+    private volatile String insertSql;
+
+    @Transactional
+    public FocusRecordBatchResponse ingest(Long userId, FocusRecordBatchRequest request) {
+        // 요청 안에서 같은 시각은 마지막 샘플만 사용
+        TreeMap<Instant, Integer> samples = new TreeMap<>();
+        for (FocusRecordBatchRequest.Sample sample : request.getSamples()) {
+            samples.put(sample.getTimestamp(), sample.getStatus());
+        }
+
+        // 이미 저장된 시각 제외 (재전송 대비)
+        Set<Instant> existing = new HashSet<>(focusRecordRepository.findTimestampsBetween(
+                userId, samples.firstKey(), samples.lastKey()));
+
+        List<FocusRecord> records = new ArrayList<>(samples.size());
+        samples.forEach((timestamp, status) -> {
+            if (!existing.contains(timestamp)) {
+                records.add(FocusRecord.builder()
+                        .userId(userId)
+                        .timestamp(timestamp)
+                        .status(status)
+                        .build());
+            }
+        });
+
+        if (!records.isEmpty()) {
+            insertBatch(records);
+            focusAggregateService.record(userId, records);
+        }
+
+        log.debug("집중도 샘플 저장 - 사용자ID: {}, 수신: {}건, 저장: {}건",
+                userId, request.getSamples().size(), records.size());
+        return new FocusRecordBatchResponse(request.getSamples().size(), records.size());
+    }
+
+    private void insertBatch(List<FocusRecord> records) {
+        // Hibernate가 Instant를 UTC로 저장하므로 같은 기준으로 바인딩 (JVM 기본 시간대로 저장되면 중복 확인/조회가 어긋남)
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        try {
+            jdbcTemplate.batchUpdate(insertSql(), records, records.size(), (ps, record) -> {
+                ps.setLong(1, record.getUserId());
+                ps.setTimestamp(2, Timestamp.from(record.getTimestamp()), utc);
+                ps.setInt(3, record.getStatus());
+            });
+        } catch (DuplicateKeyException e) {
+            // 같은 샘플이 동시에 전송된 경우 - 전체 롤백 후 재전송하면 중복이 제외됨
+            log.warn("⚠️ 집중도 샘플 중복 저장 충돌 - 사용자ID: {}", records.get(0).getUserId());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "같은 샘플이 동시에 저장되었습니다. 다시 시도해주세요.");
+        }
+    }
+
+    // timestamp는 예약어라 DB별 식별자 인용 부호로 감쌈 (MySQL `, H2 ")
+    private String insertSql() {
+        String sql = insertSql;
+        if (sql == null) {
+            String quote = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getIdentifierQuoteString());
+            sql = "INSERT INTO focus_records (user_id, " + quote + "timestamp" + quote + ", status) VALUES (?, ?, ?)";
+            insertSql = sql;
+        }
+        return sql;
+    }
+}
@@ -1,10 +1,32 @@
 package org.oreo.smore.domain.focusrecord;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface FocusRecordRepository extends JpaRepository<FocusRecord, Long> {
-    List<FocusRecord> findByUserIdAndTimestampAfter(Long userId, Instant after);
+
+    // (timestamp, status)만 시간순으로 스트리밍 - 트랜잭션 안에서 사용하고 호출 측에서 close
+    // fetch size Integer.MIN_VALUE: MySQL 드라이버가 전체 결과를 메모리에 올리지 않고 행 단위로 스트리밍
+    // (스트림이 열려 있는 동안 같은 커넥션으로 다른 쿼리를 실행하지 않아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new org.oreo.smore.domain.focusrecord.FocusSample(f.timestamp, f.status) " +
+            "FROM FocusRecord f WHERE f.userId = :userId AND f.timestamp >= :from ORDER BY f.timestamp")
+    Stream<FocusSample> streamSamples(@Param("userId") Long userId, @Param("from") Instant from);
+
+    @Query("SELECT f.timestamp FROM FocusRecord f " +
+            "WHERE f.userId = :userId AND f.timestamp BETWEEN :from AND :to")
+    List<Instant> findTimestampsBetween(@Param("userId") Long userId,
+                                        @Param("from") Instant from,
+                                        @Param("to") Instant to);
+
+    @Query("SELECT DISTINCT f.userId FROM FocusRecord f")
+    List<Long> findDistinctUserIds();
 }
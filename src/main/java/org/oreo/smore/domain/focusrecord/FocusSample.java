@@ -0,0 +1,7 @@
+package org.oreo.smore.domain.focusrecord;
+
+import java.time.Instant;
+
+// 집계 계산용 집중도 샘플 (엔티티 대신 필요한 컬럼만 조회)
+public record FocusSample(Instant timestamp, int status) {
+}
@@ -0,0 +1,27 @@
+package org.oreo.smore.domain.focusrecord;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// 사용자별 진행 중인 집중 구간 (마지막 샘플 시각, 연속 집중 샘플 수)
+@Entity
+@Table(name = "focus_streak_states")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FocusStreakState {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "last_timestamp")
+    private Instant lastTimestamp;
+
+    @Column(name = "open_streak", nullable = false)
+    private Integer openStreak;
+}
@@ -0,0 +1,27 @@
+package org.oreo.smore.domain.focusrecord;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FocusStreakStateRepository extends JpaRepository<FocusStreakState, Long> {
+
+    // 첫 샘플이면 빈 상태 행 생성 (이미 있으면 그대로) - 이후 findForUpdate가 항상 잠글 행이 있도록
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO focus_streak_states (user_id, open_streak) VALUES (:userId, 0) " +
+            "ON DUPLICATE KEY UPDATE user_id = user_id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    // 같은 사용자의 샘플이 동시에 들어와도 집중 구간이 한 번씩만 이어지도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM FocusStreakState s WHERE s.userId = :userId")
+    Optional<FocusStreakState> findForUpdate(@Param("userId") Long userId);
+}
@@ -0,0 +1,39 @@
+package org.oreo.smore.domain.focusrecord.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+// 클라이언트가 모아 둔 집중도 샘플 일괄 전송
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FocusRecordBatchRequest {
+
+    @NotEmpty(message = "샘플이 비어 있습니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000개까지 전송할 수 있습니다.")
+    private List<@Valid @NotNull Sample> samples;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Sample {
+
+        @NotNull(message = "측정 시각은 필수입니다.")
+        private Instant timestamp;
+
+        @NotNull(message = "집중도는 필수입니다.")
+        @Min(value = 0, message = "집중도는 0 이상이어야 합니다.")
+        @Max(value = 100, message = "집중도는 100 이하여야 합니다.")
+        private Integer status;
+    }
+}
@@ -0,0 +1,15 @@
+package org.oreo.smore.domain.focusrecord.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FocusRecordBatchResponse {
+    private int received;
+
+    // 새로 저장된 샘플 수 (같은 시각의 중복 샘플 제외)
+    private int inserted;
+}
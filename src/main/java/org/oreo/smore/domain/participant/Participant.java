@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 
 @Slf4j
 @Entity
-@Table(name= "participants")
+@Table(name= "participants",
+        indexes = @Index(name = "idx_participants_room_user_left", columnList = "room_id, user_id, left_at"))
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
@@ -1,10 +1,12 @@
 package org.oreo.smore.domain.participant;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,13 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
 
     // 특정 사용자가 참가한 모든 방 조회 (취근 참가 순)
     List<Participant> findByUserIdOrderByJoinedAtDesc(Long userId);
+
+    // 특정 사용자가 최근 참가한 방 ID (중복 제거, 최근 참가 순)
+    @Query("SELECT p.roomId FROM Participant p " +
+            "WHERE p.userId = :userId " +
+            "GROUP BY p.roomId " +
+            "ORDER BY MAX(p.joinedAt) DESC")
+    List<Long> findRecentDistinctRoomIdsByUserId(@Param("userId") Long userId, Pageable pageable);
     
     // 특정 방의 현재 참가자 수 조회
     @Query("SELECT COUNT(p) FROM Participant p WHERE p.roomId = :roomId AND p.leftAt IS NULL AND p.isBanned = false")
@@ -42,6 +51,9 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
 
     List<Participant> findAllByRoomIdAndUserIdAndLeftAtIsNull(Long roomId, Long userId);
 
+    // 활성 참가 여부 (idx_participants_room_user_left 사용)
+    boolean existsByRoomIdAndUserIdAndLeftAtIsNullAndIsBannedFalse(Long roomId, Long userId);
+
     List<Participant> findAllByRoomIdAndLeftAtIsNull(Long roomId);
 
     // 여러 방의 참가자 수를 한 번의 쿼리로 가져옴
@@ -51,4 +63,19 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
             "AND p.isBanned = false " +
             "GROUP BY p.roomId")
     List<Object[]> countActiveParticipantsByRoomIds(@Param("roomIds") List<Long> roomIds);
+
+    // 전체 방의 활성 참가자 수 집계 (참가자 수 레지스트리 초기화용)
+    @Query("SELECT p.roomId, COUNT(p) FROM Participant p " +
+            "WHERE p.leftAt IS NULL " +
+            "AND p.isBanned = false " +
+            "GROUP BY p.roomId")
+    List<Object[]> countAllActiveParticipantsGroupByRoomId();
+
+    // 방의 활성 참가자 + 사용자 정보를 한 번의 쿼리로 조회
+    @Query("SELECT p.userId AS userId, u.nickname AS nickname, u.goalStudyTime AS goalStudyTime, " +
+            "p.audioEnabled AS audioEnabled, p.videoEnabled AS videoEnabled " +
+            "FROM Participant p JOIN User u ON u.userId = p.userId " +
+            "WHERE p.roomId = :roomId AND p.leftAt IS NULL AND p.isBanned = false " +
+            "ORDER BY p.joinedAt")
+    List<ParticipantStatusRow> findParticipantStatusRows(@Param("roomId") Long roomId);
 }
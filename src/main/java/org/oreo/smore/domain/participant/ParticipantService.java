@@ -6,17 +6,15 @@ import org.oreo.smore.domain.participant.dto.*;
 import org.oreo.smore.domain.participant.exception.ParticipantException;
 import org.oreo.smore.domain.studyroom.StudyRoom;
 import org.oreo.smore.domain.studyroom.StudyRoomRepository;
-import org.oreo.smore.domain.studytime.StudyTime;
-import org.oreo.smore.domain.studytime.StudyTimeRepository;
+import org.oreo.smore.domain.studytime.TodayStudyTimeService;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,7 +25,8 @@ public class ParticipantService {
     private final ParticipantRepository participantRepository;
     private final StudyRoomRepository studyRoomRepository;
     private final UserRepository userRepository;
-    private final StudyTimeRepository studyTimeRepository;
+    private final TodayStudyTimeService todayStudyTimeService;
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
 
     // 참가자 등록
     @Transactional
@@ -45,8 +44,8 @@ public class ParticipantService {
             return existingParticipant;
         }
 
-        // 방 최대 인원 확인
-        validateRoomCapacity(studyRoom);
+        // 방 최대 인원 확인 + 자리 예약 (원자적)
+        reserveSeat(studyRoom);
 
         // 참가자 엔티티 생성
         Participant participant = Participant.builder()
@@ -54,15 +53,47 @@ public class ParticipantService {
                 .userId(userId)
                 .build();
 
-        Participant savedParticipant = participantRepository.save(participant);
+        Participant savedParticipant;
+        try {
+            savedParticipant = participantRepository.save(participant);
+        } catch (RuntimeException e) {
+            // 트랜잭션 안에서는 롤백 시 자동 반환됨
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                roomOccupancyRegistry.release(roomId);
+            }
+            log.error("참가자 저장 실패, 예약한 자리 반환 - 방ID: {}, 사용자ID: {}", roomId, userId);
+            throw e;
+        }
 
-        long currentCount = participantRepository.countActiveParticipantsByRoomId(roomId);
+        long currentCount = roomOccupancyRegistry.getCount(roomId);
         log.info("✅ 참가자 등록 완료 - 방ID: {}, 사용자ID: {}, 현재 참가자 수: {}/{}",
                 roomId, userId, currentCount, studyRoom.getMaxParticipants());
 
         return savedParticipant;
     }
 
+    // 이미 불러온 방으로 참가자 등록 (입장 흐름 전용) - 이미 참가 중이면 false
+    // 방을 다시 조회하지 않고 활성 참가 여부도 존재 확인 한 번으로 판단
+    @Transactional
+    public boolean registerJoin(StudyRoom studyRoom, Long userId) {
+        Long roomId = studyRoom.getRoomId();
+        if (participantRepository.existsByRoomIdAndUserIdAndLeftAtIsNullAndIsBannedFalse(roomId, userId)) {
+            log.info("기존 활성 참가자 - 방ID: {}, 사용자ID: {}", roomId, userId);
+            return false;
+        }
+
+        // 방 최대 인원 확인 + 자리 예약 (원자적, 롤백 시 반환)
+        reserveSeat(studyRoom);
+        participantRepository.save(Participant.builder()
+                .roomId(roomId)
+                .userId(userId)
+                .build());
+
+        log.info("✅ 참가자 등록 완료 - 방ID: {}, 사용자ID: {}, 현재 참가자 수: {}/{}",
+                roomId, userId, roomOccupancyRegistry.getCount(roomId), studyRoom.getMaxParticipants());
+        return true;
+    }
+
     // 참가자 퇴장 처리
     @Transactional
     public void leaveRoom(Long roomId, Long userId) {
@@ -71,7 +102,7 @@ public class ParticipantService {
         Participant participant = findActiveParticipant(roomId, userId);
         participant.leave();
 
-        long remainingCount = participantRepository.countActiveParticipantsByRoomId(roomId);
+        long remainingCount = roomOccupancyRegistry.decrement(roomId);
         log.info("✅ 참가자 퇴장 완료 - 방ID: {}, 사용자ID: {}, 남은 참가자 수: {}",
                 roomId, userId, remainingCount);
     }
@@ -91,11 +122,10 @@ public class ParticipantService {
     }
 
 
-    // 방 최대 인원 검증
-    private void validateRoomCapacity(StudyRoom studyRoom) {
-        long currentCount = participantRepository.countActiveParticipantsByRoomId(studyRoom.getRoomId());
-
-        if (currentCount >= studyRoom.getMaxParticipants()) {
+    // 방 최대 인원 검증 + 자리 예약 (동시 입장 시 정원 초과 방지)
+    private void reserveSeat(StudyRoom studyRoom) {
+        if (!roomOccupancyRegistry.tryReserve(studyRoom.getRoomId(), studyRoom.getMaxParticipants())) {
+            long currentCount = roomOccupancyRegistry.getCount(studyRoom.getRoomId());
             log.warn("방 정원 초과 - 방ID: {}, 현재: {}, 최대: {}",
                     studyRoom.getRoomId(), currentCount, studyRoom.getMaxParticipants());
             throw new ParticipantException.RoomFullException(
@@ -151,7 +181,7 @@ public class ParticipantService {
     }
 
     public long getActiveParticipantCount(Long roomId) {
-        long count = participantRepository.countActiveParticipantsByRoomId(roomId);
+        long count = roomOccupancyRegistry.getCount(roomId);
         log.debug("현재 참가자 수 - 방ID: {}, 참가자 수: {}명", roomId, count);
         return count;
     }
@@ -196,7 +226,7 @@ public class ParticipantService {
         Participant participant = findActiveParticipant(roomId, userId);
         participant.ban();
 
-        long remainingCount = participantRepository.countActiveParticipantsByRoomId(roomId);
+        long remainingCount = roomOccupancyRegistry.decrement(roomId);
         log.warn("⚠️ 참가자 강퇴 완료 - 방ID: {}, 사용자ID: {}, 남은 참가자 수: {}",
                 roomId, userId, remainingCount);
     }
@@ -206,8 +236,9 @@ public class ParticipantService {
     public void deleteAllParticipantsByRoom(Long roomId) {
         log.warn("방 삭제로 인한 참가 이력 삭제 - 방ID: {}", roomId);
 
-        long participantCount = participantRepository.countActiveParticipantsByRoomId(roomId);
+        long participantCount = roomOccupancyRegistry.getCount(roomId);
 //        participantRepository.deleteByRoomId(roomId);
+        roomOccupancyRegistry.evict(roomId);
 
         log.warn("⚠️ 참가 이력 삭제 완료 - 방ID: {}, 삭제된 참가자 수: {}", roomId, participantCount);
     }
@@ -220,10 +251,10 @@ public class ParticipantService {
         // 방 존재 여부 확인
         StudyRoom studyRoom = validateStudyRoomExists(roomId);
 
-        // 활성화된 참가자 목록 조회
-        List<Participant> activeParticipants = getActiveParticipants(roomId);
+        // 참가자 + 사용자 정보를 한 번에 조회
+        List<ParticipantStatusRow> rows = participantRepository.findParticipantStatusRows(roomId);
 
-        if (activeParticipants.isEmpty()) {
+        if (rows.isEmpty()) {
             log.warn("활성 참가자가 없는 방 - 방ID: {}", roomId);
             return ParticipantStatusResponse.builder()
                     .participants(List.of())
@@ -234,19 +265,23 @@ public class ParticipantService {
                     .build();
         }
 
+        // 오늘 공부시간은 사용자별 누적값에서 일괄 조회
+        Map<Long, Long> todaySeconds = todayStudyTimeService.getTodaySeconds(
+                rows.stream().map(ParticipantStatusRow::getUserId).toList());
+
         // 참가자 정보 변환
-        List<ParticipantInfo> participantInfos = activeParticipants.stream()
-                .map(participant -> convertToParticipantInfo(participant, studyRoom))
+        List<ParticipantInfo> participantInfos = rows.stream()
+                .map(row -> convertToParticipantInfo(row, studyRoom, todaySeconds.getOrDefault(row.getUserId(), 0L)))
                 .collect(Collectors.toList());
 
         // 방 정보 구성
         RoomInfo roomInfo = RoomInfo.builder()
                 .isAllMuted(studyRoom.isAllMuted())
-                .totalParticipants(activeParticipants.size())
+                .totalParticipants(rows.size())
                 .build();
 
         log.info("✅ 참가자 상태 조회 완료 - 방ID: {}, 참가자 수: {}명, 전체음소거: {}",
-                roomId, activeParticipants.size(), studyRoom.isAllMuted());
+                roomId, rows.size(), studyRoom.isAllMuted());
 
         return ParticipantStatusResponse.builder()
                 .participants(participantInfos)
@@ -254,6 +289,18 @@ public class ParticipantService {
                 .build();
     }
 
+    private ParticipantInfo convertToParticipantInfo(ParticipantStatusRow row, StudyRoom studyRoom, long todayStudySeconds) {
+        return ParticipantInfo.builder()
+                .userId(row.getUserId())
+                .nickname(row.getNickname())
+                .isOwner(studyRoom.getUserId().equals(row.getUserId()))
+                .audioEnabled(row.getAudioEnabled())
+                .videoEnabled(row.getVideoEnabled())
+                .todayStudyTime((int) todayStudySeconds)
+                .targetStudyTime(row.getGoalStudyTime())
+                .build();
+    }
+
     private ParticipantInfo convertToParticipantInfo(Participant participant, StudyRoom studyRoom) {
 
         // 사용자 정보 조회
@@ -267,7 +314,7 @@ public class ParticipantService {
         boolean isOwner = studyRoom.getUserId().equals(participant.getUserId());
 
         // 실제 공부 시간 정보 조회
-        int todayStudyTime = getTodayStudyTime(participant.getUserId());
+        int todayStudyTime = (int) todayStudyTimeService.getTodaySeconds(participant.getUserId());
         int targetStudyTime = user.getGoalStudyTime();
 
         return ParticipantInfo.builder()
@@ -281,49 +328,6 @@ public class ParticipantService {
                 .build();
     }
 
-    // 오늘 공부 시간 조회 로직
-    private int getTodayStudyTime(Long userId) {
-        try {
-            // 오늘 공부 시간 계산
-            LocalDate today = LocalDate.now();
-            LocalDateTime startOfDay = today.atStartOfDay();
-            LocalDateTime endOfDay = today.atTime(23, 59, 59);
-
-            List<StudyTime> allRecords = studyTimeRepository.findAllByUserIdAndCreatedAtBetween(
-                    userId,
-                    startOfDay.minusDays(1),  // 하루 전까지도 시작할 수 있으므로
-                    endOfDay.plusDays(1)      // 자정 넘어가는 케이스도 포함
-            );
-
-            int todayStudySeconds = 0;
-
-            for (StudyTime record : allRecords) {
-                LocalDateTime start = record.getCreatedAt();
-                LocalDateTime end = record.getDeletedAt();
-
-                if (end == null) {
-                    // 아직 진행 중인 공부 세션은 현재 시간까지로 계산
-                    end = LocalDateTime.now();
-                }
-
-                // 오늘 날짜 범위와 겹치는 구간만 계산
-                LocalDateTime effectiveStart = start.isBefore(startOfDay) ? startOfDay : start;
-                LocalDateTime effectiveEnd = end.isAfter(endOfDay) ? endOfDay : end;
-
-                if (!effectiveStart.isAfter(effectiveEnd)) {
-                    todayStudySeconds += Duration.between(effectiveStart, effectiveEnd).getSeconds();
-                }
-            }
-
-            log.debug("오늘 공부시간 조회 완료 - 사용자ID: {}, 시간: {}초", userId, todayStudySeconds);
-            return todayStudySeconds;
-
-        } catch (Exception e) {
-            log.error("오늘 공부시간 조회 실패 - 사용자ID: {}, 오류: {}", userId, e.getMessage());
-            return 0;
-        }
-    }
-
     // 개인 참가자 상태 조회
     public IndividualParticipantResponse getIndividualParticipantStatus(Long roomId, Long userId) {
         log.info("개인 참가자 상태 조회 시작 - 방ID: {}, 사용자ID: {}", roomId, userId);
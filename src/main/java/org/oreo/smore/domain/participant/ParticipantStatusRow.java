@@ -0,0 +1,15 @@
+package org.oreo.smore.domain.participant;
+
+// 참가자 상태 조회용 프로젝션 (참가자 + 사용자)
+public interface ParticipantStatusRow {
+
+    Long getUserId();
+
+    String getNickname();
+
+    Integer getGoalStudyTime();
+
+    Boolean getAudioEnabled();
+
+    Boolean getVideoEnabled();
+}
@@ -0,0 +1,32 @@
+package org.oreo.smore.domain.participant;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 서버 시작 시 participants 테이블로 참가자 수 레지스트리 초기화
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomOccupancyInitializer {
+
+    private final ParticipantRepository participantRepository;
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Map<Long, Long> counts = participantRepository.countAllActiveParticipantsGroupByRoomId()
+                .stream()
+                .collect(Collectors.toMap(
+                        arr -> (Long) arr[0],
+                        arr -> (Long) arr[1]
+                ));
+
+        roomOccupancyRegistry.rebuild(counts);
+    }
+}
@@ -0,0 +1,7 @@
+package org.oreo.smore.domain.participant;
+
+// 방 참가자 수 변경 알림 (최신 값은 RoomOccupancyRegistry에서 다시 조회)
+public interface RoomOccupancyListener {
+
+    void onOccupancyChanged(Long roomId);
+}
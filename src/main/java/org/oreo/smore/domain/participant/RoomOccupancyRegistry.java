@@ -0,0 +1,163 @@
+package org.oreo.smore.domain.participant;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 방별 현재 참가자 수를 메모리에 유지 (COUNT 쿼리 대체)
+@Slf4j
+@Component
+public class RoomOccupancyRegistry {
+
+    private final ConcurrentHashMap<Long, AtomicInteger> occupancy = new ConcurrentHashMap<>();
+    private final List<RoomOccupancyListener> listeners = new CopyOnWriteArrayList<>();
+
+    // 참가자 수 변경 리스너 등록
+    public void addListener(RoomOccupancyListener listener) {
+        listeners.add(listener);
+    }
+
+    // 현재 참가자 수 조회
+    public int getCount(Long roomId) {
+        AtomicInteger counter = occupancy.get(roomId);
+        return counter != null ? counter.get() : 0;
+    }
+
+    // 여러 방의 참가자 수 조회 (없는 방은 0)
+    public Map<Long, Long> getCounts(Collection<Long> roomIds) {
+        Map<Long, Long> counts = new HashMap<>(roomIds.size() * 2);
+        for (Long roomId : roomIds) {
+            counts.put(roomId, (long) getCount(roomId));
+        }
+        return counts;
+    }
+
+    // 정원 내에서 자리 예약 (CAS) - 성공 시 트랜잭션이 롤백되면 자리 반환
+    public boolean tryReserve(Long roomId, int maxParticipants) {
+        AtomicInteger counter = occupancy.computeIfAbsent(roomId, id -> new AtomicInteger());
+        while (true) {
+            int current = counter.get();
+            if (current >= maxParticipants) {
+                log.debug("자리 예약 실패 - 방ID: {}, 현재: {}명, 최대: {}명", roomId, current, maxParticipants);
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                notifyListeners(roomId);
+                // 그 사이 방 삭제/재구성으로 카운터가 바뀌었으면 되돌리지 않음
+                compensateOnRollback(() -> {
+                    if (occupancy.get(roomId) == counter) {
+                        counter.updateAndGet(value -> value > 0 ? value - 1 : 0);
+                        notifyListeners(roomId);
+                    }
+                });
+                log.debug("자리 예약 성공 - 방ID: {}, 현재: {}명, 최대: {}명", roomId, current + 1, maxParticipants);
+                return true;
+            }
+        }
+    }
+
+    // 예약한 자리 반환 (트랜잭션 밖에서 입장 실패 시)
+    public void release(Long roomId) {
+        int count = decrementCounter(roomId);
+        log.debug("자리 반환 - 방ID: {}, 현재: {}명", roomId, count);
+    }
+
+    // 퇴장/강퇴 반영 - 트랜잭션이 롤백되면 되돌림
+    public int decrement(Long roomId) {
+        AtomicInteger counter = occupancy.get(roomId);
+        if (counter == null) {
+            return 0;
+        }
+        int previous = counter.getAndUpdate(current -> current > 0 ? current - 1 : 0);
+        if (previous == 0) {
+            // 실제로 줄지 않았으면 되돌릴 것도 없음
+            return 0;
+        }
+        notifyListeners(roomId);
+        // 그 사이 방 삭제/재구성으로 카운터가 바뀌었으면 되돌리지 않음
+        compensateOnRollback(() -> {
+            if (occupancy.get(roomId) == counter) {
+                counter.incrementAndGet();
+                notifyListeners(roomId);
+            }
+        });
+        log.debug("참가자 수 감소 - 방ID: {}, 현재: {}명", roomId, previous - 1);
+        return previous - 1;
+    }
+
+    // 방 삭제 시 카운터 제거 - 트랜잭션 커밋 후 반영
+    public void evict(Long roomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeCounter(roomId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removeCounter(roomId);
+            }
+        });
+    }
+
+    // DB 집계 결과로 전체 재구성 (애플리케이션 시작 시)
+    public void rebuild(Map<Long, Long> counts) {
+        Set<Long> changedRoomIds = new HashSet<>(occupancy.keySet());
+        changedRoomIds.addAll(counts.keySet());
+
+        occupancy.clear();
+        counts.forEach((roomId, count) -> occupancy.put(roomId, new AtomicInteger(count.intValue())));
+        changedRoomIds.forEach(this::notifyListeners);
+        log.info("✅ 방 참가자 수 레지스트리 재구성 완료 - 활성 방: {}개", occupancy.size());
+    }
+
+    private int decrementCounter(Long roomId) {
+        AtomicInteger counter = occupancy.get(roomId);
+        if (counter == null) {
+            return 0;
+        }
+        int count = counter.updateAndGet(current -> current > 0 ? current - 1 : 0);
+        notifyListeners(roomId);
+        return count;
+    }
+
+    private void removeCounter(Long roomId) {
+        occupancy.remove(roomId);
+        notifyListeners(roomId);
+        log.debug("참가자 수 카운터 제거 - 방ID: {}", roomId);
+    }
+
+    private void notifyListeners(Long roomId) {
+        for (RoomOccupancyListener listener : listeners) {
+            try {
+                listener.onOccupancyChanged(roomId);
+            } catch (Exception e) {
+                log.error("❌ 참가자 수 변경 알림 실패 - 방ID: {}, 오류: {}", roomId, e.getMessage());
+            }
+        }
+    }
+
+    private void compensateOnRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+}
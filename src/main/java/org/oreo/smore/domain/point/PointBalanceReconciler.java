@@ -0,0 +1,71 @@
+package org.oreo.smore.domain.point;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 포인트 잔액 정합성 점검 - 주기적으로 user_point_balance를 points 원장 합계와 비교해 원장 기준으로 맞춤
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "point.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class PointBalanceReconciler {
+
+    private final UserPointBalanceRepository userPointBalanceRepository;
+    private final PointService pointService;
+    private final long intervalMinutes;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "point-balance-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PointBalanceReconciler(UserPointBalanceRepository userPointBalanceRepository,
+                                  PointService pointService,
+                                  @Value("${point.reconcile.interval-minutes:60}") long intervalMinutes) {
+        this.userPointBalanceRepository = userPointBalanceRepository;
+        this.pointService = pointService;
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::reconcile, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // 불일치 사용자 수 반환
+    int reconcile() {
+        try {
+            long start = System.currentTimeMillis();
+            List<Long> mismatched = userPointBalanceRepository.findMismatchedUserIds();
+            for (Long userId : mismatched) {
+                // 사용자 단위 트랜잭션
+                pointService.reconcileBalance(userId);
+            }
+
+            if (mismatched.isEmpty()) {
+                log.debug("포인트 잔액 점검 완료 - 불일치 없음, {}ms", System.currentTimeMillis() - start);
+            } else {
+                log.warn("⚠️ 포인트 잔액 불일치 {}명 원장 기준으로 보정 - 사용자ID: {}", mismatched.size(), mismatched);
+            }
+            return mismatched.size();
+        } catch (Exception e) {
+            log.error("❌ 포인트 잔액 점검 실패: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+}
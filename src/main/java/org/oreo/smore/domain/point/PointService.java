@@ -1,13 +1,12 @@
 package org.oreo.smore.domain.point;
 
-import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.point.dto.response.TotalPointsResponse;
 import org.oreo.smore.domain.point.dto.response.OreoDrawResponse;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,38 +15,35 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.util.Random;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointService {
+    private static final int OREO_DRAW_COST = 100;
+
     private final PointRepository pointRepository;
+    private final UserPointBalanceRepository userPointBalanceRepository;
+    private final UserPointBalanceInitializer userPointBalanceInitializer;
     private final UserRepository userRepository;
 
-    @Cacheable(value = "user:totalPoints", key = "#userId")
     @Transactional(readOnly = true)
     public TotalPointsResponse getTotalPoints(Long userId) {
-        return new TotalPointsResponse(pointRepository.sumDeltaByUserId(userId));
+        long balance = userPointBalanceRepository.findBalance(userId)
+                .orElseGet(() -> {
+                    // 잔액 행이 없는 기존 사용자는 한 번만 원장 합계로 생성
+                    initializeBalance(userId);
+                    return pointRepository.sumDeltaByUserId(userId);
+                });
+        return new TotalPointsResponse(balance);
     }
 
-    @CacheEvict(value = "user:totalPoints", key = "#userId")
     @Transactional
     public OreoDrawResponse drawOreo(Long userId) {
-        long totalPoints = pointRepository.sumDeltaByUserId(userId);
-
-        if (totalPoints < 100) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "포인트가 부족합니다.");
-        }
-
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자가 존재하지 않습니다."));
 
-        // 포인트 차감
-        Point usedPoint = Point.builder()
-                .userId(userId)
-                .delta(-100)
-                .reason("오레오 뽑기")
-                .timestamp(LocalDateTime.now())
-                .build();
-        pointRepository.save(usedPoint);
+        // 포인트 차감 (잔액 확인과 차감을 한 번의 UPDATE로 처리)
+        long updatedPoints = addPoints(userId, -OREO_DRAW_COST, "오레오 뽑기");
 
         // 결과 랜덤 생성
         String result = new Random().nextBoolean() ? "O" : "RE";
@@ -56,8 +52,49 @@ public class PointService {
         user.setLevel(user.getLevel() + result);
         userRepository.save(user);
 
-        long updatedPoints = totalPoints - 100;
-
         return new OreoDrawResponse(result, user.getLevel(), updatedPoints);
     }
+
+    // 포인트 적립/차감 - 잔액을 조건부 UPDATE로 반영하고 같은 트랜잭션에서 원장에 기록, 반영 후 잔액 반환
+    @Transactional
+    public long addPoints(Long userId, int delta, String reason) {
+        if (!applyToBalance(userId, delta)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "포인트가 부족합니다.");
+        }
+
+        pointRepository.save(Point.builder()
+                .userId(userId)
+                .delta(delta)
+                .reason(reason)
+                .timestamp(LocalDateTime.now())
+                .build());
+
+        return userPointBalanceRepository.findBalance(userId).orElseThrow();
+    }
+
+    // 원장 합계와 다른 잔액을 원장 기준으로 맞춤 (정합성 점검 작업용)
+    @Transactional
+    public void reconcileBalance(Long userId) {
+        userPointBalanceRepository.resetToLedger(userId);
+    }
+
+    private boolean applyToBalance(Long userId, int delta) {
+        if (userPointBalanceRepository.addIfSufficient(userId, delta) > 0) {
+            return true;
+        }
+        // 행이 없으면 생성 후 한 번 더 시도 (그사이 다른 요청이 생성했을 수도 있으므로 항상 재시도)
+        if (!userPointBalanceRepository.existsById(userId)) {
+            initializeBalance(userId);
+        }
+        return userPointBalanceRepository.addIfSufficient(userId, delta) > 0;
+    }
+
+    private void initializeBalance(Long userId) {
+        try {
+            userPointBalanceInitializer.initialize(userId);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 생성함
+            log.debug("포인트 잔액 행이 이미 생성됨 - 사용자ID: {}", userId);
+        }
+    }
 }
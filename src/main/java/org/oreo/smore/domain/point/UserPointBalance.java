@@ -0,0 +1,22 @@
+package org.oreo.smore.domain.point;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 사용자별 포인트 잔액 (points 원장 합계를 미리 계산해 둔 값)
+@Entity
+@Table(name = "user_point_balance")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPointBalance {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "balance", nullable = false)
+    private Long balance;
+}
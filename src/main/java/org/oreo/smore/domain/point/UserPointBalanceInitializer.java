@@ -0,0 +1,19 @@
+package org.oreo.smore.domain.point;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 잔액 행 생성은 별도 트랜잭션 - 동시 생성으로 중복 키가 나도 호출 측 트랜잭션은 유지
+@Component
+@RequiredArgsConstructor
+public class UserPointBalanceInitializer {
+
+    private final UserPointBalanceRepository userPointBalanceRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void initialize(Long userId) {
+        userPointBalanceRepository.insertFromLedger(userId);
+    }
+}
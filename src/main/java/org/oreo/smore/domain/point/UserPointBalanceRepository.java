@@ -0,0 +1,41 @@
+package org.oreo.smore.domain.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserPointBalanceRepository extends JpaRepository<UserPointBalance, Long> {
+
+    @Query("select b.balance from UserPointBalance b where b.userId = :userId")
+    Optional<Long> findBalance(@Param("userId") Long userId);
+
+    // 잔액이 음수가 되지 않을 때만 반영 (행이 없거나 잔액 부족이면 0 반환)
+    @Modifying
+    @Query("update UserPointBalance b set b.balance = b.balance + :delta " +
+            "where b.userId = :userId and b.balance + :delta >= 0")
+    int addIfSufficient(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 잔액 행이 없는 기존 사용자는 원장 합계로 생성
+    @Modifying
+    @Query(value = "insert into user_point_balance (user_id, balance) " +
+            "select :userId, coalesce(sum(p.delta), 0) from points p where p.user_id = :userId",
+            nativeQuery = true)
+    int insertFromLedger(@Param("userId") Long userId);
+
+    // 원장 합계와 다른 잔액
+    @Query(value = "select b.user_id from user_point_balance b left join points p on p.user_id = b.user_id " +
+            "group by b.user_id, b.balance having b.balance <> coalesce(sum(p.delta), 0)",
+            nativeQuery = true)
+    List<Long> findMismatchedUserIds();
+
+    @Modifying
+    @Query(value = "update user_point_balance set balance = " +
+            "(select coalesce(sum(p.delta), 0) from points p where p.user_id = :userId) " +
+            "where user_id = :userId",
+            nativeQuery = true)
+    int resetToLedger(@Param("userId") Long userId);
+}
@@ -0,0 +1,80 @@
+package org.oreo.smore.domain.studyroom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// LiveKit 방 이름(liveKitRoomId) → 스터디룸 (방ID, 방장ID) 매핑
+// 방이 생성된 뒤 LiveKit 방 이름과 방장은 바뀌지 않으므로 방 삭제 시에만 제거하고, 최근 사용 순으로 최대 maxSize개만 유지
+// 웹훅 이벤트마다 findByLiveKitRoomId 조회를 하지 않기 위한 용도 (캐시에 없으면 한 번만 DB 조회)
+@Slf4j
+@Component
+public class LiveKitRoomRegistry {
+
+    private final StudyRoomRepository studyRoomRepository;
+    private final Map<String, RoomRef> rooms;
+
+    public LiveKitRoomRegistry(StudyRoomRepository studyRoomRepository,
+                               @Value("${livekit.room-registry.max-size:10000}") int maxSize) {
+        this.studyRoomRepository = studyRoomRepository;
+        this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RoomRef> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public void register(StudyRoom room) {
+        if (room == null || !room.hasLiveKitRoom() || room.getRoomId() == null) {
+            return;
+        }
+        RoomRef ref = new RoomRef(room.getRoomId(), room.getUserId());
+        synchronized (rooms) {
+            rooms.put(room.getLiveKitRoomId(), ref);
+        }
+    }
+
+    public Optional<RoomRef> resolve(String liveKitRoomId) {
+        if (liveKitRoomId == null) {
+            return Optional.empty();
+        }
+        synchronized (rooms) {
+            RoomRef cached = rooms.get(liveKitRoomId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        // 캐시에 없으면 DB 조회 후 등록 (없는 방은 캐싱하지 않음)
+        Optional<StudyRoom> room = studyRoomRepository.findByLiveKitRoomId(liveKitRoomId);
+        room.ifPresent(this::register);
+        if (room.isEmpty()) {
+            log.debug("LiveKit 방에 해당하는 스터디룸 없음 - LiveKit방: [{}]", liveKitRoomId);
+        }
+        return room.map(r -> new RoomRef(r.getRoomId(), r.getUserId()));
+    }
+
+    // 방 삭제 시 제거
+    public void evict(String liveKitRoomId) {
+        if (liveKitRoomId == null) {
+            return;
+        }
+        synchronized (rooms) {
+            rooms.remove(liveKitRoomId);
+        }
+    }
+
+    int size() {
+        synchronized (rooms) {
+            return rooms.size();
+        }
+    }
+
+    public record RoomRef(Long roomId, Long ownerId) {
+    }
+}
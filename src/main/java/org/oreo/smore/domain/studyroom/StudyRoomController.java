@@ -20,6 +20,7 @@ public class StudyRoomController {
 
     private final StudyRoomCreationService studyRoomCreationService;
     private final StudyRoomService studyRoomService;
+    private final StudyRoomFirstPageCache studyRoomFirstPageCache;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<CreateStudyRoomResponse> createStudyRoom(
@@ -57,19 +58,36 @@ public class StudyRoomController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // 응답 본문: CursorPage<StudyRoomInfoReadResponse> (캐시 적중 시 같은 형태로 미리 직렬화된 JSON byte[])
     @GetMapping
-    public ResponseEntity<CursorPage<StudyRoomInfoReadResponse>> listStudyRooms(
+    public ResponseEntity<Object> listStudyRooms(
             @RequestParam(name = "page", defaultValue = "1") Long page,
             @RequestParam(name = "limit", defaultValue = "20") int limit,
             @RequestParam(name = "search", required = false) String search,
             @RequestParam(name = "category", required = false) String category,
             @RequestParam(name = "sort", defaultValue = "latest") String sort,
-            @RequestParam(name = "hideFullRooms", defaultValue = "false") boolean hideFullRooms
+            @RequestParam(name = "hideFullRooms", defaultValue = "false") boolean hideFullRooms,
+            @RequestParam(name = "cursorScore", required = false) Long cursorScore
     ) {
-        CursorPage<StudyRoomInfoReadResponse> studyRoomDtoCursorPage = studyRoomService.listStudyRooms(page, limit, search, category, sort, hideFullRooms);
+        // 검색어/커서 없는 기본 첫 페이지는 미리 직렬화된 JSON 바이트를 그대로 반환
+        if (isFirstPageRequest(page, limit, search, cursorScore)) {
+            byte[] cached = studyRoomFirstPageCache.get(category, sort, hideFullRooms);
+            if (cached != null) {
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cached);
+            }
+        }
+
+        CursorPage<StudyRoomInfoReadResponse> studyRoomDtoCursorPage = studyRoomService.listStudyRooms(page, cursorScore, limit, search, category, sort, hideFullRooms);
         return ResponseEntity.ok(studyRoomDtoCursorPage);
     }
 
+    private boolean isFirstPageRequest(Long page, int limit, String search, Long cursorScore) {
+        return (page == null || page <= 1)
+                && limit == StudyRoomFirstPageCache.PAGE_SIZE
+                && (search == null || search.isBlank())
+                && cursorScore == null;
+    }
+
     @GetMapping("/{roomId}")
     public ResponseEntity<StudyRoomDetailResponse> getStudyRoomDetail(@PathVariable Long roomId) {
         return ResponseEntity.ok(studyRoomService.getStudyRoomDetail(roomId));
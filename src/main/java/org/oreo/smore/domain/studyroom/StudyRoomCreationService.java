@@ -23,6 +23,10 @@ public class StudyRoomCreationService {
     private final StudyRoomRepository studyRoomRepository;
     private final ChatRoomService chatRoomService;
     private final CloudStorageManager cloudStorageManager;
+    private final StudyRoomPopularityIndex studyRoomPopularityIndex;
+    private final StudyRoomSearchIndex studyRoomSearchIndex;
+    private final StudyRoomFirstPageCache studyRoomFirstPageCache;
+    private final LiveKitRoomRegistry liveKitRoomRegistry;
 
     @Transactional
     public CreateStudyRoomResponse createStudyRoom(Long userId, CreateStudyRoomRequest request) {
@@ -65,6 +69,12 @@ public class StudyRoomCreationService {
                     throw new RuntimeException("프로필 이미지 업로드 실패", e);
                 }
             }
+            // 인기순/검색 인덱스 등록 (커밋 후 반영)
+            studyRoomPopularityIndex.register(savedStudyRoom);
+            studyRoomSearchIndex.register(savedStudyRoom);
+            studyRoomFirstPageCache.invalidate();
+            liveKitRoomRegistry.register(savedStudyRoom);
+
             // chatRoom 자동 생성 (StudyRoom 저장 후)
             try {
                 chatRoomService.createChatRoom(savedStudyRoom);
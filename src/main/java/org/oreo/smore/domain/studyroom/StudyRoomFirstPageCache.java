@@ -0,0 +1,283 @@
+package org.oreo.smore.domain.studyroom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.participant.RoomOccupancyListener;
+import org.oreo.smore.domain.participant.RoomOccupancyRegistry;
+import org.oreo.smore.domain.studyroom.dto.StudyRoomInfoReadResponse;
+import org.oreo.smore.global.common.CursorPage;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 스터디룸 목록 첫 페이지 캐시 (카테고리 x 정렬 x 꽉 찬 방 숨기기 조합별 직렬화된 JSON)
+// 방 생성/삭제 시 디바운스 후 전체 재생성
+// 참가자 수 변경은 그 방이 들어 있는 페이지만 반영 - 최신순(전체 표시)은 참가자 수만 바꿔 다시 직렬화, 순서/포함 여부가 바뀔 수 있는 페이지는 재조회
+// 페이지에 없던 방이 마지막 항목보다 앞서게 되면(인기순, 꽉 찬 방 숨기기) 그 페이지도 재조회
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyRoomFirstPageCache implements RoomOccupancyListener {
+
+    public static final int PAGE_SIZE = 20;
+    private static final long REFRESH_DELAY_MS = 300;
+    private static final long FULL_REFRESH_SECONDS = 60;
+    private static final String ALL_CATEGORIES = "ALL";
+    private static final List<String> SORTS = List.of("latest", "popular");
+
+    private final ObjectProvider<StudyRoomService> studyRoomServiceProvider;
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
+    private final StudyRoomPopularityIndex studyRoomPopularityIndex;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<PageKey, Page> pages = new ConcurrentHashMap<>();
+    // 다음 재생성 때 반영할 참가자 수 변경 방
+    private final Set<Long> changedRoomIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fullRefreshRequested = new AtomicBoolean(false);
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "study-room-first-page-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    void subscribe() {
+        roomOccupancyRegistry.addListener(this);
+    }
+
+    // 인덱스/참가자 수 초기화 이후 생성되도록 예약
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        requestFullRefresh();
+        refresher.scheduleWithFixedDelay(this::requestFullRefresh,
+                FULL_REFRESH_SECONDS, FULL_REFRESH_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // 캐시된 첫 페이지 JSON (캐시 대상이 아니면 null)
+    public byte[] get(String category, String sort, boolean hideFullRooms) {
+        PageKey key = PageKey.of(category, sort, hideFullRooms);
+        if (key == null) {
+            return null;
+        }
+        Page cached = pages.get(key);
+        if (cached != null) {
+            return cached.json();
+        }
+        // 워밍업 전 요청만 직접 생성
+        Page loaded = load(key);
+        return loaded != null ? loaded.json() : null;
+    }
+
+    // 방 생성/삭제 후 호출 - 커밋 후 재생성 예약
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestFullRefresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestFullRefresh();
+            }
+        });
+    }
+
+    @Override
+    public void onOccupancyChanged(Long roomId) {
+        changedRoomIds.add(roomId);
+        scheduleRefresh();
+    }
+
+    private void requestFullRefresh() {
+        fullRefreshRequested.set(true);
+        scheduleRefresh();
+    }
+
+    // 짧은 시간 안의 변경은 한 번의 재생성으로 합침
+    private void scheduleRefresh() {
+        if (!refreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.schedule(() -> {
+                refreshScheduled.set(false);
+                refresh();
+            }, REFRESH_DELAY_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            refreshScheduled.set(false);
+            log.warn("첫 페이지 캐시 재생성 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    // 예약된 재생성 실행 - 전체 재생성 요청이 있으면 전체, 아니면 참가자 수가 바뀐 방이 든 페이지만
+    void refresh() {
+        Set<Long> changed = new HashSet<>(changedRoomIds);
+        changedRoomIds.removeAll(changed);
+        if (fullRefreshRequested.getAndSet(false)) {
+            refreshAll();
+            return;
+        }
+        if (!changed.isEmpty()) {
+            refreshRooms(changed);
+        }
+    }
+
+    private void refreshRooms(Set<Long> roomIds) {
+        int patched = 0;
+        int reloaded = 0;
+        for (var entry : pages.entrySet()) {
+            PageKey key = entry.getKey();
+            Page page = entry.getValue();
+            if (roomIds.stream().noneMatch(page.roomIds()::contains)) {
+                if (roomIds.stream().anyMatch(roomId -> entersPage(key, page, roomId)) && load(key) != null) {
+                    reloaded++;
+                }
+                continue;
+            }
+            if (key.orderIndependentOfOccupancy() && patch(key, page)) {
+                patched++;
+            } else if (load(key) != null) {
+                reloaded++;
+            }
+        }
+        log.debug("첫 페이지 캐시 부분 갱신 - 방: {}개, 수정: {}개, 재조회: {}개", roomIds.size(), patched, reloaded);
+    }
+
+    // 페이지에 없던 방이 참가자 수 변경으로 첫 페이지에 새로 들어오는지 (마지막 항목보다 앞서는지)
+    private boolean entersPage(PageKey key, Page page, Long roomId) {
+        if (key.orderIndependentOfOccupancy()
+                || !studyRoomPopularityIndex.isListed(roomId, key.categoryFilter(), key.hideFullRooms())) {
+            return false;
+        }
+        List<StudyRoomInfoReadResponse> content = page.page().getContent();
+        if (content.size() < PAGE_SIZE) {
+            return true;
+        }
+        StudyRoomInfoReadResponse last = content.get(content.size() - 1);
+        if ("popular".equals(key.sort())) {
+            long score = studyRoomPopularityIndex.getScore(roomId);
+            long lastScore = last.getCurrentParticipants() != null ? last.getCurrentParticipants() : 0L;
+            return score > lastScore || (score == lastScore && roomId > last.getRoomId());
+        }
+        // 최신순 + 꽉 찬 방 숨기기: 자리가 나서 다시 보이는 방이 마지막 항목보다 최신이면
+        return roomId > last.getRoomId();
+    }
+
+    // DB 조회 없이 참가자 수만 현재 값으로 바꿔 다시 직렬화
+    private boolean patch(PageKey key, Page page) {
+        try {
+            CursorPage<StudyRoomInfoReadResponse> source = page.page();
+            CursorPage<StudyRoomInfoReadResponse> patched = new CursorPage<>(source.getCursorId(), source.getSize());
+            patched.setContent(source.getContent().stream()
+                    .map(room -> room.withCurrentParticipants(roomOccupancyRegistry.getCount(room.getRoomId())))
+                    .toList());
+            patched.setHasNext(source.isHasNext());
+            patched.setNextCursor(source.getNextCursor());
+            patched.setNextCursorScore(source.getNextCursorScore());
+            pages.put(key, Page.of(patched, objectMapper.writeValueAsBytes(patched)));
+            return true;
+        } catch (Exception e) {
+            log.warn("첫 페이지 캐시 참가자 수 반영 실패 - {}, 오류: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    private void refreshAll() {
+        long start = System.currentTimeMillis();
+        int refreshed = 0;
+        for (PageKey key : PageKey.all()) {
+            if (load(key) != null) {
+                refreshed++;
+            }
+        }
+        log.debug("첫 페이지 캐시 재생성 - {}개, {}ms", refreshed, System.currentTimeMillis() - start);
+    }
+
+    private Page load(PageKey key) {
+        try {
+            String category = ALL_CATEGORIES.equals(key.category()) ? null : key.category();
+            CursorPage<StudyRoomInfoReadResponse> page = studyRoomServiceProvider.getObject()
+                    .listStudyRooms(null, null, PAGE_SIZE, null, category, key.sort(), key.hideFullRooms());
+            Page loaded = Page.of(page, objectMapper.writeValueAsBytes(page));
+            pages.put(key, loaded);
+            return loaded;
+        } catch (Exception e) {
+            log.error("❌ 첫 페이지 캐시 생성 실패 - {}, 오류: {}", key, e.getMessage());
+            pages.remove(key);
+            return null;
+        }
+    }
+
+    private record Page(CursorPage<StudyRoomInfoReadResponse> page, byte[] json, Set<Long> roomIds) {
+
+        static Page of(CursorPage<StudyRoomInfoReadResponse> page, byte[] json) {
+            Set<Long> roomIds = new HashSet<>();
+            page.getContent().forEach(room -> roomIds.add(room.getRoomId()));
+            return new Page(page, json, roomIds);
+        }
+    }
+
+    private record PageKey(String category, String sort, boolean hideFullRooms) {
+
+        // 최신순 + 전체 표시는 참가자 수가 바뀌어도 포함 방과 순서가 그대로
+        boolean orderIndependentOfOccupancy() {
+            return "latest".equals(sort) && !hideFullRooms;
+        }
+
+        StudyRoomCategory categoryFilter() {
+            return ALL_CATEGORIES.equals(category) ? null : StudyRoomCategory.valueOf(category);
+        }
+
+        static PageKey of(String category, String sort, boolean hideFullRooms) {
+            String normalizedCategory = ALL_CATEGORIES;
+            if (category != null && !category.isBlank()) {
+                try {
+                    normalizedCategory = StudyRoomCategory.valueOf(category.toUpperCase()).name();
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+            String normalizedSort = "popular".equalsIgnoreCase(sort) ? "popular" : "latest";
+            return new PageKey(normalizedCategory, normalizedSort, hideFullRooms);
+        }
+
+        static List<PageKey> all() {
+            List<String> categories = new ArrayList<>();
+            categories.add(ALL_CATEGORIES);
+            for (StudyRoomCategory category : StudyRoomCategory.values()) {
+                categories.add(category.name());
+            }
+
+            List<PageKey> keys = new ArrayList<>();
+            for (String category : categories) {
+                for (String sort : SORTS) {
+                    keys.add(new PageKey(category, sort, false));
+                    keys.add(new PageKey(category, sort, true));
+                }
+            }
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.oreo.smore.domain.studyroom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 서버 시작 시 삭제되지 않은 스터디룸으로 인기순/검색 인덱스 초기화
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyRoomIndexInitializer {
+
+    private final StudyRoomRepository studyRoomRepository;
+    private final StudyRoomPopularityIndex studyRoomPopularityIndex;
+    private final StudyRoomSearchIndex studyRoomSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        List<StudyRoom> rooms = studyRoomRepository.findAllByDeletedAtIsNullOrderByCreatedAtDesc();
+        studyRoomPopularityIndex.rebuild(rooms);
+        studyRoomSearchIndex.rebuild(rooms);
+    }
+}
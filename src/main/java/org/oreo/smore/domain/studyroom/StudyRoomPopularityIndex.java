@@ -0,0 +1,166 @@
+package org.oreo.smore.domain.studyroom;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.participant.RoomOccupancyListener;
+import org.oreo.smore.domain.participant.RoomOccupancyRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 인기순 목록용 인덱스 (점수 = 현재 참가자 수 내림차순, 동점이면 roomId 내림차순)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyRoomPopularityIndex implements RoomOccupancyListener {
+
+    private static final Comparator<RankKey> RANK_ORDER = Comparator
+            .comparingLong(RankKey::score).reversed()
+            .thenComparing(Comparator.comparingLong(RankKey::roomId).reversed());
+
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
+
+    private final ConcurrentSkipListSet<RankKey> ranking = new ConcurrentSkipListSet<>(RANK_ORDER);
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        roomOccupancyRegistry.addListener(this);
+    }
+
+    // 방 등록 (생성 트랜잭션 커밋 후 반영)
+    public void register(StudyRoom room) {
+        RoomMeta meta = RoomMeta.from(room);
+        runAfterCommit(() -> put(meta));
+    }
+
+    // 방 제거 (삭제 트랜잭션 커밋 후 반영)
+    public void remove(Long roomId) {
+        runAfterCommit(() -> entries.computeIfPresent(roomId, (id, entry) -> {
+            ranking.remove(entry.key());
+            log.debug("인기순 인덱스 제거 - 방ID: {}", id);
+            return null;
+        }));
+    }
+
+    // 전체 재구성 (애플리케이션 시작 시)
+    public void rebuild(Collection<StudyRoom> rooms) {
+        entries.clear();
+        ranking.clear();
+        rooms.stream()
+                .filter(room -> room.getDeletedAt() == null)
+                .map(RoomMeta::from)
+                .forEach(this::put);
+        log.info("✅ 인기순 인덱스 재구성 완료 - 방: {}개", entries.size());
+    }
+
+    @Override
+    public void onOccupancyChanged(Long roomId) {
+        entries.computeIfPresent(roomId, (id, entry) -> reposition(entry, entry.meta()));
+    }
+
+    // (score, roomId) 커서 다음부터 조건에 맞는 방을 순서대로 최대 fetchSize개 조회 (candidateRoomIds null이면 전체)
+    public List<RankedRoom> findPage(Long cursorScore, Long cursorRoomId, int fetchSize,
+                               StudyRoomCategory category, Set<Long> candidateRoomIds, boolean hideFullRooms) {
+        NavigableSet<RankKey> view = (cursorScore != null && cursorRoomId != null)
+                ? ranking.tailSet(new RankKey(cursorScore, cursorRoomId), false)
+                : ranking;
+
+        List<RankedRoom> rooms = new ArrayList<>(fetchSize);
+        for (RankKey key : view) {
+            Entry entry = entries.get(key.roomId());
+            if (entry == null || !entry.key().equals(key)) {
+                continue; // 재정렬 중인 항목은 새 위치에서 조회됨
+            }
+            RoomMeta meta = entry.meta();
+            if (category != null && meta.category() != category) {
+                continue;
+            }
+            if (candidateRoomIds != null && !candidateRoomIds.contains(key.roomId())) {
+                continue;
+            }
+            if (hideFullRooms && key.score() >= meta.maxParticipants()) {
+                continue;
+            }
+            rooms.add(new RankedRoom(key.roomId(), key.score()));
+            if (rooms.size() >= fetchSize) {
+                break;
+            }
+        }
+        return rooms;
+    }
+
+    // 현재 참가자 수 기준으로 해당 조건의 목록에 나오는 방인지 (카테고리 null이면 전체)
+    public boolean isListed(Long roomId, StudyRoomCategory category, boolean hideFullRooms) {
+        Entry entry = entries.get(roomId);
+        if (entry == null) {
+            return false;
+        }
+        RoomMeta meta = entry.meta();
+        return (category == null || meta.category() == category)
+                && !(hideFullRooms && entry.key().score() >= meta.maxParticipants());
+    }
+
+    // 인덱스에 기록된 현재 점수 (없으면 0)
+    public long getScore(Long roomId) {
+        Entry entry = entries.get(roomId);
+        return entry != null ? entry.key().score() : 0L;
+    }
+
+    private void put(RoomMeta meta) {
+        entries.compute(meta.roomId(), (id, old) -> reposition(old, meta));
+    }
+
+    // 레지스트리의 최신 참가자 수로 위치 갱신 (entries.compute 안에서만 호출)
+    private Entry reposition(Entry old, RoomMeta meta) {
+        RankKey key = new RankKey(roomOccupancyRegistry.getCount(meta.roomId()), meta.roomId());
+        if (old != null && old.key().equals(key)) {
+            return new Entry(key, meta);
+        }
+        ranking.add(key);
+        if (old != null) {
+            ranking.remove(old.key());
+        }
+        return new Entry(key, meta);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 조회 시점의 방 ID와 점수 (다음 커서로 사용)
+    public record RankedRoom(Long roomId, long score) {
+    }
+
+    private record RankKey(long score, long roomId) {
+    }
+
+    private record RoomMeta(long roomId, StudyRoomCategory category, int maxParticipants) {
+        static RoomMeta from(StudyRoom room) {
+            int max = room.getMaxParticipants() != null ? room.getMaxParticipants() : 6;
+            return new RoomMeta(room.getRoomId(), room.getCategory(), max);
+        }
+    }
+
+    private record Entry(RankKey key, RoomMeta meta) {
+    }
+}
@@ -4,9 +4,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +29,16 @@ public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long> {
 
     Optional<StudyRoom> findByLiveKitRoomId(String liveKitRoomId);
 
+    // LiveKit 방 ID가 아직 없을 때만 지정 (방 엔티티를 다시 불러와 저장하지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE StudyRoom s SET s.liveKitRoomId = :liveKitRoomId " +
+            "WHERE s.roomId = :roomId AND (s.liveKitRoomId IS NULL OR s.liveKitRoomId = '')")
+    int assignLiveKitRoomId(@Param("roomId") Long roomId, @Param("liveKitRoomId") String liveKitRoomId);
+
+    @Query("SELECT s.liveKitRoomId FROM StudyRoom s WHERE s.roomId = :roomId")
+    Optional<String> findLiveKitRoomIdByRoomId(@Param("roomId") Long roomId);
+
     @Query("SELECT DISTINCT sr FROM StudyRoom sr " +
             "LEFT JOIN FETCH sr.user " +
             "WHERE sr.deletedAt IS NULL " +
@@ -35,4 +48,10 @@ public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long> {
             @Param("cursor") Long cursor,
             Pageable pageable
     );
+
+    // 여러 방을 방장 정보와 함께 한 번에 조회
+    @Query("SELECT sr FROM StudyRoom sr " +
+            "LEFT JOIN FETCH sr.user " +
+            "WHERE sr.roomId IN :roomIds")
+    List<StudyRoom> findAllWithUserByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
 }
@@ -0,0 +1,224 @@
+package org.oreo.smore.domain.studyroom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 스터디룸 제목/태그 검색용 인메모리 역색인 (1-gram + 2-gram, 공백 무시)
+// 결과는 roomId 내림차순(최신순)이라 기존 커서(roomId < cursor) 페이징에 그대로 사용
+@Slf4j
+@Component
+public class StudyRoomSearchIndex {
+
+    private final ConcurrentHashMap<String, ConcurrentSkipListSet<Long>> postings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Document> documents = new ConcurrentHashMap<>();
+
+    // 방 등록 (생성 트랜잭션 커밋 후 반영)
+    public void register(StudyRoom room) {
+        Document document = Document.from(room);
+        runAfterCommit(() -> put(document));
+    }
+
+    // 방 제거 (삭제 트랜잭션 커밋 후 반영)
+    public void remove(Long roomId) {
+        runAfterCommit(() -> documents.computeIfPresent(roomId, (id, old) -> {
+            unlink(old);
+            log.debug("검색 인덱스 제거 - 방ID: {}", id);
+            return null;
+        }));
+    }
+
+    // 전체 재구성 (애플리케이션 시작 시)
+    public void rebuild(Collection<StudyRoom> rooms) {
+        documents.clear();
+        postings.clear();
+        rooms.stream()
+                .filter(room -> room.getDeletedAt() == null)
+                .map(Document::from)
+                .forEach(this::put);
+        log.info("✅ 스터디룸 검색 인덱스 재구성 완료 - 방: {}개, 토큰: {}개", documents.size(), postings.size());
+    }
+
+    // 검색어와 일치하는 방 ID를 cursor 미만에서 최신순으로 최대 limit개 조회
+    public List<Long> search(String keyword, StudyRoomCategory category, long cursor, int limit) {
+        String query = normalize(keyword);
+        List<Long> result = new ArrayList<>(Math.min(limit, 64));
+        if (query.isEmpty() || limit <= 0) {
+            return result;
+        }
+
+        Set<String> grams = queryGrams(query);
+        NavigableSet<Long> candidates = smallestPosting(grams);
+        if (candidates == null) {
+            return result;
+        }
+
+        for (Long roomId : candidates.tailSet(cursor, false)) {
+            Document document = documents.get(roomId);
+            if (document == null || (category != null && document.category() != category)) {
+                continue;
+            }
+            if (!document.matches(grams, query)) {
+                continue;
+            }
+            result.add(roomId);
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // 검색어와 일치하는 전체 방 ID (인기순 정렬처럼 다른 순서로 페이징할 때 사용)
+    public Set<Long> matchAll(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> grams = queryGrams(query);
+        NavigableSet<Long> candidates = smallestPosting(grams);
+        if (candidates == null) {
+            return Collections.emptySet();
+        }
+
+        Set<Long> result = new HashSet<>();
+        for (Long roomId : candidates) {
+            Document document = documents.get(roomId);
+            if (document != null && document.matches(grams, query)) {
+                result.add(roomId);
+            }
+        }
+        return result;
+    }
+
+    private void put(Document document) {
+        documents.compute(document.roomId(), (id, old) -> {
+            if (old != null) {
+                unlink(old);
+            }
+            for (String gram : document.grams()) {
+                postings.computeIfAbsent(gram, g -> new ConcurrentSkipListSet<>(Comparator.reverseOrder()))
+                        .add(id);
+            }
+            return document;
+        });
+    }
+
+    private void unlink(Document document) {
+        for (String gram : document.grams()) {
+            postings.computeIfPresent(gram, (g, ids) -> {
+                ids.remove(document.roomId());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    // 가장 짧은 포스팅 리스트만 순회해 검색 비용을 제한
+    private NavigableSet<Long> smallestPosting(Set<String> grams) {
+        NavigableSet<Long> smallest = null;
+        for (String gram : grams) {
+            NavigableSet<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return null;
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        return smallest;
+    }
+
+    private static Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static Set<String> fieldGrams(String field) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < field.length(); i++) {
+            grams.add(field.substring(i, i + 1));
+            if (i + 2 <= field.length()) {
+                grams.add(field.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 소문자 변환 + 공백 제거 ("자바 스터디" == "자바스터디")
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        text.toLowerCase().codePoints()
+                .filter(cp -> !Character.isWhitespace(cp))
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Document(Long roomId, StudyRoomCategory category, List<String> fields, Set<String> grams) {
+
+        static Document from(StudyRoom room) {
+            List<String> fields = new ArrayList<>();
+            fields.add(normalize(room.getTitle()));
+            if (room.getTag() != null) {
+                for (String tag : room.getTag().split(",")) {
+                    String normalized = normalize(tag);
+                    if (!normalized.isEmpty()) {
+                        fields.add(normalized);
+                    }
+                }
+            }
+
+            Set<String> grams = new HashSet<>();
+            fields.forEach(field -> grams.addAll(fieldGrams(field)));
+            return new Document(room.getRoomId(), room.getCategory(), fields, grams);
+        }
+
+        // n-gram 포함 여부로 후보를 거른 뒤 실제 부분 문자열 일치 확인
+        boolean matches(Set<String> queryGrams, String query) {
+            if (!grams.containsAll(queryGrams)) {
+                return false;
+            }
+            for (String field : fields) {
+                if (field.contains(query)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
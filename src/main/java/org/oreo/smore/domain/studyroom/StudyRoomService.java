@@ -9,6 +9,7 @@ import org.oreo.smore.domain.chat.ChatRoomService;
 import org.oreo.smore.domain.chat.StudyRoomNotificationService;
 import org.oreo.smore.domain.participant.Participant;
 import org.oreo.smore.domain.participant.ParticipantRepository;
+import org.oreo.smore.domain.participant.RoomOccupancyRegistry;
 import org.oreo.smore.domain.studyroom.dto.RecentStudyRoomsResponse;
 import org.oreo.smore.domain.studyroom.dto.StudyRoomDetailResponse;
 import org.oreo.smore.domain.studyroom.dto.StudyRoomInfoReadResponse;
@@ -31,6 +32,8 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class StudyRoomService {
+    private static final int RECENT_ROOM_LIMIT = 3;
+
     private final StudyRoomRepository roomRepository;
     private final ParticipantRepository participantRepository;
     private final UserRepository userRepo;
@@ -38,49 +41,130 @@ public class StudyRoomService {
     private final LiveKitRoomService liveKitRoomService;
     private final ChatRoomService chatRoomService;
     private final StudyRoomNotificationService notificationService;
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
+    private final StudyRoomPopularityIndex studyRoomPopularityIndex;
+    private final StudyRoomSearchIndex studyRoomSearchIndex;
+    private final StudyRoomFirstPageCache studyRoomFirstPageCache;
 
     // TODO : N+1 문제 해결하기
+    @Transactional(readOnly = true)
     public CursorPage<StudyRoomInfoReadResponse> listStudyRooms(
             Long page,
+            Long cursorScore,
             int limit,
             String search,
             String category,
             String sort,
             boolean hideFullRooms
     ) {
+        if (isPopularSort(sort)) {
+            return listPopularStudyRooms(page, cursorScore, limit, search, category, hideFullRooms);
+        }
+
         long cursor = (page != null && page > 1) ? page : Long.MAX_VALUE;
-        ;
-        Sort sortOrder = buildSortOrder(sort);
-        Pageable pageable = PageRequest.of(0, limit + 1, sortOrder);
 
-        List<StudyRoom> rooms = fetchRooms(cursor, search, category, pageable);
-        List<StudyRoomInfoReadResponse> dtos = mapAndFilterRooms(rooms, hideFullRooms);
-        if (isPopularSort(sort)) {
-            applyPopularSort(dtos);
+        List<StudyRoom> rooms;
+        if (search != null && !search.isBlank()) {
+            rooms = searchRooms(cursor, limit + 1, search, category);
+        } else {
+            Pageable pageable = PageRequest.of(0, limit + 1, Sort.by(Sort.Direction.DESC, "createdAt"));
+            rooms = fetchRooms(cursor, category, pageable);
         }
+        List<StudyRoomInfoReadResponse> dtos = mapAndFilterRooms(rooms, hideFullRooms);
         return CursorPage.of(dtos, limit);
     }
 
-    private Sort buildSortOrder(String sort) {
-        if (isPopularSort(sort)) {
-            // 키셋 페이징을 위해 일관된 정렬 컬럼(실존 필드) 사용
-            return Sort.by(Sort.Direction.DESC, "roomId");
+    // 인기순: 인덱스에서 (참가자 수, roomId) 복합 커서로 정렬·필터된 방 ID를 가져온 뒤 일괄 조회
+    private CursorPage<StudyRoomInfoReadResponse> listPopularStudyRooms(
+            Long page,
+            Long cursorScore,
+            int limit,
+            String search,
+            String category,
+            boolean hideFullRooms
+    ) {
+        Optional<StudyRoomCategory> categoryFilter = parseCategory(category);
+        if (isUnknownCategory(category, categoryFilter)) {
+            return CursorPage.of(List.<StudyRoomInfoReadResponse>of(), limit);
         }
-        return Sort.by(Sort.Direction.DESC, "createdAt");
+
+        Set<Long> candidateRoomIds = (search != null && !search.isBlank())
+                ? studyRoomSearchIndex.matchAll(search)
+                : null;
+
+        Long cursorRoomId = (cursorScore != null && page != null && page > 1) ? page : null;
+        List<StudyRoomPopularityIndex.RankedRoom> ranked = studyRoomPopularityIndex.findPage(
+                cursorScore, cursorRoomId, limit + 1, categoryFilter.orElse(null), candidateRoomIds, hideFullRooms);
+
+        if (ranked.isEmpty()) {
+            return CursorPage.of(List.<StudyRoomInfoReadResponse>of(), limit);
+        }
+
+        Map<Long, Long> scoreMap = new HashMap<>(ranked.size() * 2);
+        ranked.forEach(room -> scoreMap.put(room.roomId(), room.score()));
+
+        Map<Long, StudyRoom> roomMap = roomRepository.findAllWithUserByRoomIdIn(scoreMap.keySet())
+                .stream()
+                .collect(Collectors.toMap(StudyRoom::getRoomId, room -> room));
+
+        List<StudyRoomInfoReadResponse> dtos = ranked.stream()
+                .map(room -> roomMap.get(room.roomId()))
+                .filter(Objects::nonNull)
+                .map(room -> toDto(room, scoreMap))
+                .collect(Collectors.toList());
+
+        return CursorPage.of(dtos, limit, StudyRoomInfoReadResponse::getCurrentParticipants);
     }
 
     private boolean isPopularSort(String sort) {
         return "popular".equalsIgnoreCase(sort);
     }
 
+    // 검색어가 있으면 검색 인덱스에서 최신순 방 ID를 받아 일괄 조회
+    private List<StudyRoom> searchRooms(long cursor, int fetchSize, String search, String category) {
+        Optional<StudyRoomCategory> categoryFilter = parseCategory(category);
+        if (isUnknownCategory(category, categoryFilter)) {
+            return List.of();
+        }
+
+        List<Long> roomIds = studyRoomSearchIndex.search(search, categoryFilter.orElse(null), cursor, fetchSize);
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, StudyRoom> roomMap = roomRepository.findAllWithUserByRoomIdIn(roomIds)
+                .stream()
+                .collect(Collectors.toMap(StudyRoom::getRoomId, room -> room));
+
+        return roomIds.stream()
+                .map(roomMap::get)
+                .filter(room -> room != null && room.getDeletedAt() == null)
+                .collect(Collectors.toList());
+    }
+
+    // 카테고리 파라미터 해석 - 없거나 잘못된 값이면 empty
+    private Optional<StudyRoomCategory> parseCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(StudyRoomCategory.valueOf(category.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 카테고리를 지정했지만 해석하지 못한 경우 - 최신순 조회와 같게 결과 없음으로 처리
+    private boolean isUnknownCategory(String category, Optional<StudyRoomCategory> parsed) {
+        return category != null && !category.isBlank() && parsed.isEmpty();
+    }
+
     private List<StudyRoom> fetchRooms(
             long cursor,
-            String search,
             String category,
             Pageable pageable
     ) {
-        if ((search == null || search.isBlank()) &&
-                (category == null || category.isBlank())) {
+        if (category == null || category.isBlank()) {
             // 필터 없을 때는 Fetch Join 사용
             return roomRepository.findAllWithUserFetchJoin(cursor, pageable);
         }
@@ -89,27 +173,12 @@ public class StudyRoomService {
             List<Predicate> predicates = new ArrayList<>();
             predicates.add(cb.isNull(root.get("deletedAt")));
             predicates.add(cb.lessThan(root.get("roomId"), cursor));
-            addSearchPredicate(cb, root, predicates, search);
             addCategoryPredicate(cb, root, predicates, category);
             return cb.and(predicates.toArray(new Predicate[0]));
         };
         return roomRepository.findAll(spec, pageable).getContent();
     }
 
-    private void addSearchPredicate(
-            CriteriaBuilder cb,
-            Root<StudyRoom> root,
-            List<Predicate> preds,
-            String search
-    ) {
-        if (search != null && !search.isBlank()) {
-            preds.add(cb.like(
-                    cb.lower(root.get("title")),
-                    "%" + search.toLowerCase() + "%"
-            ));
-        }
-    }
-
     private void addCategoryPredicate(
             CriteriaBuilder cb,
             Root<StudyRoom> root,
@@ -140,14 +209,8 @@ public class StudyRoomService {
             return List.of();
         }
 
-        // Bulk Query로 참가자 수 한 번에 조회
-        Map<Long, Long> participantCountMap = participantRepository
-                .countActiveParticipantsByRoomIds(roomIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> (Long) arr[1]
-                ));
+        // 참가자 수 레지스트리에서 한 번에 조회
+        Map<Long, Long> participantCountMap = roomOccupancyRegistry.getCounts(roomIds);
 
         return rooms.stream()
                 .map(room -> toDto(room, participantCountMap))
@@ -172,12 +235,6 @@ public class StudyRoomService {
 //        return StudyRoomInfoReadResponse.of(room, count, creator.getNickname());
     }
 
-    private void applyPopularSort(List<StudyRoomInfoReadResponse> dtos) {
-        dtos.sort(
-                Comparator.comparingLong(StudyRoomInfoReadResponse::getCurrentParticipants).reversed()
-        );
-    }
-
     // 방 삭제
     @Transactional
     public void deleteStudyRoom(Long roomId, Long ownerId) {
@@ -216,13 +273,16 @@ public class StudyRoomService {
 
             room.delete();
             roomRepository.save(room);
+            studyRoomPopularityIndex.remove(roomId);
+            studyRoomSearchIndex.remove(roomId);
+            studyRoomFirstPageCache.invalidate();
             log.info("✅ 스터디룸 삭제 완료 - 방ID: {}", roomId);
 
-            // 6. LiveKit 방 삭제
+            // 6. LiveKit 방 삭제 (커밋 후 비동기 요청)
             try {
-                String roomName = LiveKitRoomService.generateRoomName(roomId);
-                liveKitRoomService.deleteRoomSafely(roomName);
-                log.info("✅ LiveKit 방 삭제 완료 - 방ID: {}, LiveKit방명: {}", roomId, roomName);
+                String roomName = liveKitRoomName(room);
+                liveKitRoomService.deleteRoomAfterCommit(roomName);
+                log.info("✅ LiveKit 방 삭제 예약 - 방ID: {}, LiveKit방명: {}", roomId, roomName);
             } catch (Exception e) {
                 log.error("❌ LiveKit 방 삭제 실패 (무시됨) - 방ID: {}, 오류: {}", roomId, e.getMessage());
             }
@@ -236,6 +296,13 @@ public class StudyRoomService {
         }
     }
 
+    // 생성 시 저장한 LiveKit 방 이름, 없으면 방ID 기반 이름
+    private String liveKitRoomName(StudyRoom room) {
+        return room.hasLiveKitRoom()
+                ? room.getLiveKitRoomId()
+                : LiveKitRoomService.generateRoomName(room.getRoomId());
+    }
+
     private void validateRoomOwner(Long roomId, Long ownerId) {
 
         StudyRoom studyRoom = roomRepository.findById(roomId)
@@ -288,13 +355,16 @@ public class StudyRoomService {
 
             room.delete();
             roomRepository.save(room);
+            studyRoomPopularityIndex.remove(roomId);
+            studyRoomSearchIndex.remove(roomId);
+            studyRoomFirstPageCache.invalidate();
             log.info("✅ 스터디룸 소프트 삭제 완료 - 방ID: {}", roomId);
 
-            // 5. LiveKit 방 삭제
+            // 5. LiveKit 방 삭제 (커밋 후 비동기 요청)
             try {
-                String roomName = LiveKitRoomService.generateRoomName(roomId);
-                liveKitRoomService.deleteRoomSafely(roomName);
-                log.info("✅ LiveKit 방 삭제 완료 - 방ID: {}, LiveKit방명: {}", roomId, roomName);
+                String roomName = liveKitRoomName(room);
+                liveKitRoomService.deleteRoomAfterCommit(roomName);
+                log.info("✅ LiveKit 방 삭제 예약 - 방ID: {}, LiveKit방명: {}", roomId, roomName);
             } catch (Exception liveKitError) {
                 log.error("❌ LiveKit 방 삭제 실패 (무시됨) - 방ID: {}, 오류: {}", roomId, liveKitError.getMessage());
             }
@@ -319,7 +389,7 @@ public class StudyRoomService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "스터디룸 생성자가 존재하지 않습니다."));
 
         // 3. 현재 참가자 수 계산 (퇴장 안 했고 강퇴도 안 당한 사용자)
-        int currentParticipants = (int) participantRepository.countActiveParticipantsByRoomId(roomId);
+        int currentParticipants = roomOccupancyRegistry.getCount(roomId);
 
         // 4. 비밀번호 존재 여부 판단
         boolean hasPassword = room.getPassword() != null && !room.getPassword().isBlank();
@@ -347,26 +417,35 @@ public class StudyRoomService {
     }
 
     public RecentStudyRoomsResponse getRecentStudyRooms(Long userId) {
-        // 1. 유저의 참여 기록 중 최신 참여 기준으로 정렬
-        List<Participant> recentParticipants = participantRepository
-                .findByUserIdOrderByJoinedAtDesc(userId);
-
-        // 2. 중복 없는 roomId 3개 추출 (최신순 유지)
-        LinkedHashSet<Long> distinctRoomIds = new LinkedHashSet<>();
-        for (Participant p : recentParticipants) {
-            distinctRoomIds.add(p.getRoomId());
-            if (distinctRoomIds.size() == 3) break;
+        // 1. 최근 참여한 방 ID 3개 (중복 제거, 최신순)
+        List<Long> recentRoomIds = participantRepository
+                .findRecentDistinctRoomIdsByUserId(userId, PageRequest.of(0, RECENT_ROOM_LIMIT));
+
+        if (recentRoomIds.isEmpty()) {
+            return RecentStudyRoomsResponse.builder()
+                    .rooms(List.of())
+                    .build();
         }
 
-        List<RecentStudyRoomsResponse.RoomDto> rooms = distinctRoomIds.stream()
+        // 2. 방 + 방장 일괄 조회, 참가자 수는 레지스트리에서 조회
+        Map<Long, StudyRoom> roomMap = roomRepository.findAllWithUserByRoomIdIn(recentRoomIds)
+                .stream()
+                .collect(Collectors.toMap(StudyRoom::getRoomId, room -> room));
+        Map<Long, Long> participantCounts = roomOccupancyRegistry.getCounts(recentRoomIds);
+
+        List<RecentStudyRoomsResponse.RoomDto> rooms = recentRoomIds.stream()
                 .map(roomId -> {
-                    StudyRoom room = roomRepository.findById(roomId)
-                            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "스터디룸이 존재하지 않습니다."));
+                    StudyRoom room = roomMap.get(roomId);
+                    if (room == null) {
+                        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "스터디룸이 존재하지 않습니다.");
+                    }
 
-                    User owner = userRepo.findById(room.getUserId())
-                            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "방장이 존재하지 않습니다."));
+                    User owner = room.getUser();
+                    if (owner == null) {
+                        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "방장이 존재하지 않습니다.");
+                    }
 
-                    int currentParticipants = (int) participantRepository.countActiveParticipantsByRoomId(roomId);
+                    int currentParticipants = participantCounts.getOrDefault(roomId, 0L).intValue();
 
                     boolean hasPassword = room.getPassword() != null && !room.getPassword().isBlank();
 
@@ -47,6 +47,12 @@ public class StudyRoomInfoReadResponse implements Identifiable {
         return roomId;
     }
 
+    // 참가자 수만 바꾼 복사본 (첫 페이지 캐시 갱신용)
+    public StudyRoomInfoReadResponse withCurrentParticipants(long currentParticipants) {
+        return new StudyRoomInfoReadResponse(roomId, title, description, thumbnailUrl, tag, category,
+                maxParticipants, currentParticipants, createdAt, isPomodoro, isPrivate, creator);
+    }
+
     @Getter
     @AllArgsConstructor
     public static class CreatorDto {
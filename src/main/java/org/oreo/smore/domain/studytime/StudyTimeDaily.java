@@ -0,0 +1,32 @@
+package org.oreo.smore.domain.studytime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 사용자별 일자별 공부 시간 집계 (초)
+@Entity
+@Table(name = "study_time_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uk_study_time_daily_user_date", columnNames = {"user_id", "study_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudyTimeDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "study_time_daily_id", nullable = false)
+    private Long studyTimeDailyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "study_date", nullable = false)
+    private LocalDate studyDate;
+
+    @Column(name = "seconds", nullable = false)
+    private Long seconds;
+}
@@ -0,0 +1,36 @@
+package org.oreo.smore.domain.studytime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StudyTimeDailyRepository extends JpaRepository<StudyTimeDaily, Long> {
+
+    // (사용자, 일자) 행이 없으면 만들고 있으면 누적 - 한 문장으로 처리해 동시 삽입에도 중복 키 오류 없음
+    // 영속성 컨텍스트는 비우지 않음 (호출 측에서 읽어 둔 엔티티가 준영속 상태가 되지 않도록)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO study_time_daily (user_id, study_date, seconds) " +
+            "VALUES (:userId, :studyDate, :seconds) " +
+            "ON DUPLICATE KEY UPDATE seconds = seconds + :seconds",
+            nativeQuery = true)
+    int addSeconds(@Param("userId") Long userId,
+                   @Param("studyDate") LocalDate studyDate,
+                   @Param("seconds") long seconds);
+
+    List<StudyTimeDaily> findAllByUserIdAndStudyDateGreaterThanEqual(Long userId, LocalDate from);
+
+    List<StudyTimeDaily> findAllByUserId(Long userId);
+
+    List<StudyTimeDaily> findAllByUserIdInAndStudyDate(Collection<Long> userIds, LocalDate studyDate);
+
+    @Modifying
+    @Query("DELETE FROM StudyTimeDaily d WHERE d.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
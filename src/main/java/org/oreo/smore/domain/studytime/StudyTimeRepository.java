@@ -1,6 +1,9 @@
 package org.oreo.smore.domain.studytime;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -14,4 +17,11 @@ public interface StudyTimeRepository extends JpaRepository<StudyTime, Long> {
     List<StudyTime> findAllByUserIdAndCreatedAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
 
     List<StudyTime> findAllByUserId(Long userId);
+
+    // 일자별 집계 갱신 시 동시 요청이 같은 구간을 중복 누적하지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StudyTime> findFirstByUserIdOrderByCreatedAtDesc(Long userId);
+
+    @Query("SELECT DISTINCT s.userId FROM StudyTime s")
+    List<Long> findDistinctUserIds();
 }
@@ -0,0 +1,44 @@
+package org.oreo.smore.domain.studytime;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기존 사용자의 study_time_daily 일회성 백필
+// study-time.rollup.backfill=true 로 한 번 기동하면 사용자별로 원본에서 다시 계산
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "study-time.rollup.backfill", havingValue = "true")
+public class StudyTimeRollupBackfill {
+
+    private final StudyTimeRepository studyTimeRepository;
+    private final StudyTimeRollupService studyTimeRollupService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long start = System.currentTimeMillis();
+        List<Long> userIds = studyTimeRepository.findDistinctUserIds();
+        log.info("📊 공부 시간 일자별 집계 백필 시작 - 사용자: {}명", userIds.size());
+
+        int rows = 0;
+        int failed = 0;
+        for (Long userId : userIds) {
+            try {
+                // 사용자 단위 트랜잭션
+                rows += studyTimeRollupService.rebuild(userId);
+            } catch (Exception e) {
+                failed++;
+                log.error("❌ 공부 시간 집계 백필 실패 - 사용자ID: {}, 오류: {}", userId, e.getMessage());
+            }
+        }
+
+        log.info("✅ 공부 시간 일자별 집계 백필 완료 - 사용자: {}명, 행: {}개, 실패: {}명, {}ms",
+                userIds.size(), rows, failed, System.currentTimeMillis() - start);
+    }
+}
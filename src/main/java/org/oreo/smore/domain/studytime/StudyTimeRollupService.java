@@ -0,0 +1,104 @@
+package org.oreo.smore.domain.studytime;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// study_time_daily 집계 관리 (사용자, 일자) → 초
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyTimeRollupService {
+
+    private final StudyTimeDailyRepository studyTimeDailyRepository;
+    private final StudyTimeRepository studyTimeRepository;
+
+    // [from, to) 구간을 자정 기준으로 나눠 일자별로 누적
+    @Transactional
+    public void addInterval(Long userId, LocalDateTime from, LocalDateTime to) {
+        splitByDay(from, to).forEach((date, seconds) -> studyTimeDailyRepository.addSeconds(userId, date, seconds));
+    }
+
+    // [from, to] 일자별 초를 epoch day 인덱스 배열로 (from이 null이면 가장 오래된 집계일부터)
+    @Transactional(readOnly = true)
+    public DailySeconds getDailySeconds(Long userId, LocalDate from, LocalDate to) {
+        List<StudyTimeDaily> rows = from == null
+                ? studyTimeDailyRepository.findAllByUserId(userId)
+                : studyTimeDailyRepository.findAllByUserIdAndStudyDateGreaterThanEqual(userId, from);
+
+        LocalDate firstDay = from;
+        if (firstDay == null) {
+            firstDay = to;
+            for (StudyTimeDaily row : rows) {
+                if (row.getStudyDate().isBefore(firstDay)) {
+                    firstDay = row.getStudyDate();
+                }
+            }
+        }
+
+        long firstEpochDay = firstDay.toEpochDay();
+        long[] secondsByDay = new long[(int) (to.toEpochDay() - firstEpochDay) + 1];
+        for (StudyTimeDaily row : rows) {
+            long index = row.getStudyDate().toEpochDay() - firstEpochDay;
+            if (index >= 0 && index < secondsByDay.length) {
+                secondsByDay[(int) index] += row.getSeconds();
+            }
+        }
+        return new DailySeconds(firstDay, secondsByDay);
+    }
+
+    // 한 사용자의 집계를 study_times 원본으로 다시 계산 (백필용)
+    @Transactional
+    public int rebuild(Long userId) {
+        studyTimeDailyRepository.deleteAllByUserId(userId);
+
+        Map<LocalDate, Long> dailySeconds = new HashMap<>();
+        for (StudyTime record : studyTimeRepository.findAllByUserId(userId)) {
+            LocalDateTime to = record.getDeletedAt() != null ? record.getDeletedAt() : LocalDateTime.now();
+            splitByDay(record.getCreatedAt(), to).forEach((date, seconds) -> dailySeconds.merge(date, seconds, Long::sum));
+        }
+
+        // 삭제 후 그 사이 실시간 누적이 먼저 행을 만들어도 중복 키 없이 합산
+        dailySeconds.forEach((date, seconds) -> studyTimeDailyRepository.addSeconds(userId, date, seconds));
+        return dailySeconds.size();
+    }
+
+    // 자정을 넘는 구간은 날짜별로 나눔 (역전/빈 구간은 무시)
+    static Map<LocalDate, Long> splitByDay(LocalDateTime from, LocalDateTime to) {
+        Map<LocalDate, Long> result = new LinkedHashMap<>();
+        if (from == null || to == null || !from.isBefore(to)) {
+            return result;
+        }
+
+        for (LocalDate date = from.toLocalDate(); !date.isAfter(to.toLocalDate()); date = date.plusDays(1)) {
+            LocalDateTime dayStart = date.atStartOfDay();
+            LocalDateTime dayEndExclusive = date.plusDays(1).atStartOfDay();
+
+            LocalDateTime actualStart = from.isAfter(dayStart) ? from : dayStart;
+            LocalDateTime actualEnd = to.isBefore(dayEndExclusive) ? to : dayEndExclusive;
+
+            if (actualStart.isBefore(actualEnd)) {
+                result.merge(date, Duration.between(actualStart, actualEnd).getSeconds(), Long::sum);
+            }
+        }
+        return result;
+    }
+
+    // secondsByDay[i] = firstDay + i 일의 공부 시간(초)
+    public record DailySeconds(LocalDate firstDay, long[] secondsByDay) {
+
+        public long secondsOf(LocalDate date) {
+            long index = date.toEpochDay() - firstDay.toEpochDay();
+            return index >= 0 && index < secondsByDay.length ? secondsByDay[(int) index] : 0L;
+        }
+    }
+}
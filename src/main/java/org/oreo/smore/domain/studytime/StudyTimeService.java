@@ -5,20 +5,18 @@ import org.oreo.smore.domain.studytime.dto.response.StudyTimeStatisticsResponse;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.*;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class StudyTimeService {
 
     private final StudyTimeRepository studyTimeRepository;
+    private final StudyTimeRollupService studyTimeRollupService;
+    private final TodayStudyTimeService todayStudyTimeService;
 
     /**
      * 공부 시작
@@ -35,11 +33,18 @@ public class StudyTimeService {
     }
 
     @CacheEvict(value = "study:stats", key = "#userId")
+    @Transactional
     public void updateStudyTime(Long userId) {
-        StudyTime latestStudyTime = studyTimeRepository.findTopByUserIdOrderByCreatedAtDesc(userId)
+        StudyTime latestStudyTime = studyTimeRepository.findFirstByUserIdOrderByCreatedAtDesc(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자의 공부 기록이 없습니다."));
 
-        latestStudyTime.setDeletedAt(LocalDateTime.now());
+        // 이전 종료 시각 이후로 늘어난 구간만 일자별 집계에 누적
+        LocalDateTime previousEnd = latestStudyTime.getDeletedAt();
+        LocalDateTime now = LocalDateTime.now();
+        studyTimeRollupService.addInterval(userId, previousEnd, now);
+        todayStudyTimeService.record(userId, previousEnd, now);
+
+        latestStudyTime.setDeletedAt(now);
         studyTimeRepository.save(latestStudyTime);
     }
 
@@ -48,90 +53,15 @@ public class StudyTimeService {
         LocalDate today = LocalDate.now();
         LocalDate oneYearAgo = today.minusYears(1);
 
-        // 1. 전체 기록 조회 (연속 출석은 전체 범위 필요)
-        List<StudyTime> allRecords = studyTimeRepository.findAllByUserId(userId);
-
-        // 일자별 초 단위 집계로 변경 (분 손실 방지)
-        Map<LocalDate, Long> dailySeconds = new HashMap<>();
-
-        for (StudyTime record : allRecords) {
-            LocalDateTime from = record.getCreatedAt();
-            LocalDateTime to = record.getDeletedAt();
-            if (to == null) to = LocalDateTime.now(); // 진행 중 세션 처리
-
-            // 방어: 역전 구간 스킵
-            if (!from.isBefore(to)) continue;
-
-            for (LocalDate date = from.toLocalDate();
-                 !date.isAfter(to.toLocalDate());
-                 date = date.plusDays(1)) {
+        // 1. 일자별 집계 조회 (최근 1년 + 그래프 범위)
+        LocalDate from = oneYearAgo.minusDays(1);
+        StudyTimeRollupService.DailySeconds daily = studyTimeRollupService.getDailySeconds(userId, from, today);
 
-                LocalDateTime dayStart = date.atStartOfDay();
-                LocalDateTime dayEndExclusive = date.plusDays(1).atStartOfDay(); // 00:00 (배타)
-
-                LocalDateTime actualStart = from.isAfter(dayStart) ? from : dayStart;
-                LocalDateTime actualEnd = to.isBefore(dayEndExclusive) ? to : dayEndExclusive;
-
-                if (actualStart.isBefore(actualEnd)) {
-                    long seconds = Duration.between(actualStart, actualEnd).getSeconds();
-                    dailySeconds.merge(date, seconds, Long::sum);
-                }
-            }
+        // 조회 범위 첫날도 출석했다면 연속 출석이 더 길 수 있으므로 전체 집계로 다시 계산
+        if (daily.secondsOf(from) >= StudyTimeStatisticsCalculator.ATTENDANCE_MINUTES * 60L) {
+            daily = studyTimeRollupService.getDailySeconds(userId, null, today);
         }
 
-        Map<LocalDate, Integer> dailyMinutes = new HashMap<>();
-        dailySeconds.forEach((d, sec) -> dailyMinutes.put(d, (int) Math.floorDiv(sec, 60)));      // 버림
-// 또는 반올림: (int) Math.round(sec / 60.0)
-
-
-        // 연속 출석 계산 (전체 기록 기준)
-        int attendanceStreak = 0;
-        for (int i = 1; ; i++) {
-            LocalDate date = today.minusDays(i);
-            if (dailyMinutes.getOrDefault(date, 0) >= 60) attendanceStreak++;
-            else break;
-        }
-        if (dailyMinutes.getOrDefault(today, 0) >= 60) attendanceStreak++; // 오늘 출석했으면 포함
-
-        // weekdayGraph (이번 주 월~일)
-        int[] weekdayGraph = new int[7];
-        LocalDate monday = today.with(DayOfWeek.MONDAY);
-        for (int i = 0; i < 7; i++) {
-            LocalDate date = monday.plusDays(i);
-            int dow = date.getDayOfWeek().getValue() % 7;
-            int minutes = dailyMinutes.getOrDefault(date, 0);
-            weekdayGraph[dow] = minutes / 60;
-        }
-
-        // weeklyGraph (최근 5주)
-        List<Integer> weeklyGraph = new ArrayList<>();
-        for (int i = 4; i >= 0; i--) {
-            LocalDate start = monday.minusWeeks(i);
-            LocalDate end = start.plusDays(6);
-            int sumMinutes = 0;
-            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
-                sumMinutes += dailyMinutes.getOrDefault(date, 0);
-            }
-            weeklyGraph.add(sumMinutes / 60);
-        }
-
-
-        // studyTrack (최근 1년)
-        List<StudyTimeStatisticsResponse.Point> points =
-                Stream.iterate(oneYearAgo, date -> date.plusDays(1))
-                        .limit(ChronoUnit.DAYS.between(oneYearAgo, today) + 1) // 최근 1년 날짜 전부
-                        .map(date -> new StudyTimeStatisticsResponse.Point(
-                                date.toString(),
-                                dailyMinutes.getOrDefault(date, 0) // 없으면 0
-                        ))
-                        .toList();
-
-        return StudyTimeStatisticsResponse.builder()
-                .userId(userId)
-                .totalAttendance(attendanceStreak)
-                .weekdayGraph(Arrays.stream(weekdayGraph).boxed().toList())
-                .weeklyGraph(weeklyGraph)
-                .studyTrack(new StudyTimeStatisticsResponse.StudyTrack(points))
-                .build();
+        return StudyTimeStatisticsCalculator.calculate(userId, today, daily.firstDay(), daily.secondsByDay());
     }
 }
@@ -0,0 +1,77 @@
+package org.oreo.smore.domain.studytime;
+
+import org.oreo.smore.domain.studytime.dto.response.StudyTimeStatisticsResponse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 공부 통계 계산 - 날짜별 Map 대신 epoch day 인덱스 배열(secondsByDay[day - firstDay])로 계산
+// 대시보드 조회마다 실행되므로 날짜 객체/박싱을 응답에 필요한 만큼으로 제한
+final class StudyTimeStatisticsCalculator {
+
+    static final int ATTENDANCE_MINUTES = 60;
+    private static final int WEEKLY_GRAPH_WEEKS = 5;
+
+    private StudyTimeStatisticsCalculator() {
+    }
+
+    // firstDay: secondsByDay[0]의 날짜, 배열은 today까지 (today 포함)
+    static StudyTimeStatisticsResponse calculate(Long userId, LocalDate today, LocalDate firstDay, long[] secondsByDay) {
+        int todayIndex = (int) (today.toEpochDay() - firstDay.toEpochDay());
+
+        // 연속 출석 (어제부터 거꾸로, 오늘 출석했으면 포함)
+        int attendanceStreak = 0;
+        for (int i = todayIndex - 1; i >= 0 && minutes(secondsByDay, i) >= ATTENDANCE_MINUTES; i--) {
+            attendanceStreak++;
+        }
+        if (minutes(secondsByDay, todayIndex) >= ATTENDANCE_MINUTES) {
+            attendanceStreak++;
+        }
+
+        // weekdayGraph (이번 주 월~일, 인덱스 0 = 일요일)
+        int mondayIndex = todayIndex - (today.getDayOfWeek().getValue() - 1);
+        List<Integer> weekdayGraph = new ArrayList<>(7);
+        weekdayGraph.add(minutes(secondsByDay, mondayIndex + 6) / 60);
+        for (int i = 0; i < 6; i++) {
+            weekdayGraph.add(minutes(secondsByDay, mondayIndex + i) / 60);
+        }
+
+        // weeklyGraph (최근 5주, 오래된 주부터)
+        List<Integer> weeklyGraph = new ArrayList<>(WEEKLY_GRAPH_WEEKS);
+        for (int week = WEEKLY_GRAPH_WEEKS - 1; week >= 0; week--) {
+            int start = mondayIndex - week * 7;
+            int sumMinutes = 0;
+            for (int i = start; i < start + 7; i++) {
+                sumMinutes += minutes(secondsByDay, i);
+            }
+            weeklyGraph.add(sumMinutes / 60);
+        }
+
+        // studyTrack (최근 1년)
+        LocalDate oneYearAgo = today.minusYears(1);
+        int trackStart = (int) (oneYearAgo.toEpochDay() - firstDay.toEpochDay());
+        List<StudyTimeStatisticsResponse.Point> points = new ArrayList<>(todayIndex - trackStart + 1);
+        LocalDate date = oneYearAgo;
+        for (int i = trackStart; i <= todayIndex; i++) {
+            points.add(new StudyTimeStatisticsResponse.Point(date.toString(), minutes(secondsByDay, i)));
+            date = date.plusDays(1);
+        }
+
+        return StudyTimeStatisticsResponse.builder()
+                .userId(userId)
+                .totalAttendance(attendanceStreak)
+                .weekdayGraph(weekdayGraph)
+                .weeklyGraph(weeklyGraph)
+                .studyTrack(new StudyTimeStatisticsResponse.StudyTrack(points))
+                .build();
+    }
+
+    // 범위 밖(조회 이전/미래)은 0분, 초는 분 단위로 버림
+    private static int minutes(long[] secondsByDay, int index) {
+        if (index < 0 || index >= secondsByDay.length) {
+            return 0;
+        }
+        return (int) (secondsByDay[index] / 60);
+    }
+}
@@ -0,0 +1,144 @@
+package org.oreo.smore.domain.studytime;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 오늘 공부 시간(초) 누적기
+// 공부 시간 갱신 시 오늘에 해당하는 구간만 더하고, 처음 조회하거나 오래된 값은 study_time_daily 오늘 행으로 채움
+// 날짜가 바뀌면 이전 날짜 값은 사용하지 않음 (자정 초기화)
+// 커밋 전에 읽은 DB 값이 커밋 후 누적을 덮어쓰지 않도록, 조회 시작 이후 누적된 항목은 조회 결과로 바꾸지 않음
+@Slf4j
+@Service
+public class TodayStudyTimeService {
+
+    // 누적만 반영되고 아직 DB에서 불러오지 않은 항목
+    private static final long NOT_LOADED = -1L;
+
+    private final StudyTimeDailyRepository studyTimeDailyRepository;
+    private final Clock clock;
+    private final long refreshMillis;
+
+    private final ConcurrentHashMap<Long, Accumulator> accumulators = new ConcurrentHashMap<>();
+    // record마다 증가 - 조회 시작 시점과 비교해 더 최근 누적인지 판단
+    private final AtomicLong versions = new AtomicLong();
+    private volatile LocalDate currentDay;
+
+    public TodayStudyTimeService(StudyTimeDailyRepository studyTimeDailyRepository,
+                                 @Value("${study-time.today.refresh-seconds:60}") long refreshSeconds) {
+        this(studyTimeDailyRepository, Clock.systemDefaultZone(), refreshSeconds);
+    }
+
+    TodayStudyTimeService(StudyTimeDailyRepository studyTimeDailyRepository, Clock clock, long refreshSeconds) {
+        this.studyTimeDailyRepository = studyTimeDailyRepository;
+        this.clock = clock;
+        // 다른 인스턴스에서 갱신된 값을 반영하기 위해 일정 시간이 지나면 다시 조회
+        this.refreshMillis = refreshSeconds * 1000;
+    }
+
+    // 한 사용자의 오늘 공부 시간(초)
+    public long getTodaySeconds(Long userId) {
+        return getTodaySeconds(List.of(userId)).getOrDefault(userId, 0L);
+    }
+
+    // 여러 사용자의 오늘 공부 시간(초) - 캐시에 없는 사용자만 한 번의 쿼리로 조회
+    public Map<Long, Long> getTodaySeconds(Collection<Long> userIds) {
+        LocalDate today = today();
+        long now = clock.millis();
+
+        Map<Long, Long> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : userIds) {
+            Accumulator accumulator = accumulators.get(userId);
+            if (accumulator != null && accumulator.isFresh(today, now, refreshMillis)) {
+                result.put(userId, accumulator.seconds());
+            } else {
+                missing.add(userId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long loadVersion = versions.get();
+            Map<Long, Long> loaded = new HashMap<>();
+            for (StudyTimeDaily row : studyTimeDailyRepository.findAllByUserIdInAndStudyDate(missing, today)) {
+                loaded.merge(row.getUserId(), row.getSeconds(), Long::sum);
+            }
+            for (Long userId : missing) {
+                long seconds = loaded.getOrDefault(userId, 0L);
+                Accumulator applied = accumulators.compute(userId, (id, existing) ->
+                        existing != null && existing.version() > loadVersion
+                                ? existing
+                                : new Accumulator(today, seconds, now, loadVersion));
+                // 조회 중 누적된 값이 있으면 그 값을, 아직 불러오지 않은 표시뿐이면 이번 조회 값을 응답
+                result.put(userId, applied.loadedAt() != NOT_LOADED ? applied.seconds() : seconds);
+            }
+            log.debug("오늘 공부시간 조회 - 캐시 {}명, DB {}명", result.size() - missing.size(), missing.size());
+        }
+        return result;
+    }
+
+    // 공부 시간 갱신 후 호출 - [from, to) 중 오늘에 해당하는 구간만 누적 (커밋 후 반영)
+    public void record(Long userId, LocalDateTime from, LocalDateTime to) {
+        Runnable action = () -> {
+            LocalDate today = today();
+            long seconds = StudyTimeRollupService.splitByDay(from, to).getOrDefault(today, 0L);
+            if (seconds <= 0) {
+                return;
+            }
+            long version = versions.incrementAndGet();
+            accumulators.compute(userId, (id, accumulator) -> {
+                // 불러온 적 없거나 날짜가 지난 값은 표시만 남겨 다음 조회 때 DB에서 다시 채움
+                // (진행 중인 조회가 커밋 전 값을 캐싱하지 않도록)
+                if (accumulator == null || accumulator.loadedAt() == NOT_LOADED || !accumulator.day().equals(today)) {
+                    return new Accumulator(today, 0L, NOT_LOADED, version);
+                }
+                return accumulator.plus(seconds, version);
+            });
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 날짜가 바뀌면 전날 누적값 일괄 제거
+    private LocalDate today() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(currentDay)) {
+            currentDay = today;
+            accumulators.entrySet().removeIf(entry -> !entry.getValue().day().equals(today));
+        }
+        return today;
+    }
+
+    private record Accumulator(LocalDate day, long seconds, long loadedAt, long version) {
+
+        boolean isFresh(LocalDate today, long now, long refreshMillis) {
+            return loadedAt != NOT_LOADED && day.equals(today) && now - loadedAt < refreshMillis;
+        }
+
+        Accumulator plus(long delta, long version) {
+            return new Accumulator(day, seconds + delta, loadedAt, version);
+        }
+    }
+}
@@ -1,14 +1,13 @@
 package org.oreo.smore.domain.user;
 
 import lombok.RequiredArgsConstructor;
-import org.oreo.smore.domain.point.Point;
-import org.oreo.smore.domain.point.PointRepository;
-import org.oreo.smore.domain.studytime.StudyTime;
-import org.oreo.smore.domain.studytime.StudyTimeRepository;
+import org.oreo.smore.domain.point.PointService;
+import org.oreo.smore.domain.studytime.TodayStudyTimeService;
 import org.oreo.smore.domain.user.dto.request.UserUpdateRequest;
 import org.oreo.smore.domain.user.dto.response.UserInfoResponse;
 import org.oreo.smore.domain.user.dto.response.UserUpdateResponse;
 import org.oreo.smore.global.common.CloudStorageManager;
+import org.oreo.smore.global.websocket.ChatPrincipalRegistry;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
@@ -16,21 +15,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 
 import java.util.UUID;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository repository;
-    private final StudyTimeRepository studyTimeRepository;
+    private final TodayStudyTimeService todayStudyTimeService;
     private final CloudStorageManager cloudStorageManager;
-    private final PointRepository pointRepository;
+    private final PointService pointService;
+    private final ChatPrincipalRegistry chatPrincipalRegistry;
 
     @Transactional
     public User registerOrUpdate(String email, String name) {
@@ -55,13 +53,7 @@ public class UserService {
         User savedUser = repository.save(u);
         savedUser.setNickname("OREO" + savedUser.getUserId());
 
-        Point point = Point.builder()
-                .userId(savedUser.getUserId())
-                .delta(550)
-                .reason("가입 기념 지급")
-                .timestamp(LocalDateTime.now())
-                .build();
-        pointRepository.save(point);
+        pointService.addPoints(savedUser.getUserId(), 550, "가입 기념 지급");
 
         return repository.save(savedUser);
     }
@@ -133,6 +125,9 @@ public class UserService {
 
         User saved = repository.save(user);
 
+        // 채팅 세션의 사용자 스냅샷 무효화 (닉네임/프로필 변경 반영)
+        chatPrincipalRegistry.invalidate(userId);
+
         return UserUpdateResponse.builder()
                 .userId(saved.getUserId())
                 .name(saved.getName())
@@ -155,38 +150,9 @@ public class UserService {
         User user = repository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "해당 유저를 찾을 수 없습니다."));
 
-        // 오늘 공부 시간 계산
-        LocalDate today = LocalDate.now();
-        LocalDateTime startOfDay = today.atStartOfDay();
-        LocalDateTime endOfDay = today.atTime(23, 59, 59);
-
-        List<StudyTime> allRecords = studyTimeRepository.findAllByUserIdAndCreatedAtBetween(
-                userId,
-                startOfDay.minusDays(1),  // 하루 전까지도 시작할 수 있으므로
-                endOfDay.plusDays(1)      // 자정 넘어가는 케이스도 포함
-        );
-
-        int todayStudySeconds = 0;
-
-        for (StudyTime record : allRecords) {
-            LocalDateTime start = record.getCreatedAt();
-            LocalDateTime end = record.getDeletedAt();
-
-            if (end == null) {
-                // 아직 진행 중인 공부 세션은 현재 시간까지로 계산
-                end = LocalDateTime.now();
-            }
-
-            // 오늘 날짜 범위와 겹치는 구간만 계산
-            LocalDateTime effectiveStart = start.isBefore(startOfDay) ? startOfDay : start;
-            LocalDateTime effectiveEnd = end.isAfter(endOfDay) ? endOfDay : end;
-
-            if (!effectiveStart.isAfter(effectiveEnd)) {
-                todayStudySeconds += Duration.between(effectiveStart, effectiveEnd).getSeconds();
-            }
-        }
-
-        int todayStudyMinutes = todayStudySeconds / 60;
+        // 오늘 공부 시간 (사용자별 누적값)
+        long todayStudySeconds = todayStudyTimeService.getTodaySeconds(userId);
+        int todayStudyMinutes = (int) (todayStudySeconds / 60);
 
 
         return UserInfoResponse.builder()
@@ -16,8 +16,12 @@ import org.oreo.smore.domain.studyroom.StudyRoomService;
 import org.oreo.smore.domain.video.dto.JoinRoomRequest;
 import org.oreo.smore.domain.video.dto.TokenRequest;
 import org.oreo.smore.domain.video.dto.TokenResponse;
+import org.oreo.smore.domain.video.exception.MaxParticipantsExceededException;
+import org.oreo.smore.domain.video.exception.OwnerNotJoinedException;
 import org.oreo.smore.domain.video.exception.StudyRoomNotFoundException;
+import org.oreo.smore.domain.video.exception.WrongPasswordException;
 import org.oreo.smore.domain.video.service.LiveKitTokenService;
+import org.oreo.smore.domain.video.service.RoomJoinCoordinator;
 import org.oreo.smore.domain.video.service.UserIdentityService;
 import org.oreo.smore.domain.video.validator.StudyRoomValidator;
 import org.oreo.smore.global.exception.*;
@@ -43,6 +47,7 @@ public class VideoCallController {
     private final UserIdentityService userIdentityService;
     private final ParticipantService participantService;
     private final StudyRoomService studyRoomService;
+    private final RoomJoinCoordinator roomJoinCoordinator;
 
     // 스터디룸 입장 토큰 발급
     @PostMapping("/{roomId}/join")
@@ -56,85 +61,18 @@ public class VideoCallController {
         // 인증 검증
         validateAuthentication(authentication, userId);
 
-        // User 테이블에서 nickname 가져오기
-        String userNickname = userIdentityService.generateIdentityForUser(userId);
-
-        log.info("스터디룸 입장 요청 - 방 ID: {}, 사용자ID: {}, 닉네임: {}", roomId, userId, userNickname);
-
-        // 참가자 등록
         try {
-
-            // 1. 방 존재 여부 확인 (404)
-            StudyRoom studyRoom = studyRoomRepository.findById(roomId)
-                    .orElseThrow(() -> new RoomNotFoundException(roomId));
-
-            // 2. 방 정원 초과 확인 (409)
-            long currentParticipants = participantService.getActiveParticipantCount(roomId);
-            if (currentParticipants >= studyRoom.getMaxParticipants()) {
-                throw new RoomCapacityExceededException(roomId, (int) currentParticipants, studyRoom.getMaxParticipants());
-            }
-
-            // 3. 비밀번호 검증 (403)
-            try {
-                studyRoom = studyRoomValidator.validateRoomAccess(roomId, request, userId);
-
-            } catch (Exception e) {
-                log.error("🔐 비밀번호 검증 실패 - 방ID: {}, 사용자ID: {}, 예외: {}, 메시지: {}",
-                        roomId, userId, e.getClass().getSimpleName(), e.getMessage());
-
-                // 예외 발생 시 방이 여전히 존재하는지 확인
-                boolean roomStillExists = studyRoomRepository.existsById(roomId);
-                if (!roomStillExists) {
-                    log.error("❌ 검증 중 방이 삭제됨 - 방ID: {}, 사용자ID: {}", roomId, userId);
-                    throw new RoomNotFoundException(roomId); // 404로 처리
-                }
-
-                // 방이 존재하면 비밀번호 오류로 처리
-                log.error("🔐 비밀번호 오류로 판단 - 방ID: {}, 사용자ID: {}", roomId, userId);
-                throw new IncorrectPasswordException(roomId); // 403으로 처리
-            }
-
-            // 참가자를 DB에 일단 먼저 등록
-            Participant participant = participantService.joinRoom(roomId, userId);
-            log.info("✅ 참가자 DB 등록 완료 - 참가자ID: {}, 방ID: {}, 사용자ID: {}",
-                    participant.getParticipantId(), roomId, userId);
-
-            studyRoomValidator.logRoomInfo(studyRoom);
-            // LiveKit 방ID
-            String liveKitRoomName = ensureLiveKitRoom(studyRoom);
-            if (liveKitRoomName == null || liveKitRoomName.trim().isEmpty()) {
-                log.error("❌ LiveKit 방 ID가 없습니다 - 방ID: {}", roomId);
-                throw new IllegalStateException("LiveKit 방 정보가 올바르지 않습니다.");
-            }
-
-            // LiveKit 토큰 생성 요청
-            TokenRequest tokenRequest = TokenRequest.builder()
-                    .roomName(liveKitRoomName)
-                    .identity(userNickname)
-                    .canPublish(request.getCanPublish())
-                    .canSubscribe(request.getCanSubscribe())
-                    .tokenExpirySeconds(request.getTokenExpirySeconds())
-                    .build();
-
-            TokenResponse tokenResponse = tokenService.generateToken(tokenRequest);
-
-            log.info("✅ 스터디룸 입장 성공 - 방ID: {}, 사용자: [{}], 방장여부: [{}]",
-                    roomId, userNickname, studyRoomValidator.isRoomOwner(studyRoom, userId));
-
-
+            // 방/사용자 조회, 검증, 참가자 등록, 토큰 발급
+            TokenResponse tokenResponse = roomJoinCoordinator.join(roomId, userId, request);
             return ResponseEntity.ok(tokenResponse);
 
         } catch (RoomNotFoundException e) {
             log.error("❌ 방을 찾을 수 없음 - 방ID: {}, 사용자ID: {}", roomId, userId);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
 
-        } catch (RoomCapacityExceededException e) {
-            log.error("❌ 방 정원 초과 - 방ID: {}, 현재 참가자: {}, 최대 참가자: {}",
-                    roomId, e.getCurrentCount(), e.getMaxCapacity());
-            return ResponseEntity.status(HttpStatus.CONFLICT).build();
-
-        } catch (IncorrectPasswordException e) {
-            log.error("❌ 비밀번호 오류 - 방ID: {}, 사용자ID: {}", roomId, userId);
+        } catch (WrongPasswordException | OwnerNotJoinedException | MaxParticipantsExceededException e) {
+            log.error("🔐 입장 검증 실패 - 방ID: {}, 사용자ID: {}, 예외: {}, 메시지: {}",
+                    roomId, userId, e.getClass().getSimpleName(), e.getMessage());
             // 401 대신 403 사용 (프론트 요구사항)
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
 
@@ -142,6 +80,10 @@ public class VideoCallController {
             log.error("❌ 시스템 상태 오류 - 방ID: {}, 사용자ID: {}, 오류: {}", roomId, userId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
 
+        } catch (ParticipantException.RoomFullException e) {
+            log.error("❌ 방 정원 초과 (동시 입장 경합) - 방ID: {}, 사용자ID: {}, 오류: {}", roomId, userId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+
         } catch (ParticipantException e) {
             log.error("❌ 참가자 처리 오류 - 방ID: {}, 사용자ID: {}, 오류: {}", roomId, userId, e.getMessage());
             return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
@@ -254,7 +196,8 @@ public class VideoCallController {
             // LiveKit 토큰 생성 요청
             TokenRequest tokenRequest = TokenRequest.builder()
                     .roomName(liveKitRoomName)
-                    .identity(userNickname)
+                    .identity(String.valueOf(userId))
+                    .name(userNickname)
                     .canPublish(request.getCanPublish())
                     .canSubscribe(request.getCanSubscribe())
                     .tokenExpirySeconds(request.getTokenExpirySeconds())
@@ -402,28 +345,6 @@ public class VideoCallController {
         }
     }
 
-    private String ensureLiveKitRoom(StudyRoom studyRoom) {
-        // DB에 아직 LiveKit roomId 가 없으면 생성 후 저장
-        // 있으면 그대로 리턴
-
-        if (studyRoom.hasLiveKitRoom()) {
-            // 기존 LiveKit 방 ID 사용
-            log.debug("기존 LiveKit 방 사용 - DB방ID: {}, LiveKit방: [{}]",
-                    studyRoom.getRoomId(), studyRoom.getLiveKitRoomId());
-            return studyRoom.getLiveKitRoomId();
-        }
-
-        // 새 LiveKit 방 ID 생성 및 DB 저장
-        String newLiveKitRoomId = studyRoom.generateLiveKitRoomId(); // "study-room-123"
-        studyRoom.setLiveKitRoomId(newLiveKitRoomId);
-        studyRoomRepository.save(studyRoom);
-
-        log.info("새 LiveKit 방 생성 및 DB 저장 - DB방ID: {}, LiveKit방: [{}]",
-                studyRoom.getRoomId(), newLiveKitRoomId);
-
-        return newLiveKitRoomId;
-    }
-
     // 개인 참가자 상태 조회
     @GetMapping("/{roomId}/participants/{userId}")
     public ResponseEntity<IndividualParticipantResponse> getIndividualParticipant(
@@ -773,6 +694,7 @@ public class VideoCallController {
 
             // 참가자 강퇴 처리
             participantService.banParticipant(roomId, userId);
+            tokenService.evictIdentity(String.valueOf(userId));
             long remainingCount = participantService.getActiveParticipantCount(roomId);
 
             log.info("✅ 참가자 강퇴 성공 - 방ID: {}, 강퇴된사용자ID: {}, 방장ID: {}, 남은 참가자: {}명",
@@ -17,6 +17,8 @@ public class TokenRequest {
     @NotBlank(message = "사용자 식별자는 필수입니다.")
     private String identity;   // 보통 userId 사용 + 프로필 url 매칭
 
+    private String name;       // 화면 표시 이름 (닉네임) - 없으면 identity 사용
+
     @NotNull(message = "발행 권한 설정은 필수입니다.")
     private Boolean canPublish;
 
@@ -26,13 +28,23 @@ public class TokenRequest {
 
     public TokenRequest(String roomName, String identity, Boolean canPublish,
                         Boolean canSubscribe, Integer tokenExpirySeconds) {
+        this(roomName, identity, null, canPublish, canSubscribe, tokenExpirySeconds);
+    }
+
+    public TokenRequest(String roomName, String identity, String name, Boolean canPublish,
+                        Boolean canSubscribe, Integer tokenExpirySeconds) {
         this.roomName = roomName;
         this.identity = identity;
+        this.name = name;
         this.canPublish = canPublish;
         this.canSubscribe = canSubscribe != null ? canSubscribe : true;
         this.tokenExpirySeconds = tokenExpirySeconds != null ? tokenExpirySeconds : 3600;
     }
 
+    public String getName() {
+        return name != null ? name : identity;
+    }
+
     public Boolean getCanSubscribe() {
         return canSubscribe != null ? canSubscribe : true;
     }
@@ -0,0 +1,175 @@
+package org.oreo.smore.domain.video.service;
+
+import io.livekit.server.RoomServiceClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import livekit.LivekitModels;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.video.exception.LiveKitException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// LiveKit 서버 API 비동기 클라이언트
+// Retrofit enqueue(OkHttp 디스패처)로 호출하고 네트워크 오류/5xx/429는 지수 백오프로 재시도
+// 호출별 소요 시간은 livekit.admin.requests(operation, outcome), 재시도는 livekit.admin.retries로 기록
+@Slf4j
+@Component
+public class LiveKitAdminClient {
+
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(429, 500, 502, 503, 504);
+
+    private final RoomServiceClient roomServiceClient;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    // 재시도 대기 전용 (실제 HTTP 호출은 OkHttp 디스패처 스레드에서 실행)
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "livekit-admin");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 같은 방 삭제 요청이 겹치면 진행 중인 요청 하나를 공유
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> pendingDeletes = new ConcurrentHashMap<>();
+
+    public LiveKitAdminClient(RoomServiceClient roomServiceClient,
+                              MeterRegistry meterRegistry,
+                              @Value("${livekit.admin.max-attempts:3}") int maxAttempts,
+                              @Value("${livekit.admin.backoff-ms:200}") long backoffMillis) {
+        this.roomServiceClient = roomServiceClient;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // 방 삭제 - 이미 없는 방(404)도 성공으로 처리
+    public CompletableFuture<Void> deleteRoom(String roomName) {
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> existing = pendingDeletes.putIfAbsent(roomName, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        execute("deleteRoom", () -> roomServiceClient.deleteRoom(roomName), true)
+                .whenComplete((body, error) -> {
+                    pendingDeletes.remove(roomName, created);
+                    if (error != null) {
+                        created.completeExceptionally(error);
+                        return;
+                    }
+                    created.complete(null);
+                });
+        return created;
+    }
+
+    // 방 목록 조회
+    public CompletableFuture<List<LivekitModels.Room>> listRooms() {
+        return execute("listRooms", roomServiceClient::listRooms, false)
+                .thenApply(rooms -> rooms != null ? rooms : List.of());
+    }
+
+    private <T> CompletableFuture<T> execute(String operation, Supplier<Call<T>> request, boolean notFoundOk) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(operation, request, notFoundOk, 1, System.nanoTime(), result);
+        return result;
+    }
+
+    private <T> void attempt(String operation, Supplier<Call<T>> request, boolean notFoundOk,
+                             int attempt, long startNanos, CompletableFuture<T> result) {
+        Call<T> call;
+        try {
+            call = request.get();
+        } catch (Exception e) {
+            fail(operation, startNanos, result, new LiveKitException("LiveKit " + operation + " 요청 생성 실패: " + e.getMessage(), e));
+            return;
+        }
+
+        call.enqueue(new Callback<>() {
+            @Override
+            public void onResponse(Call<T> call, Response<T> response) {
+                if (response.isSuccessful() || (notFoundOk && response.code() == 404)) {
+                    record(operation, "success", startNanos);
+                    result.complete(response.body());
+                    return;
+                }
+                LiveKitException error = new LiveKitException(
+                        "LiveKit " + operation + " 실패 - HTTP: " + response.code() + ", " + errorBody(response));
+                retryOrFail(operation, request, notFoundOk, attempt, startNanos, result,
+                        RETRYABLE_STATUS.contains(response.code()), error);
+            }
+
+            @Override
+            public void onFailure(Call<T> call, Throwable t) {
+                LiveKitException error = new LiveKitException(
+                        "LiveKit " + operation + " 네트워크 오류: " + t.getMessage(), t);
+                retryOrFail(operation, request, notFoundOk, attempt, startNanos, result, true, error);
+            }
+        });
+    }
+
+    private <T> void retryOrFail(String operation, Supplier<Call<T>> request, boolean notFoundOk,
+                                 int attempt, long startNanos, CompletableFuture<T> result,
+                                 boolean retryable, LiveKitException error) {
+        if (!retryable || attempt >= maxAttempts) {
+            fail(operation, startNanos, result, error);
+            return;
+        }
+
+        long delay = backoffMillis * (1L << (attempt - 1));
+        log.warn("⚠️ LiveKit {} 재시도 예정 - {}/{}회, {}ms 후, 오류: {}",
+                operation, attempt + 1, maxAttempts, delay, error.getMessage());
+        Counter.builder("livekit.admin.retries")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+        try {
+            scheduler.schedule(() -> attempt(operation, request, notFoundOk, attempt + 1, startNanos, result),
+                    delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            fail(operation, startNanos, result, error);
+        }
+    }
+
+    private <T> void fail(String operation, long startNanos, CompletableFuture<T> result, LiveKitException error) {
+        record(operation, "failure", startNanos);
+        log.error("❌ LiveKit {} 실패: {}", operation, error.getMessage());
+        result.completeExceptionally(error);
+    }
+
+    private void record(String operation, String outcome, long startNanos) {
+        Timer.builder("livekit.admin.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String errorBody(Response<?> response) {
+        try {
+            return response.errorBody() != null ? response.errorBody().string() : "Unknown error";
+        } catch (Exception e) {
+            return "Unknown error";
+        }
+    }
+}
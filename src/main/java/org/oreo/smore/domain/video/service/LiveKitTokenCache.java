@@ -0,0 +1,138 @@
+package org.oreo.smore.domain.video.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.video.dto.TokenRequest;
+import org.oreo.smore.domain.video.dto.TokenResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+// 발급한 LiveKit 토큰 캐시 - (방, identity, 이름, 권한, 만료시간)이 같은 요청이면 서명 없이 기존 토큰 반환
+// 남은 수명이 전체 수명의 reuseFraction 이하로 줄면 새로 서명 (재입장 직후 곧 만료되는 토큰을 주지 않도록)
+// 강퇴(identity)와 방 삭제(방 이름) 시 해당 토큰 제거
+// maxSize 도달 시 재사용 기한이 가장 빠른 항목부터 제거 (기한 순 정렬 집합으로 전체 스캔 없이)
+@Slf4j
+@Component
+public class LiveKitTokenCache {
+
+    private final Clock clock;
+    private final double reuseFraction;
+    private final int maxSize;
+
+    private final ConcurrentHashMap<TokenKey, Entry> tokens = new ConcurrentHashMap<>();
+    // 재사용 기한 순 정렬 - 변경은 모두 this 잠금 안에서
+    private final NavigableSet<Entry> byStaleAt = new TreeSet<>(
+            Comparator.comparingLong(Entry::staleAtMillis).thenComparingLong(Entry::sequence));
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    public LiveKitTokenCache(@Value("${livekit.token-cache.reuse-fraction:0.5}") double reuseFraction,
+                             @Value("${livekit.token-cache.max-size:50000}") int maxSize) {
+        this(Clock.systemDefaultZone(), reuseFraction, maxSize);
+    }
+
+    LiveKitTokenCache(Clock clock, double reuseFraction, int maxSize) {
+        this.clock = clock;
+        this.reuseFraction = reuseFraction;
+        this.maxSize = maxSize;
+    }
+
+    public TokenResponse get(TokenKey key) {
+        Entry entry = tokens.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.reusableAt(clock.millis())) {
+            remove(entry);
+            return null;
+        }
+        return entry.response();
+    }
+
+    public synchronized void put(TokenKey key, TokenResponse response) {
+        long now = clock.millis();
+        long expiresAt = now + key.ttlSeconds() * 1000L;
+        long staleAt = expiresAt - (long) ((expiresAt - now) * reuseFraction);
+        Entry entry = new Entry(key, response, staleAt, sequence.incrementAndGet());
+
+        Entry previous = tokens.put(key, entry);
+        if (previous != null) {
+            byStaleAt.remove(previous);
+        }
+        byStaleAt.add(entry);
+
+        // 기한 지난 항목 정리 후에도 가득 차 있으면 가장 먼저 기한이 오는 항목 제거
+        while (!byStaleAt.isEmpty()) {
+            Entry head = byStaleAt.first();
+            if (head.reusableAt(now) && tokens.size() <= maxSize) {
+                break;
+            }
+            byStaleAt.pollFirst();
+            tokens.remove(head.key(), head);
+        }
+    }
+
+    // 방 삭제 - 해당 LiveKit 방의 토큰 전체 제거
+    public void evictRoom(String roomName) {
+        if (roomName != null && removeIf(entry -> entry.key().roomName().equals(roomName))) {
+            log.debug("LiveKit 토큰 캐시 제거 - 방: [{}]", roomName);
+        }
+    }
+
+    // 강퇴 - 해당 사용자의 토큰 전체 제거
+    public void evictIdentity(String identity) {
+        if (identity != null && removeIf(entry -> entry.key().identity().equals(identity))) {
+            log.debug("LiveKit 토큰 캐시 제거 - 사용자: [{}]", identity);
+        }
+    }
+
+    private synchronized void remove(Entry entry) {
+        if (tokens.remove(entry.key(), entry)) {
+            byStaleAt.remove(entry);
+        }
+    }
+
+    private synchronized boolean removeIf(Predicate<Entry> filter) {
+        boolean removed = false;
+        for (Iterator<Entry> it = byStaleAt.iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            if (filter.test(entry)) {
+                it.remove();
+                tokens.remove(entry.key(), entry);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        return tokens.size();
+    }
+
+    public record TokenKey(String roomName, String identity, String name,
+                           boolean canPublish, boolean canSubscribe, int ttlSeconds) {
+
+        public static TokenKey of(TokenRequest request) {
+            return new TokenKey(request.getRoomName(), request.getIdentity(), request.getName(),
+                    Boolean.TRUE.equals(request.getCanPublish()), request.getCanSubscribe(),
+                    request.getTokenExpirySeconds());
+        }
+    }
+
+    // staleAtMillis: 남은 수명이 reuseFraction 이하가 되는 시각
+    private record Entry(TokenKey key, TokenResponse response, long staleAtMillis, long sequence) {
+
+        boolean reusableAt(long nowMillis) {
+            return nowMillis < staleAtMillis;
+        }
+    }
+}
@@ -16,24 +16,48 @@ public class LiveKitTokenService {
 
     private final String apiKey;
     private final String apiSecret;
+    private final LiveKitTokenCache tokenCache;
 
-    public LiveKitTokenService(@Value("${livekit.apiKey}") String apiKey, @Value("${livekit.apiSecret}") String apiSecret) {
+    public LiveKitTokenService(@Value("${livekit.apiKey}") String apiKey, @Value("${livekit.apiSecret}") String apiSecret,
+                               LiveKitTokenCache tokenCache) {
         this.apiKey = apiKey;
         this.apiSecret = apiSecret;
+        this.tokenCache = tokenCache;
     }
 
-    // LiveKit AccessToken 생성
+    // LiveKit AccessToken 생성 - 같은 조건으로 발급한 토큰이 충분히 남아 있으면 재사용
     public TokenResponse generateToken(TokenRequest request) {
-        log.info("토큰 생성 요청 → 방: [{}], 사용자: [{}], 발행권한: [{}]",
-                request.getRoomName(), request.getIdentity(), request.getCanPublish());
+        LiveKitTokenCache.TokenKey key = LiveKitTokenCache.TokenKey.of(request);
+        TokenResponse cached = tokenCache.get(key);
+        if (cached != null) {
+            log.debug("토큰 캐시 사용 → 방: [{}], 사용자: [{}]", request.getRoomName(), request.getIdentity());
+            return cached;
+        }
+
+        TokenResponse response = signToken(request);
+        tokenCache.put(key, response);
+        return response;
+    }
+
+    // 강퇴된 사용자의 캐시된 토큰 제거
+    public void evictIdentity(String identity) {
+        tokenCache.evictIdentity(identity);
+    }
+
+    private TokenResponse signToken(TokenRequest request) {
+        log.info("토큰 생성 요청 → 방: [{}], 사용자: [{}], 이름: [{}], 발행권한: [{}]",
+                request.getRoomName(), request.getIdentity(), request.getName(), request.getCanPublish());
         try {
             // AccessToken 생성
             AccessToken token = new AccessToken(apiKey, apiSecret);
 
-            // 사용자 정보 설정
-            token.setName(request.getIdentity());
+            // 사용자 정보 설정 (identity = userId, name = 닉네임)
+            token.setName(request.getName());
             token.setIdentity(request.getIdentity());
 
+            // 만료 시간 설정 (ms) - 기본값(6시간)이 아니라 요청한 만료 시간으로 서명
+            token.setTtl(request.getTokenExpirySeconds() * 1000L);
+
             // 권한 설정
             token.addGrants(
                     new RoomJoin(true),
@@ -0,0 +1,103 @@
+package org.oreo.smore.domain.video.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.participant.ParticipantService;
+import org.oreo.smore.domain.studyroom.LiveKitRoomRegistry;
+import org.oreo.smore.domain.studyroom.StudyRoom;
+import org.oreo.smore.domain.studyroom.StudyRoomRepository;
+import org.oreo.smore.domain.user.UserRepository;
+import org.oreo.smore.domain.video.dto.JoinRoomRequest;
+import org.oreo.smore.domain.video.dto.TokenRequest;
+import org.oreo.smore.domain.video.dto.TokenResponse;
+import org.oreo.smore.domain.video.validator.StudyRoomValidator;
+import org.oreo.smore.global.exception.RoomNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 스터디룸 입장 처리
+// 방/사용자 한 번씩 조회 → 불러온 방으로 검증 → 참가자 등록(존재 확인 + INSERT만 짧은 트랜잭션) → LiveKit 방 ID 확보 → 토큰 발급(트랜잭션 밖)
+// 단계별 소요 시간은 room.join.step(step), 전체는 room.join(outcome)으로 기록
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomJoinCoordinator {
+
+    private final StudyRoomRepository studyRoomRepository;
+    private final UserRepository userRepository;
+    private final UserIdentityService userIdentityService;
+    private final StudyRoomValidator studyRoomValidator;
+    private final ParticipantService participantService;
+    private final LiveKitRoomRegistry liveKitRoomRegistry;
+    private final LiveKitTokenService tokenService;
+    private final MeterRegistry meterRegistry;
+
+    public TokenResponse join(Long roomId, Long userId, JoinRoomRequest request) {
+        long start = System.nanoTime();
+        String outcome = "failure";
+        try {
+            StudyRoom studyRoom = step("load_room", () -> studyRoomRepository.findByRoomIdAndDeletedAtIsNull(roomId)
+                    .orElseThrow(() -> new RoomNotFoundException(roomId)));
+            String nickname = step("load_user", () -> userRepository.findById(userId)
+                    .map(userIdentityService::nicknameOf)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId)));
+
+            log.info("스터디룸 입장 요청 - 방 ID: {}, 사용자ID: {}, 닉네임: {}", roomId, userId, nickname);
+
+            step("validate", () -> {
+                studyRoomValidator.validateJoin(studyRoom, request, userId, nickname);
+                return null;
+            });
+            boolean registered = step("register", () -> participantService.registerJoin(studyRoom, userId));
+            String liveKitRoomName = step("livekit_room", () -> ensureLiveKitRoom(studyRoom));
+
+            TokenRequest tokenRequest = TokenRequest.builder()
+                    .roomName(liveKitRoomName)
+                    .identity(String.valueOf(userId))
+                    .name(nickname)
+                    .canPublish(request.getCanPublish())
+                    .canSubscribe(request.getCanSubscribe())
+                    .tokenExpirySeconds(request.getTokenExpirySeconds())
+                    .build();
+            TokenResponse tokenResponse = step("token", () -> tokenService.generateToken(tokenRequest));
+
+            log.info("✅ 스터디룸 입장 성공 - 방ID: {}, 사용자: [{}], 방장여부: [{}], 신규참가: [{}]",
+                    roomId, nickname, studyRoomValidator.isRoomOwner(studyRoom, userId), registered);
+            outcome = "success";
+            return tokenResponse;
+        } finally {
+            Timer.builder("room.join")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // DB에 아직 LiveKit 방 ID가 없으면 조건부 UPDATE로 지정 (동시에 지정됐으면 저장된 값 사용)
+    private String ensureLiveKitRoom(StudyRoom studyRoom) {
+        if (!studyRoom.hasLiveKitRoom()) {
+            String liveKitRoomId = studyRoom.generateLiveKitRoomId();
+            if (studyRoomRepository.assignLiveKitRoomId(studyRoom.getRoomId(), liveKitRoomId) == 0) {
+                liveKitRoomId = studyRoomRepository.findLiveKitRoomIdByRoomId(studyRoom.getRoomId())
+                        .orElseThrow(() -> new RoomNotFoundException(studyRoom.getRoomId()));
+            }
+            studyRoom.setLiveKitRoomId(liveKitRoomId);
+            log.info("새 LiveKit 방 생성 및 DB 저장 - DB방ID: {}, LiveKit방: [{}]",
+                    studyRoom.getRoomId(), liveKitRoomId);
+        }
+
+        liveKitRoomRegistry.register(studyRoom);
+        return studyRoom.getLiveKitRoomId();
+    }
+
+    private <T> T step(String name, Supplier<T> action) {
+        return Timer.builder("room.join.step")
+                .tag("step", name)
+                .register(meterRegistry)
+                .record(action);
+    }
+}
@@ -20,16 +20,21 @@ public class UserIdentityService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
+        String nickname = nicknameOf(user);
+        log.debug("사용자 ID {}의 LiveKit identity: [{}]", userId, nickname);
+
+        return nickname;
+    }
+
+    // 이미 조회한 사용자의 표시 이름
+    public String nicknameOf(User user) {
         String nickname = user.getNickname();
 
         // nickname이 null이거나 빈 문자열인 경우 "이름없음" 사용
         if (nickname == null || nickname.trim().isEmpty()) {
-            nickname = DEFAULT_NICKNAME;
-            log.debug("사용자 ID {}의 nickname이 없어서 기본값 사용: [{}]", userId, DEFAULT_NICKNAME);
+            log.debug("사용자 ID {}의 nickname이 없어서 기본값 사용: [{}]", user.getUserId(), DEFAULT_NICKNAME);
+            return DEFAULT_NICKNAME;
         }
-
-        log.debug("사용자 ID {}의 LiveKit identity: [{}]", userId, nickname);
-
         return nickname;
     }
 
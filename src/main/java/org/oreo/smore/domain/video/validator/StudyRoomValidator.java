@@ -26,6 +26,13 @@ public class StudyRoomValidator {
         // 방 존재 여부 + 삭제 유무 확인
         StudyRoom studyRoom = validateRoomExists(roomId);
 
+        validateJoin(studyRoom, request, userId, userNickname);
+
+        return studyRoom;
+    }
+
+    // 이미 불러온 방에 대한 입장 검증 (방/사용자 재조회 없음)
+    public void validateJoin(StudyRoom studyRoom, JoinRoomRequest request, Long userId, String userNickname) {
         // 방장 우선 입장 검증
         validateOwnerFirstEntry(studyRoom, userId);
 
@@ -37,8 +44,6 @@ public class StudyRoomValidator {
 
         log.info("✅ 스터디룸 입장 검증 통과 - 방: [{}], 닉네임: [{}], 방장여부: [{}]",
                 studyRoom.getTitle(), userNickname, isRoomOwner(studyRoom, userId));
-
-        return studyRoom;
     }
 
     public StudyRoom validateRoomAccess(Long roomId, JoinRoomRequest request) {
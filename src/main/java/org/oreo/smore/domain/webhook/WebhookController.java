@@ -1,43 +1,22 @@
 package org.oreo.smore.domain.webhook;
 
-import io.livekit.server.RoomServiceClient;
 import lombok.RequiredArgsConstructor;
+import org.oreo.smore.domain.webhook.dto.WebhookPayload;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Map;
-
 @RestController
 @RequiredArgsConstructor
 public class WebhookController {
 
-    private final RoomServiceClient roomServiceClient;
-    private final WebhookService webhookService;
+    private final WebhookEventQueue webhookEventQueue;
 
+    // 저장만 하고 바로 응답 (처리는 대기열에서 비동기로, 처리 대상이 아니거나 재전송된 이벤트는 무시)
     @PostMapping("/v1/webhook")
-    public ResponseEntity<Void> handle(@RequestBody Map<String, Object> payload) throws Exception {
-        String event = (String) payload.get("event");
-        Map<String, Object> room = (Map<String, Object>) payload.get("room");
-        Map<String, Object> participant = (Map<String, Object>) payload.get("participant");
-
-        String roomName = room != null ? (String) room.get("name") : null;
-        String identity = participant != null ? (String) participant.get("identity") : null;
-
-        if ("participant_joined".equals(event)) {
-            // 참가자 입장
-        } else if ("participant_left".equals(event)) {
-            if (webhookService.handleParticipantLeft(roomName, identity) == 1) {
-                try {
-                    // deleteRoom 호출 → 모든 참가자 강제 분리 + 방 종료
-                    roomServiceClient.deleteRoom(roomName).execute();
-                } catch (Exception e) {
-                    // 로깅 및 재시도/보상 처리
-                }
-            }
-        }
-
+    public ResponseEntity<Void> handle(@RequestBody WebhookPayload payload) {
+        webhookEventQueue.accept(payload);
         return ResponseEntity.ok().build();
     }
 }
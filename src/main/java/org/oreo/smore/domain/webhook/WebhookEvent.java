@@ -0,0 +1,47 @@
+package org.oreo.smore.domain.webhook;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 수신한 웹훅 이벤트 (중복 제거 + 처리 대기열) - processed_at이 비어 있으면 미처리
+// claimed_by/claimed_at: 처리 중인 인스턴스와 점유 시각 (여러 인스턴스가 같은 이벤트를 중복 처리하지 않도록)
+@Entity
+@Table(name = "webhook_events",
+        indexes = @Index(name = "idx_webhook_events_processed_at", columnList = "processed_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebhookEvent {
+
+    @Id
+    @Column(name = "event_id", nullable = false, length = 100)
+    private String eventId;
+
+    @Column(name = "event", nullable = false, length = 50)
+    private String event;
+
+    @Column(name = "room_name", length = 100)
+    private String roomName;
+
+    @Column(name = "identity", length = 100)
+    private String identity;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+}
@@ -0,0 +1,219 @@
+package org.oreo.smore.domain.webhook;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.webhook.dto.WebhookPayload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// LiveKit 웹훅 처리 대기열
+// 처리하는 이벤트(HANDLED_EVENTS)만 수신 즉시 webhook_events에 저장(이벤트 ID로 중복 제거)하고 응답, 처리는 방 이름으로 나눈 작업 스레드에서 순서대로 진행
+// 실패하면 지수 백오프로 MAX_ATTEMPTS까지 다시 처리
+// 처리 전에 종료되면 다음 기동 시 미처리 이벤트를 점유(claim)한 뒤 다시 처리 - RECOVER_MAX_AGE_MINUTES보다 오래된 이벤트는 만료 처리
+@Slf4j
+@Component
+public class WebhookEventQueue {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int RETENTION_DAYS = 7;
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+    private static final long RECOVER_MAX_AGE_MINUTES = 10;
+    // 점유 후 이 시간 안에 처리 완료되지 않으면 다른 인스턴스가 다시 점유할 수 있음
+    private static final long CLAIM_LEASE_SECONDS = 60;
+    // 처리 대상 이벤트 - 나머지(room_started, track_published 등)는 저장하지 않고 무시
+    private static final Set<String> HANDLED_EVENTS = Set.of("participant_left");
+
+    private final WebhookEventRepository webhookEventRepository;
+    private final WebhookService webhookService;
+    private final long retryBackoffMillis;
+    private final ExecutorService[] partitions;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 재시도 대기 전용 (처리는 다시 같은 작업 스레드에서)
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "webhook-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 처리 대기 중인 이벤트 ID (복구와 신규 수신이 겹쳐도 한 번만 처리)
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    public WebhookEventQueue(WebhookEventRepository webhookEventRepository,
+                             WebhookService webhookService,
+                             @Value("${webhook.workers:4}") int workers,
+                             @Value("${webhook.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.webhookEventRepository = webhookEventRepository;
+        this.webhookService = webhookService;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.partitions = new ExecutorService[workers];
+        for (int i = 0; i < workers; i++) {
+            String name = "webhook-worker-" + i;
+            partitions[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    // 이벤트 저장 후 처리 예약 - 처리하지 않는 이벤트이거나 이미 받은 이벤트면 false
+    public boolean accept(WebhookPayload payload) {
+        if (payload.getEvent() == null || !HANDLED_EVENTS.contains(payload.getEvent())) {
+            log.debug("처리 대상 아닌 웹훅 무시 - 이벤트: {}", payload.getEvent());
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        WebhookEvent event = WebhookEvent.builder()
+                .eventId(payload.getId() != null ? payload.getId() : UUID.randomUUID().toString())
+                .event(payload.getEvent())
+                .roomName(payload.roomName())
+                .identity(payload.identity())
+                .receivedAt(now)
+                .attempts(0)
+                .claimedBy(instanceId)
+                .claimedAt(now)
+                .build();
+
+        try {
+            webhookEventRepository.insert(event);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("중복 웹훅 무시 - 이벤트ID: {}, 이벤트: {}", event.getEventId(), event.getEvent());
+            return false;
+        }
+
+        submit(event);
+        return true;
+    }
+
+    // 이전 실행에서 처리하지 못한 이벤트 복구 + 오래된 처리 완료 이벤트 정리
+    // 다른 인스턴스가 처리 중인 이벤트는 점유에 실패하므로 건너뜀
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = webhookEventRepository.deleteProcessedBefore(now.minusDays(RETENTION_DAYS));
+        int expired = webhookEventRepository.expirePendingBefore(now.minusMinutes(RECOVER_MAX_AGE_MINUTES), now);
+        List<WebhookEvent> pending = webhookEventRepository
+                .findAllByProcessedAtIsNullAndAttemptsLessThanOrderByReceivedAtAsc(MAX_ATTEMPTS);
+        int recovered = 0;
+        for (WebhookEvent event : pending) {
+            if (claim(event)) {
+                submit(event);
+                recovered++;
+            }
+        }
+        log.info("✅ 웹훅 대기열 시작 - 작업 스레드: {}개, 미처리 복구: {}건, 만료: {}건, 정리: {}건",
+                partitions.length, recovered, expired, deleted);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 대기 중인 재시도는 버림 (점유가 만료되면 다음 기동 시 복구)
+        retryScheduler.shutdownNow();
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+        try {
+            for (ExecutorService partition : partitions) {
+                partition.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(WebhookEvent event) {
+        if (queued.add(event.getEventId())) {
+            dispatch(event);
+        }
+    }
+
+    // 같은 방의 이벤트는 항상 같은 작업 스레드로 (재시도 대기 중에는 queued에 남겨 중복 예약 방지)
+    private void dispatch(WebhookEvent event) {
+        int index = event.getRoomName() == null ? 0 : Math.floorMod(event.getRoomName().hashCode(), partitions.length);
+        partitions[index].execute(() -> {
+            boolean retrying = false;
+            try {
+                retrying = !process(event) && scheduleRetry(event);
+            } finally {
+                if (!retrying) {
+                    queued.remove(event.getEventId());
+                }
+            }
+        });
+    }
+
+    // 처리 완료면 true, 실패하면 시도 횟수를 늘리고 false
+    // 방장 퇴장으로 방이 삭제되면 LiveKit 방은 StudyRoomService가 커밋 후 삭제
+    private boolean process(WebhookEvent event) {
+        try {
+            if ("participant_left".equals(event.getEvent())) {
+                webhookService.handleParticipantLeft(event.getRoomName(), event.getIdentity(), event.getReceivedAt());
+            }
+            webhookEventRepository.markProcessed(event.getEventId(), LocalDateTime.now());
+            return true;
+        } catch (Exception e) {
+            log.error("❌ 웹훅 처리 실패 - 이벤트ID: {}, 이벤트: {}, 방: {}, 시도: {}/{}, 오류: {}",
+                    event.getEventId(), event.getEvent(), event.getRoomName(),
+                    event.getAttempts() + 1, MAX_ATTEMPTS, e.getMessage(), e);
+            event.setAttempts(event.getAttempts() + 1);
+            try {
+                webhookEventRepository.incrementAttempts(event.getEventId());
+            } catch (Exception ex) {
+                log.warn("⚠️ 웹훅 시도 횟수 저장 실패 - 이벤트ID: {}, 오류: {}", event.getEventId(), ex.getMessage());
+            }
+            return false;
+        }
+    }
+
+    // 백오프 후 같은 작업 스레드로 다시 예약 - 재시도하지 않으면 false
+    private boolean scheduleRetry(WebhookEvent event) {
+        int attempts = event.getAttempts();
+        if (attempts >= MAX_ATTEMPTS) {
+            log.warn("⚠️ 웹훅 처리 포기 - 이벤트ID: {}, 시도: {}회", event.getEventId(), attempts);
+            return false;
+        }
+
+        long delay = retryBackoffMillis * (1L << (attempts - 1));
+        try {
+            retryScheduler.schedule(() -> {
+                try {
+                    if (claim(event)) {
+                        dispatch(event);
+                        return;
+                    }
+                } catch (RejectedExecutionException e) {
+                    log.debug("종료 중 - 웹훅 재시도 취소: {}", event.getEventId());
+                } catch (Exception e) {
+                    log.warn("⚠️ 웹훅 재시도 점유 실패 - 이벤트ID: {}, 오류: {}", event.getEventId(), e.getMessage());
+                }
+                queued.remove(event.getEventId());
+            }, delay, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // 점유 갱신 - 다른 인스턴스가 이미 처리했거나 처리 중이면 false
+    private boolean claim(WebhookEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        return webhookEventRepository.claim(
+                event.getEventId(), instanceId, now, now.minusSeconds(CLAIM_LEASE_SECONDS)) == 1;
+    }
+}
@@ -0,0 +1,57 @@
+package org.oreo.smore.domain.webhook;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface WebhookEventRepository extends JpaRepository<WebhookEvent, String> {
+
+    // 같은 이벤트 ID가 이미 있으면 중복 키 예외 (save는 기존 행을 덮어쓰므로 직접 INSERT)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into webhook_events (event_id, event, room_name, identity, received_at, attempts, claimed_by, claimed_at) " +
+            "values (:#{#e.eventId}, :#{#e.event}, :#{#e.roomName}, :#{#e.identity}, :#{#e.receivedAt}, 0, " +
+            ":#{#e.claimedBy}, :#{#e.claimedAt})",
+            nativeQuery = true)
+    int insert(@Param("e") WebhookEvent event);
+
+    List<WebhookEvent> findAllByProcessedAtIsNullAndAttemptsLessThanOrderByReceivedAtAsc(int maxAttempts);
+
+    // 미처리 이벤트 점유 - 아무도 점유하지 않았거나, 내가 점유했거나, 점유가 staleBefore 이전에 멈춘 경우만 성공(1)
+    @Transactional
+    @Modifying
+    @Query("update WebhookEvent e set e.claimedBy = :owner, e.claimedAt = :claimedAt " +
+            "where e.eventId = :eventId and e.processedAt is null " +
+            "and (e.claimedBy is null or e.claimedBy = :owner or e.claimedAt < :staleBefore)")
+    int claim(@Param("eventId") String eventId,
+              @Param("owner") String owner,
+              @Param("claimedAt") LocalDateTime claimedAt,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    // 너무 오래된 미처리 이벤트는 처리하지 않고 완료 처리 (그 사이 재입장/방 재사용이 있었을 수 있음)
+    @Transactional
+    @Modifying
+    @Query("update WebhookEvent e set e.processedAt = :processedAt " +
+            "where e.processedAt is null and e.receivedAt < :before")
+    int expirePendingBefore(@Param("before") LocalDateTime before, @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update WebhookEvent e set e.processedAt = :processedAt where e.eventId = :eventId")
+    int markProcessed(@Param("eventId") String eventId, @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update WebhookEvent e set e.attempts = e.attempts + 1 where e.eventId = :eventId")
+    int incrementAttempts(@Param("eventId") String eventId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from WebhookEvent e where e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,42 +1,53 @@
 package org.oreo.smore.domain.webhook;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.participant.Participant;
 import org.oreo.smore.domain.participant.ParticipantRepository;
-import org.oreo.smore.domain.studyroom.StudyRoom;
-import org.oreo.smore.domain.studyroom.StudyRoomRepository;
+import org.oreo.smore.domain.participant.RoomOccupancyRegistry;
+import org.oreo.smore.domain.studyroom.LiveKitRoomRegistry;
 import org.oreo.smore.domain.studyroom.StudyRoomService;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class WebhookService {
 
-    private final StudyRoomRepository studyRoomRepository;
+    private final LiveKitRoomRegistry liveKitRoomRegistry;
     private final UserRepository userRepository;
     private final ParticipantRepository participantRepository;
     private final StudyRoomService studyRoomService;
+    private final RoomOccupancyRegistry roomOccupancyRegistry;
 
+    // receivedAt 이후에 다시 입장한 참가 기록은 건드리지 않음 (늦게 처리된 퇴장 이벤트가 재입장한 사용자를 내보내지 않도록)
     @Transactional
-    public int handleParticipantLeft(String roomName, String identity) {
+    public int handleParticipantLeft(String roomName, String identity, LocalDateTime receivedAt) {
         if (roomName == null || identity == null) return 0;
 
-        Optional<StudyRoom> roomOpt = studyRoomRepository.findByLiveKitRoomId(roomName);
+        Optional<LiveKitRoomRegistry.RoomRef> roomOpt = liveKitRoomRegistry.resolve(roomName);
         if (roomOpt.isEmpty()) return 0;
 
-        Optional<User> userOpt = userRepository.findByNickname(identity);
-        if (userOpt.isEmpty()) return 0;
+        Long userId = resolveUserId(identity);
+        if (userId == null) return 0;
 
-        Long roomId = roomOpt.get().getRoomId();
-        Long userId = userOpt.get().getUserId();
+        Long roomId = roomOpt.get().roomId();
+
+        if (userId.equals(roomOpt.get().ownerId())) {
+            List<Participant> targets =
+                    participantRepository.findAllByRoomIdAndUserIdAndLeftAtIsNull(roomId, userId);
+            if (targets.stream().anyMatch(p -> joinedAfter(p, receivedAt))) {
+                log.info("방장 재입장 이후의 퇴장 이벤트 무시 - 방ID: {}, 사용자ID: {}", roomId, userId);
+                return 0;
+            }
 
-        if (roomOpt.get().getUserId().equals(userId)) {
             studyRoomService.deleteStudyRoom(roomId, userId);
 
             List<Participant> remainings =
@@ -46,8 +57,6 @@ public class WebhookService {
             }
             participantRepository.saveAll(remainings);
 
-            List<Participant> targets =
-                    participantRepository.findAllByRoomIdAndUserIdAndLeftAtIsNull(roomId, userId);
             for (Participant p : targets) {
                 p.leave();
             }
@@ -57,14 +66,35 @@ public class WebhookService {
         }
 
         List<Participant> targets =
-                participantRepository.findAllByRoomIdAndUserIdAndLeftAtIsNull(roomId, userId);
+                participantRepository.findAllByRoomIdAndUserIdAndLeftAtIsNull(roomId, userId).stream()
+                        .filter(p -> !joinedAfter(p, receivedAt))
+                        .toList();
 
         if (targets.isEmpty()) return 0;
 
         for (Participant p : targets) {
             p.leave();
+            roomOccupancyRegistry.decrement(roomId);
         }
         participantRepository.saveAll(targets);
         return 0;
     }
+
+    private static boolean joinedAfter(Participant participant, LocalDateTime receivedAt) {
+        return receivedAt != null && participant.getJoinedAt() != null
+                && participant.getJoinedAt().isAfter(receivedAt);
+    }
+
+    // LiveKit identity = userId
+    // 변경 전에 발급된 토큰(identity = 닉네임)이 남아 있을 수 있어 숫자가 아니면 닉네임으로 조회
+    private Long resolveUserId(String identity) {
+        try {
+            return Long.valueOf(identity);
+        } catch (NumberFormatException e) {
+            log.debug("숫자가 아닌 LiveKit identity - 닉네임으로 조회: [{}]", identity);
+            return userRepository.findByNickname(identity)
+                    .map(User::getUserId)
+                    .orElse(null);
+        }
+    }
 }
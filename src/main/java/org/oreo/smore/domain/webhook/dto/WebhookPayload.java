@@ -0,0 +1,47 @@
+package org.oreo.smore.domain.webhook.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// LiveKit 웹훅 요청 본문 중 사용하는 필드만
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WebhookPayload {
+
+    // 이벤트 ID (재전송 시 동일)
+    private String id;
+
+    private String event;
+
+    private RoomInfo room;
+
+    private ParticipantInfo participant;
+
+    public String roomName() {
+        return room != null ? room.getName() : null;
+    }
+
+    public String identity() {
+        return participant != null ? participant.getIdentity() : null;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class RoomInfo {
+        private String name;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ParticipantInfo {
+        private String identity;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 @Getter @Setter @NoArgsConstructor
 public class CursorPage<T> {
@@ -13,6 +14,7 @@ public class CursorPage<T> {
     private List<T> content;
     private boolean hasNext;
     private Long nextCursor;
+    private Long nextCursorScore; // 복합 커서 (score, id) 정렬일 때만 사용
 
     public CursorPage(Long cursorId, int size) {
         this.cursorId = cursorId;
@@ -30,6 +32,16 @@ public class CursorPage<T> {
         return page;
     }
 
+    // (score, id) 복합 커서 페이지
+    public static <T extends Identifiable> CursorPage<T> of(List<T> result, int size, ToLongFunction<T> scoreExtractor) {
+        CursorPage<T> page = of(result, size);
+        List<T> pageContent = page.getContent();
+        if (!pageContent.isEmpty()) {
+            page.setNextCursorScore(scoreExtractor.applyAsLong(pageContent.get(pageContent.size() - 1)));
+        }
+        return page;
+    }
+
     public Long getCursorIdOrDefault() {
         return cursorId != null ? cursorId : Long.MAX_VALUE;
     }
@@ -0,0 +1,59 @@
+package org.oreo.smore.global.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+
+// 시간 순서 정렬 가능한 64bit ID 생성기 (Snowflake 방식)
+// [41bit 밀리초(2024-01-01 기준)] [10bit 노드] [12bit 시퀀스]
+// 값이 JavaScript 안전 정수(2^53)를 넘으므로 API 응답에서는 문자열로 직렬화할 것
+@Slf4j
+@Component
+public class TsidGenerator {
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    // node-id 미설정 시 인스턴스마다 임의 노드 번호 사용
+    public TsidGenerator(@Value("${app.node-id:-1}") long configuredNodeId) {
+        this.nodeId = configuredNodeId >= 0
+                ? configuredNodeId & MAX_NODE
+                : new SecureRandom().nextInt((int) MAX_NODE + 1);
+        log.info("✅ TSID 생성기 초기화 - 노드: {}", nodeId);
+    }
+
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis();
+
+        // 시계가 뒤로 가면 마지막 시각을 계속 사용 (단조 증가 보장)
+        if (now < lastTimestamp) {
+            now = lastTimestamp;
+        }
+
+        if (now == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 밀리초 안에서 시퀀스 소진 → 다음 밀리초까지 대기
+                while (now <= lastTimestamp) {
+                    now = Math.max(System.currentTimeMillis(), lastTimestamp + 1);
+                }
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = now;
+        return ((now - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+}
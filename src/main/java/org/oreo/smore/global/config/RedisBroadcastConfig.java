@@ -0,0 +1,27 @@
+package org.oreo.smore.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.global.websocket.RedisBroadcastRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// chat.broadcast.mode=redis 일 때만 Redis 구독 컨테이너 등록
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "chat.broadcast.mode", havingValue = "redis")
+public class RedisBroadcastConfig {
+
+    @Bean
+    public RedisMessageListenerContainer stompBroadcastListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        RedisBroadcastRelay redisBroadcastRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisBroadcastRelay, new ChannelTopic(redisBroadcastRelay.getChannel()));
+        log.info("✅ Redis 브로드캐스트 구독 등록 - 채널: {}", redisBroadcastRelay.getChannel());
+        return container;
+    }
+}
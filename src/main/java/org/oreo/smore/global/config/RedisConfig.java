@@ -71,9 +71,6 @@ public class RedisConfig {
         // 사용자 프로필 (10분)
         cacheConfigurations.put("user:profile", defaultConfig.entryTtl(Duration.ofMinutes(10)));
 
-        // 포인트 총합 (5분)
-        cacheConfigurations.put("user:totalPoints", defaultConfig.entryTtl(Duration.ofMinutes(5)));
-
         // 학습 통계 (10분)
         cacheConfigurations.put("study:stats", defaultConfig.entryTtl(Duration.ofMinutes(10)));
 
@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.global.websocket.ChatChannelInterceptor;
 import org.oreo.smore.global.websocket.ChatHandshakeInterceptor;
+import org.oreo.smore.global.websocket.RedisBroadcastRelay;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
@@ -26,6 +28,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final ChatHandshakeInterceptor chatHandshakeInterceptor;
     private final ChatChannelInterceptor chatChannelInterceptor;
+    private final ObjectProvider<RedisBroadcastRelay> redisBroadcastRelay;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
@@ -38,6 +41,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 사용자별 개인 메시지 prefix 설정
         config.setUserDestinationPrefix("/user");
 
+        // 다중 인스턴스 모드: 서버 발행 /topic 메시지를 Redis pub/sub 으로 전 인스턴스에 전달
+        redisBroadcastRelay.ifAvailable(relay -> {
+            config.configureBrokerChannel().interceptors(relay);
+            log.info("✅ Redis 클러스터 브로드캐스트 활성화");
+        });
+
         log.info("✅ STOMP 메시지 브로커 설정 완료");
     }
 
@@ -2,8 +2,6 @@ package org.oreo.smore.global.websocket;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.oreo.smore.domain.user.User;
-import org.oreo.smore.domain.user.UserRepository;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -15,13 +13,16 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ChatChannelInterceptor implements ChannelInterceptor {
 
-    public final UserRepository userRepository;
+    private static final String CONNECTED_ATTRIBUTE = "principalConnected";
+
+    private final ChatPrincipalRegistry chatPrincipalRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -60,23 +61,27 @@ public class ChatChannelInterceptor implements ChannelInterceptor {
         }
 
         try {
-            // 사용자 정보 조회 및 Principal 설정
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+            // 핸드셰이크에서 만든 사용자 스냅샷 사용 (재조회 없음)
+            ChatPrincipal principal = chatPrincipalRegistry.resolve(accessor.getSessionAttributes());
+            if (principal == null) {
+                principal = chatPrincipalRegistry.load(userId);
+                accessor.getSessionAttributes().put(ChatPrincipal.SESSION_ATTRIBUTE, principal);
+            }
 
             // Spring Security Principal 설정
             Authentication auth = new UsernamePasswordAuthenticationToken(
-                    user.getEmail(),
+                    principal.email(),
                     null,
                     List.of()
             );
             accessor.setUser(auth);
 
-            // 세션에 사용자 정보 저장
-            accessor.getSessionAttributes().put("user", user);
+            if (accessor.getSessionAttributes().putIfAbsent(CONNECTED_ATTRIBUTE, Boolean.TRUE) == null) {
+                chatPrincipalRegistry.connect(principal);
+            }
 
             log.info("✅ STOMP CONNECT 성공 - 사용자: {} (ID: {}), 세션: {}",
-                    user.getNickname(), userId, accessor.getSessionId());
+                    principal.nickname(), userId, accessor.getSessionId());
 
         } catch (Exception e) {
             log.error("❌ STOMP CONNECT 중 오류 - 사용자ID: {}, 오류: {}", userId, e.getMessage());
@@ -105,11 +110,11 @@ public class ChatChannelInterceptor implements ChannelInterceptor {
             log.debug("📤 메시지 전송 요청 - 목적지: {}, 사용자: {}", destination, userInfo);
 
             // 사용자 정보를 헤더에 추가 (ChatController에서 사용)
-            User user = (User) accessor.getSessionAttributes().get("user");
-            if (user != null) {
-                accessor.setHeader("userId", user.getUserId());
-                accessor.setHeader("userNickname", user.getNickname());
-                accessor.setHeader("userProfileUrl", user.getProfileUrl());
+            ChatPrincipal principal = chatPrincipalRegistry.resolve(accessor.getSessionAttributes());
+            if (principal != null) {
+                accessor.setHeader("userId", principal.userId());
+                accessor.setHeader("userNickname", principal.nickname());
+                accessor.setHeader("userProfileUrl", principal.profileUrl());
             }
         }
     }
@@ -117,13 +122,21 @@ public class ChatChannelInterceptor implements ChannelInterceptor {
     // STOMP DISCONNECT 처리
     private void handleDisconnect(StompHeaderAccessor accessor) {
         String userInfo = getUserInfo(accessor);
+
+        // 클라이언트 DISCONNECT 후 세션 종료 시 한 번 더 들어올 수 있으므로 한 번만 반영
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        Long userId = attributes != null ? (Long) attributes.get("userId") : null;
+        if (userId != null && attributes.remove(CONNECTED_ATTRIBUTE) != null) {
+            chatPrincipalRegistry.disconnect(userId);
+        }
+
         log.info("🔌 STOMP 연결 해제 - 사용자: {}, 세션: {}", userInfo, accessor.getSessionId());
     }
 
     private String getUserInfo(StompHeaderAccessor accessor) {
-        User user = (User) accessor.getSessionAttributes().get("user");
-        if (user != null) {
-            return String.format("%s(ID:%d)", user.getNickname(), user.getUserId());
+        ChatPrincipal principal = (ChatPrincipal) accessor.getSessionAttributes().get(ChatPrincipal.SESSION_ATTRIBUTE);
+        if (principal != null) {
+            return String.format("%s(ID:%d)", principal.nickname(), principal.userId());
         }
 
         Long userId = (Long) accessor.getSessionAttributes().get("userId");
@@ -3,8 +3,6 @@ package org.oreo.smore.global.websocket;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.auth.jwt.JwtTokenProvider;
-import org.oreo.smore.domain.user.User;
-import org.oreo.smore.domain.user.UserRepository;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.stereotype.Component;
@@ -20,7 +18,7 @@ import java.util.Map;
 public class ChatHandshakeInterceptor implements HandshakeInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final ChatPrincipalRegistry chatPrincipalRegistry;
 
     @Override
     public boolean beforeHandshake(
@@ -51,18 +49,17 @@ public class ChatHandshakeInterceptor implements HandshakeInterceptor {
             String userIdStr = jwtTokenProvider.getUserIdFromToken(token, true);
             Long userId = Long.parseLong(userIdStr);
 
-            // 사용자 정보 조회
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+            // 사용자 정보 조회 (세션 동안 재사용할 스냅샷)
+            ChatPrincipal principal = chatPrincipalRegistry.load(userId);
 
             // WebSocket 세션에 사용자 정보 저장
             attributes.put("userId", userId);
-            attributes.put("userEmail", user.getEmail());
-            attributes.put("user", user);
+            attributes.put("userEmail", principal.email());
+            attributes.put(ChatPrincipal.SESSION_ATTRIBUTE, principal);
             attributes.put("token", token);
 
             log.info("✅ WebSocket 연결 성공 - 사용자: {} (ID: {}), IP: {}",
-                    user.getEmail(), userId, request.getRemoteAddress());
+                    principal.email(), userId, request.getRemoteAddress());
 
             return true;
 
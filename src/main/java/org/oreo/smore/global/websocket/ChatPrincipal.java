@@ -0,0 +1,14 @@
+package org.oreo.smore.global.websocket;
+
+import org.oreo.smore.domain.user.User;
+
+// WebSocket 세션별 사용자 정보 스냅샷 (불변)
+// 핸드셰이크 시 한 번 조회해 세션 속성에 저장하고, 메시지마다 사용자를 다시 조회하지 않음
+public record ChatPrincipal(Long userId, String nickname, String profileUrl, String email) {
+
+    public static final String SESSION_ATTRIBUTE = "user";
+
+    public static ChatPrincipal from(User user) {
+        return new ChatPrincipal(user.getUserId(), user.getNickname(), user.getProfileUrl(), user.getEmail());
+    }
+}
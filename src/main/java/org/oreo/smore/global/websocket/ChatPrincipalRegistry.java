@@ -0,0 +1,105 @@
+package org.oreo.smore.global.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 접속 중인 사용자의 최신 세션 스냅샷 관리
+// 닉네임/프로필 변경 시 무효화하면 다음 메시지에서 사용자당 한 번만 다시 조회
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPrincipalRegistry {
+
+    private final UserRepository userRepository;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // 사용자 조회 후 스냅샷 생성 (이미 접속 중인 사용자만 추적 스냅샷 갱신)
+    // 핸드셰이크 후 CONNECT가 오지 않을 수 있으므로 여기서는 항목을 만들지 않음
+    public ChatPrincipal load(Long userId) {
+        ChatPrincipal principal = userRepository.findById(userId)
+                .map(ChatPrincipal::from)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        entries.computeIfPresent(userId, (id, entry) -> {
+            entry.principal = principal;
+            return entry;
+        });
+        return principal;
+    }
+
+    // STOMP CONNECT - 첫 세션이면 세션 스냅샷으로 항목 생성, 세션 수 증가
+    public void connect(ChatPrincipal principal) {
+        entries.compute(principal.userId(), (id, entry) -> {
+            Entry target = entry;
+            if (target == null) {
+                target = new Entry();
+                target.principal = principal;
+            }
+            target.sessions++;
+            return target;
+        });
+    }
+
+    // STOMP DISCONNECT - 마지막 세션이 끊기면 스냅샷 제거
+    public void disconnect(Long userId) {
+        entries.computeIfPresent(userId, (id, entry) -> --entry.sessions <= 0 ? null : entry);
+    }
+
+    // 세션 스냅샷 반환 (무효화된 경우 다시 조회해 세션 속성도 갱신)
+    public ChatPrincipal resolve(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        ChatPrincipal cached = (ChatPrincipal) sessionAttributes.get(ChatPrincipal.SESSION_ATTRIBUTE);
+        if (cached == null) {
+            return null;
+        }
+
+        Entry entry = entries.get(cached.userId());
+        if (entry == null) {
+            return cached;
+        }
+
+        ChatPrincipal latest = entry.principal;
+        if (latest == null) {
+            latest = load(cached.userId());
+            log.debug("세션 사용자 정보 갱신 - 사용자ID: {}", cached.userId());
+        }
+        if (latest != cached) {
+            sessionAttributes.put(ChatPrincipal.SESSION_ATTRIBUTE, latest);
+        }
+        return latest;
+    }
+
+    // 사용자 정보 변경 후 호출 - 커밋 후 무효화
+    public void invalidate(Long userId) {
+        Runnable action = () -> {
+            Entry entry = entries.get(userId);
+            if (entry != null) {
+                entry.principal = null;
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Entry {
+        private volatile ChatPrincipal principal;
+        private int sessions;   // compute 안에서만 변경
+    }
+}
@@ -0,0 +1,112 @@
+package org.oreo.smore.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+// 다중 인스턴스 브로드캐스트 (chat.broadcast.mode=redis)
+// 서버에서 /topic 으로 보내는 메시지는 로컬 브로커로 그대로 전달하면서 Redis 채널에도 발행하고,
+// 다른 인스턴스가 발행한 메시지만 각자의 로컬 브로커에 다시 전달한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broadcast.mode", havingValue = "redis")
+public class RedisBroadcastRelay implements ChannelInterceptor, MessageListener {
+
+    static final String RELAYED_HEADER = "smoreClusterRelayed";
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectProvider<MessageChannel> brokerChannelProvider;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    // 자기 인스턴스가 발행한 메시지를 수신 시 건너뛰기 위한 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public RedisBroadcastRelay(StringRedisTemplate redisTemplate,
+                               @Qualifier("brokerChannel") ObjectProvider<MessageChannel> brokerChannelProvider,
+                               ObjectMapper objectMapper,
+                               @Value("${chat.broadcast.redis-channel:smore:stomp:broadcast}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.brokerChannelProvider = brokerChannelProvider;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    // brokerChannel 인터셉터 - /topic 메시지를 Redis로 발행하고 로컬 전달은 그대로 진행
+    // (null을 반환하면 SimpMessagingTemplate 전송이 MessageDeliveryException으로 실패한다)
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel messageChannel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null
+                || !destination.startsWith(TOPIC_PREFIX)
+                || Boolean.TRUE.equals(accessor.getHeader(RELAYED_HEADER))
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        try {
+            MimeType contentType = accessor.getContentType();
+            BroadcastEnvelope envelope = new BroadcastEnvelope(
+                    instanceId,
+                    destination,
+                    contentType != null ? contentType.toString() : null,
+                    new String(payload, StandardCharsets.UTF_8));
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            // Redis 장애 시에도 같은 인스턴스의 구독자에게는 전달
+            log.error("❌ Redis 브로드캐스트 발행 실패 - 로컬만 전달, 목적지: {}, 오류: {}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    // Redis 구독 - 다른 인스턴스가 발행한 메시지만 로컬 브로커로 재전달
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message redisMessage, byte[] pattern) {
+        try {
+            BroadcastEnvelope envelope = objectMapper.readValue(redisMessage.getBody(), BroadcastEnvelope.class);
+            if (instanceId.equals(envelope.origin())) {
+                return; // 발행 시 이미 로컬로 전달됨
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(envelope.destination());
+            if (envelope.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+            }
+            accessor.setHeader(RELAYED_HEADER, true);
+            accessor.setLeaveMutable(true);
+
+            byte[] payload = envelope.payload().getBytes(StandardCharsets.UTF_8);
+            brokerChannelProvider.getObject()
+                    .send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("❌ Redis 브로드캐스트 수신 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    record BroadcastEnvelope(String origin, String destination, String contentType, String payload) {
+    }
+}
@@ -17,6 +17,7 @@ import org.oreo.smore.domain.studyroom.dto.CreateStudyRoomRequest;
 import org.oreo.smore.domain.studyroom.dto.CreateStudyRoomResponse;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
+import org.oreo.smore.global.common.TsidGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -90,6 +91,9 @@ class ChatIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TsidGenerator tsidGenerator;
+
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
@@ -156,6 +160,25 @@ class ChatIntegrationTest {
         return client;
     }
 
+    // 테스트 메시지 저장 - 발행(publishMessage)은 지연 저장 큐가 비동기로 저장하므로 엔티티를 직접 저장
+    private ChatMessageDTO.Response saveMessage(ChatMessageDTO.Request request, User user) {
+        ChatMessage saved = chatMessageRepository.saveAndFlush(ChatMessage.builder()
+                .id(tsidGenerator.nextId())
+                .roomId(request.getRoomId())
+                .user(user)
+                .content(request.getContent())
+                .messageType(request.getMessageType() != null ? request.getMessageType() : MessageType.CHAT)
+                .build());
+        return ChatMessageDTO.Response.builder()
+                .messageId(saved.getId())
+                .roomId(saved.getRoomId())
+                .userId(user.getUserId())
+                .content(saved.getContent())
+                .messageType(saved.getMessageType())
+                .createdAt(saved.getCreatedAt())
+                .build();
+    }
+
     @Test
     @DisplayName("🏠 1. StudyRoom 생성 → ChatRoom 자동 생성 → 실시간 채팅 전체 플로우 테스트")
     void testFullStudyRoomToChatFlow() throws Exception {
@@ -343,7 +366,7 @@ class ChatIntegrationTest {
                     .content("삭제 테스트 메시지 " + i)
                     .messageType(MessageType.CHAT)
                     .build();
-            chatService.saveMessage(messageRequest, testOwner);
+            saveMessage(messageRequest, testOwner);
         }
 
         // 메시지 저장 확인
@@ -395,7 +418,7 @@ class ChatIntegrationTest {
                     .content("기존 메시지 " + i)
                     .messageType(MessageType.CHAT)
                     .build();
-            chatService.saveMessage(messageRequest, testOwner);
+            saveMessage(messageRequest, testOwner);
             Thread.sleep(10); // 시간 차이 생성
         }
 
@@ -697,7 +720,7 @@ class ChatIntegrationTest {
                     .content("방장퇴장 테스트 메시지 " + i)
                     .messageType(MessageType.CHAT)
                     .build();
-            chatService.saveMessage(messageRequest, (i % 2 == 0) ? testParticipant : testOwner);
+            saveMessage(messageRequest, (i % 2 == 0) ? testParticipant : testOwner);
         }
 
         // 메시지 및 ChatRoom 존재 확인
@@ -0,0 +1,215 @@
+package org.oreo.smore.domain.chat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.chat.ChatMessageWriteBehindQueue.PendingMessage;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageWriteBehindQueue 단위 테스트")
+class ChatMessageWriteBehindQueueTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 10, 10, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PendingMessage message(long id, MessageType messageType) {
+        return new PendingMessage(id, ROOM_ID, USER_ID, "메시지 " + id, messageType, CREATED_AT);
+    }
+
+    // batchUpdate에 전달된 배치별 메시지 ID
+    @SuppressWarnings("unchecked")
+    private List<List<Long>> recordBatches() {
+        List<List<Long>> batches = Collections.synchronizedList(new ArrayList<>());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<PendingMessage> batch = invocation.getArgument(1);
+                    batches.add(batch.stream().map(PendingMessage::id).toList());
+                    return new int[0][];
+                });
+        return batches;
+    }
+
+    @Test
+    @DisplayName("작업 스레드가 쌓인 메시지를 배치 크기 이하로 묶어 저장한다")
+    void 배치_저장() {
+        List<List<Long>> batches = recordBatches();
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(jdbcTemplate, 100, 3, 10);
+        for (long id = 1; id <= 10; id++) {
+            queue.enqueue(message(id, MessageType.CHAT));
+        }
+
+        queue.start();
+        verify(jdbcTemplate, timeout(2000).atLeast(4))
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        queue.shutdown();
+
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(3));
+        assertThat(batches.stream().flatMap(List::stream).toList())
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(queue.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 메시지를 배치 크기로 나눠 모두 저장한다")
+    void 종료_시_저장() {
+        List<List<Long>> batches = recordBatches();
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(jdbcTemplate, 100, 3, 10);
+        for (long id = 1; id <= 7; id++) {
+            queue.enqueue(message(id, MessageType.CHAT));
+        }
+
+        queue.shutdown();
+
+        assertThat(batches).containsExactly(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L));
+        assertThat(queue.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 바로 저장한다")
+    void 큐_포화_직접_저장() {
+        List<List<Long>> batches = recordBatches();
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(jdbcTemplate, 1, 3, 1);
+
+        queue.enqueue(message(1L, MessageType.CHAT));
+        queue.enqueue(message(2L, MessageType.CHAT));
+
+        assertThat(batches).containsExactly(List.of(2L));
+        assertThat(queue.pendingCount()).isEqualTo(1);
+        queue.shutdown();
+        assertThat(batches).containsExactly(List.of(2L), List.of(1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("배치 저장이 실패하면 한 건씩 다시 저장하고, 중복/실패 건은 건너뛴다")
+    void 배치_실패_개별_재시도() {
+        List<List<Long>> attempts = Collections.synchronizedList(new ArrayList<>());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<PendingMessage> batch = invocation.getArgument(1);
+                    List<Long> ids = batch.stream().map(PendingMessage::id).toList();
+                    attempts.add(ids);
+                    if (ids.size() > 1) {
+                        throw new DataAccessResourceFailureException("connection reset");
+                    }
+                    if (ids.get(0) == 2L) {
+                        throw new DuplicateKeyException("이미 저장됨");
+                    }
+                    if (ids.get(0) == 3L) {
+                        throw new DataAccessResourceFailureException("connection reset");
+                    }
+                    return new int[0][];
+                });
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(jdbcTemplate, 100, 3, 10);
+        List<Long> failed = new ArrayList<>();
+        queue.addFailureListener(message -> failed.add(message.id()));
+        queue.enqueue(message(1L, MessageType.CHAT));
+        queue.enqueue(message(2L, MessageType.CHAT));
+        queue.enqueue(message(3L, MessageType.CHAT));
+
+        queue.shutdown();
+
+        assertThat(attempts).containsExactly(List.of(1L, 2L, 3L), List.of(1L), List.of(2L), List.of(3L));
+        // 끝내 저장하지 못한 메시지만 실패 리스너에 알림
+        assertThat(failed).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("저장 전에 작성자가 삭제한 메시지는 저장하지 않는다")
+    void 저장_전_취소() {
+        List<List<Long>> batches = recordBatches();
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(jdbcTemplate, 100, 3, 10);
+        queue.enqueue(message(1L, MessageType.CHAT));
+        queue.enqueue(message(2L, MessageType.CHAT));
+
+        assertThat(queue.cancel(1L, ROOM_ID, 99L)).isFalse();
+        assertThat(queue.cancel(1L, 2L, USER_ID)).isFalse();
+        assertThat(queue.cancel(1L, ROOM_ID, USER_ID)).isTrue();
+        queue.shutdown();
+
+        assertThat(batches).containsExactly(List.of(2L));
+        // 저장된 메시지는 취소 대상이 아님 (DB에서 삭제)
+        assertThat(queue.cancel(2L, ROOM_ID, USER_ID)).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("저장 중에 삭제된 메시지는 저장 직후 삭제 처리한다")
+    void 저장_중_취소() {
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(jdbcTemplate, 100, 3, 10);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    assertThat(queue.cancel(1L, ROOM_ID, USER_ID)).isTrue();
+                    return new int[0][];
+                });
+        queue.enqueue(message(1L, MessageType.CHAT));
+
+        queue.shutdown();
+
+        verify(jdbcTemplate).update(anyString(), any(Timestamp.class), eq(1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("메시지 타입과 작성자를 바인딩하고, 작성자가 없는 시스템 메시지는 user_id를 NULL로 저장한다")
+    void 메시지_바인딩() throws Exception {
+        ChatMessageWriteBehindQueue queue = new ChatMessageWriteBehindQueue(jdbcTemplate, 100, 10, 10);
+        queue.enqueue(message(1L, MessageType.CHAT));
+        queue.enqueue(new PendingMessage(2L, ROOM_ID, null, "스터디룸이 시작되었습니다.", MessageType.SYSTEM, CREATED_AT));
+        queue.shutdown();
+
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<PendingMessage>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), eq(2), setter.capture());
+
+        PreparedStatement chat = mock(PreparedStatement.class);
+        setter.getValue().setValues(chat, message(1L, MessageType.CHAT));
+        verify(chat).setLong(1, 1L);
+        verify(chat).setLong(2, ROOM_ID);
+        verify(chat).setLong(3, USER_ID);
+        verify(chat).setString(5, "CHAT");
+        verify(chat).setTimestamp(6, Timestamp.valueOf(CREATED_AT));
+
+        PreparedStatement system = mock(PreparedStatement.class);
+        setter.getValue().setValues(system,
+                new PendingMessage(2L, ROOM_ID, null, "스터디룸이 시작되었습니다.", MessageType.SYSTEM, CREATED_AT));
+        verify(system).setNull(3, Types.BIGINT);
+        verify(system, never()).setLong(eq(3), anyLong());
+        verify(system).setString(4, "스터디룸이 시작되었습니다.");
+        verify(system).setString(5, "SYSTEM");
+    }
+}
@@ -0,0 +1,106 @@
+package org.oreo.smore.domain.chat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.oreo.smore.global.websocket.ChatPrincipal;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatPresenceAggregator 단위 테스트")
+class ChatPresenceAggregatorTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final String DESTINATION = "/topic/study-rooms/1/chat";
+
+    @Mock
+    private ChatService chatService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private ChatPresenceAggregator aggregator;
+
+    private final ChatPrincipal alice = new ChatPrincipal(1L, "A", null, "a@test.com");
+    private final ChatPrincipal bob = new ChatPrincipal(2L, "B", null, "b@test.com");
+    private final ChatPrincipal carol = new ChatPrincipal(3L, "C", null, "c@test.com");
+
+    @BeforeEach
+    void setUp() {
+        // 예약된 발행이 테스트 중에 실행되지 않도록 충분히 긴 구간 사용
+        aggregator = new ChatPresenceAggregator(chatService, messagingTemplate, 60_000);
+    }
+
+    private void stubPublish() {
+        when(chatService.publishPresenceMessage(eq(ROOM_ID), any(), anyString(), any()))
+                .thenReturn(ChatMessageDTO.Response.builder()
+                        .messageId(100L)
+                        .roomId(ROOM_ID)
+                        .createdAt(LocalDateTime.now())
+                        .build());
+    }
+
+    @Test
+    @DisplayName("같은 구간의 입장은 하나의 메시지로 합쳐 저장/브로드캐스트한다")
+    void 입장_병합() {
+        stubPublish();
+        aggregator.submit(ROOM_ID, alice, MessageType.USER_JOIN);
+        aggregator.submit(ROOM_ID, bob, MessageType.USER_JOIN);
+
+        aggregator.flushAll();
+
+        verify(chatService, times(1)).publishPresenceMessage(
+                eq(ROOM_ID), eq(MessageType.USER_JOIN), eq("A, B님이 입장하셨습니다."), isNull());
+        ArgumentCaptor<ChatMessageDTO.Broadcast> captor = ArgumentCaptor.forClass(ChatMessageDTO.Broadcast.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq(DESTINATION), captor.capture());
+        assertThat(captor.getValue().getBroadcastType()).isEqualTo("USER_JOIN");
+        assertThat(captor.getValue().getNickname()).isEqualTo("A, B");
+    }
+
+    @Test
+    @DisplayName("입장 후 퇴장, 퇴장 후 재입장은 서로 상쇄되어 알리지 않는다")
+    void 재접속_상쇄() {
+        aggregator.submit(ROOM_ID, alice, MessageType.USER_JOIN);
+        aggregator.submit(ROOM_ID, alice, MessageType.USER_LEAVE);
+        aggregator.submit(ROOM_ID, bob, MessageType.USER_LEAVE);
+        aggregator.submit(ROOM_ID, bob, MessageType.USER_JOIN);
+        aggregator.submit(ROOM_ID, bob, MessageType.USER_LEAVE);
+        aggregator.submit(ROOM_ID, bob, MessageType.USER_JOIN);
+
+        aggregator.flushAll();
+
+        verify(chatService, never()).publishPresenceMessage(any(), any(), anyString(), any());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("한 명만 입장/퇴장하면 기존과 같이 해당 사용자 메시지로 발행한다")
+    void 단일_사용자() {
+        stubPublish();
+        aggregator.submit(ROOM_ID, alice, MessageType.USER_JOIN);
+        aggregator.submit(ROOM_ID, carol, MessageType.USER_LEAVE);
+
+        aggregator.flushAll();
+
+        verify(chatService).publishPresenceMessage(ROOM_ID, MessageType.USER_JOIN, "A님이 입장하셨습니다.", alice);
+        verify(chatService).publishPresenceMessage(ROOM_ID, MessageType.USER_LEAVE, "C님이 퇴장하셨습니다.", carol);
+        verify(messagingTemplate, times(2)).convertAndSend(eq(DESTINATION), any(Object.class));
+    }
+}
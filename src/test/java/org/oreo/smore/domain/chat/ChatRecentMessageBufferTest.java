@@ -0,0 +1,165 @@
+package org.oreo.smore.domain.chat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatRecentMessageBuffer 단위 테스트")
+class ChatRecentMessageBufferTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private ChatRecentMessageBuffer buffer;
+    private List<ChatMessageDTO.Response> database;
+    private AtomicInteger loadCount;
+    private IntFunction<List<ChatMessageDTO.Response>> loader;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ChatRecentMessageBuffer(5, 10, "local");
+        database = new ArrayList<>();
+        loadCount = new AtomicInteger();
+        loader = limit -> {
+            loadCount.incrementAndGet();
+            return database.stream()
+                    .sorted(Comparator.comparing(ChatMessageDTO.Response::getCreatedAt)
+                            .thenComparing(ChatMessageDTO.Response::getMessageId).reversed())
+                    .limit(limit)
+                    .toList();
+        };
+    }
+
+    private ChatMessageDTO.Response message(long id) {
+        return ChatMessageDTO.Response.builder()
+                .messageId(id)
+                .roomId(ROOM_ID)
+                .userId(100L)
+                .content("메시지 " + id)
+                .messageType(MessageType.CHAT)
+                .createdAt(BASE_TIME.plusSeconds(id))
+                .build();
+    }
+
+    private List<Long> ids(List<ChatMessageDTO.Response> messages) {
+        return messages.stream().map(ChatMessageDTO.Response::getMessageId).toList();
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 DB에서 한 번만 채우고 이후에는 메모리에서 응답한다")
+    void 첫_조회_로딩() {
+        for (long id = 1; id <= 3; id++) {
+            database.add(message(id));
+        }
+
+        Optional<Slice<ChatMessageDTO.Response>> first = buffer.findPage(ROOM_ID, null, null, 10, loader);
+        Optional<Slice<ChatMessageDTO.Response>> second = buffer.findPage(ROOM_ID, null, null, 10, loader);
+
+        assertThat(first).isPresent();
+        assertThat(ids(first.get().getContent())).containsExactly(3L, 2L, 1L);
+        assertThat(first.get().hasNext()).isFalse();
+        assertThat(second).isPresent();
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커서가 버퍼 범위 안이면 메모리에서, 범위를 벗어나면 DB로 넘긴다")
+    void 키셋_버퍼_범위() {
+        for (long id = 1; id <= 20; id++) {
+            database.add(message(id));
+        }
+
+        Slice<ChatMessageDTO.Response> firstPage = buffer.findPage(ROOM_ID, null, null, 3, loader).orElseThrow();
+        assertThat(ids(firstPage.getContent())).containsExactly(20L, 19L, 18L);
+        assertThat(firstPage.hasNext()).isTrue();
+
+        ChatMessageDTO.Response last = firstPage.getContent().get(2);
+        Optional<Slice<ChatMessageDTO.Response>> deeper = buffer.findPage(
+                ROOM_ID, last.getMessageId(), last.getCreatedAt(), 3, loader);
+
+        // 버퍼에는 16~20만 있으므로 17, 16 이후는 DB 조회 필요
+        assertThat(deeper).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송된 메시지는 즉시 반영되고 용량을 넘으면 오래된 메시지부터 버린다")
+    void 전송_반영() {
+        database.add(message(1));
+        buffer.findPage(ROOM_ID, null, null, 10, loader);
+
+        for (long id = 2; id <= 7; id++) {
+            buffer.append(message(id));
+        }
+
+        assertThat(buffer.findLatest(ROOM_ID, loader)).map(ChatMessageDTO.Response::getMessageId).contains(7L);
+        assertThat(buffer.findPage(ROOM_ID, null, null, 5, loader).orElseThrow().getContent())
+                .extracting(ChatMessageDTO.Response::getMessageId)
+                .containsExactly(7L, 6L, 5L, 4L, 3L);
+        // 1번이 밀려났으므로 더 이전 기록은 DB에서 조회
+        assertThat(buffer.findPage(ROOM_ID, null, null, 10, loader)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로딩 전에 전송된 메시지와 DB 로딩 결과를 중복 없이 합친다")
+    void 로딩_전_전송_병합() {
+        database.add(message(1));
+        database.add(message(2));
+        buffer.append(message(2));
+        buffer.append(message(3)); // 아직 DB에 저장되지 않은 메시지
+
+        Slice<ChatMessageDTO.Response> page = buffer.findPage(ROOM_ID, null, null, 10, loader).orElseThrow();
+
+        assertThat(ids(page.getContent())).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("기준 시간 이후 메시지를 오래된 순으로 반환한다")
+    void 기준시간_이후_조회() {
+        for (long id = 1; id <= 4; id++) {
+            database.add(message(id));
+        }
+
+        Optional<List<ChatMessageDTO.Response>> recent = buffer.findSince(ROOM_ID, BASE_TIME.plusSeconds(3), loader);
+
+        assertThat(recent).isPresent();
+        assertThat(ids(recent.get())).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("삭제된 메시지와 삭제된 채팅방은 버퍼에서 제거된다")
+    void 삭제_반영() {
+        database.add(message(1));
+        database.add(message(2));
+        buffer.findPage(ROOM_ID, null, null, 10, loader);
+
+        buffer.remove(ROOM_ID, 2L);
+        assertThat(buffer.findLatest(ROOM_ID, loader)).map(ChatMessageDTO.Response::getMessageId).contains(1L);
+
+        buffer.evict(ROOM_ID);
+        database.clear();
+        assertThat(buffer.findLatest(ROOM_ID, loader)).isEmpty();
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("redis 브로드캐스트 모드에서는 버퍼를 사용하지 않는다")
+    void redis_모드_비활성화() {
+        ChatRecentMessageBuffer disabled = new ChatRecentMessageBuffer(5, 10, "redis");
+
+        assertThat(disabled.canServe()).isFalse();
+        assertThat(disabled.findPage(ROOM_ID, null, null, 10, loader)).isEmpty();
+        assertThat(loadCount.get()).isZero();
+    }
+}
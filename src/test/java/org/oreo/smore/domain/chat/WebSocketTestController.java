@@ -1,7 +1,7 @@
 package org.oreo.smore.domain.chat;
 
 import lombok.extern.slf4j.Slf4j;
-import org.oreo.smore.domain.user.User;
+import org.oreo.smore.global.websocket.ChatPrincipal;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.annotation.SendToUser;
@@ -28,16 +28,16 @@ public class WebSocketTestController {
         log.info("🏓 Ping 메시지 수신: {}", message);
 
         // 세션에서 사용자 정보 추출
-        User user = (User) headerAccessor.getSessionAttributes().get("user");
+        ChatPrincipal user = (ChatPrincipal) headerAccessor.getSessionAttributes().get(ChatPrincipal.SESSION_ATTRIBUTE);
 
         return Map.of(
                 "message", "pong",
                 "originalMessage", message.get("message"),
                 "timestamp", System.currentTimeMillis(),
                 "user", Map.of(
-                        "userId", user.getUserId(),
-                        "nickname", user.getNickname(),
-                        "email", user.getEmail()
+                        "userId", user.userId(),
+                        "nickname", user.nickname(),
+                        "email", user.email()
                 )
         );
     }
@@ -52,15 +52,15 @@ public class WebSocketTestController {
         log.info("📊 상태 확인 요청: {}", message);
 
         // 세션에서 사용자 정보 추출
-        User user = (User) headerAccessor.getSessionAttributes().get("user");
+        ChatPrincipal user = (ChatPrincipal) headerAccessor.getSessionAttributes().get(ChatPrincipal.SESSION_ATTRIBUTE);
 
         return Map.of(
                 "status", "connected",
                 "timestamp", System.currentTimeMillis(),
                 "user", Map.of(
-                        "userId", user.getUserId(),
-                        "nickname", user.getNickname(),
-                        "email", user.getEmail()
+                        "userId", user.userId(),
+                        "nickname", user.nickname(),
+                        "email", user.email()
                 )
         );
     }
@@ -75,7 +75,7 @@ public class WebSocketTestController {
         log.info("💌 개인 메시지 수신: {}", message);
 
         // 세션에서 사용자 정보 추출
-        User user = (User) headerAccessor.getSessionAttributes().get("user");
+        ChatPrincipal user = (ChatPrincipal) headerAccessor.getSessionAttributes().get(ChatPrincipal.SESSION_ATTRIBUTE);
 
         return Map.of(
                 "message", "개인 메시지가 정상적으로 처리되었습니다.",
@@ -83,9 +83,9 @@ public class WebSocketTestController {
                 "type", "PRIVATE_RESPONSE",
                 "timestamp", System.currentTimeMillis(),
                 "user", Map.of(
-                        "userId", user.getUserId(),
-                        "nickname", user.getNickname(),
-                        "email", user.getEmail()
+                        "userId", user.userId(),
+                        "nickname", user.nickname(),
+                        "email", user.email()
                 )
         );
     }
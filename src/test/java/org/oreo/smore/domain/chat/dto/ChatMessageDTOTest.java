@@ -0,0 +1,68 @@
+package org.oreo.smore.domain.chat.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.chat.MessageType;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatMessageDTO 직렬화 테스트")
+class ChatMessageDTOTest {
+
+    // 2^53 을 넘는 TSID
+    private static final long MESSAGE_ID = 372_000_000_000_000_001L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("메시지 ID는 JS에서 정밀도가 손실되지 않도록 문자열로 직렬화하고, 문자열로 받은 값은 다시 읽을 수 있다")
+    void 메시지_ID_문자열_직렬화() throws Exception {
+        ChatMessageDTO.Response response = ChatMessageDTO.Response.builder()
+                .messageId(MESSAGE_ID)
+                .roomId(1L)
+                .content("안녕하세요")
+                .messageType(MessageType.CHAT)
+                .build();
+        ChatMessageDTO.Broadcast broadcast = ChatMessageDTO.Broadcast.builder().messageId(MESSAGE_ID).build();
+        ChatMessageDTO.PageCursor cursor = ChatMessageDTO.PageCursor.builder().lastMessageId(MESSAGE_ID).build();
+
+        JsonNode responseJson = objectMapper.readTree(objectMapper.writeValueAsString(response));
+        JsonNode broadcastJson = objectMapper.readTree(objectMapper.writeValueAsString(broadcast));
+        JsonNode cursorJson = objectMapper.readTree(objectMapper.writeValueAsString(cursor));
+
+        assertThat(responseJson.get("messageId").isTextual()).isTrue();
+        assertThat(responseJson.get("messageId").asText()).isEqualTo(String.valueOf(MESSAGE_ID));
+        assertThat(broadcastJson.get("messageId").asText()).isEqualTo(String.valueOf(MESSAGE_ID));
+        assertThat(cursorJson.get("lastMessageId").asText()).isEqualTo(String.valueOf(MESSAGE_ID));
+        assertThat(objectMapper.readValue(objectMapper.writeValueAsString(response), ChatMessageDTO.Response.class)
+                .getMessageId()).isEqualTo(MESSAGE_ID);
+    }
+
+    @Test
+    @DisplayName("브로드캐스트 메타데이터의 메시지 ID도 문자열로 직렬화된다")
+    void 메타데이터_메시지_ID_문자열_직렬화() throws Exception {
+        ChatMessageDTO.Response response = ChatMessageDTO.Response.builder()
+                .messageId(MESSAGE_ID)
+                .roomId(1L)
+                .content("안녕하세요")
+                .messageType(MessageType.CHAT)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .user(ChatMessageDTO.UserInfo.builder().userId(1L).nickname("테스터").build())
+                .build();
+        ChatMessageDTO.Broadcast broadcast = ChatMessageDTO.Broadcast.builder()
+                .messageId(MESSAGE_ID)
+                .metadata(ChatMessageDTO.Broadcast.messageMetadata(response))
+                .build();
+
+        JsonNode broadcastJson = objectMapper.readTree(objectMapper.writeValueAsString(broadcast));
+
+        JsonNode metadataId = broadcastJson.get("metadata").get("messageId");
+        assertThat(metadataId.isTextual()).isTrue();
+        assertThat(metadataId.asText()).isEqualTo(broadcastJson.get("messageId").asText());
+    }
+}
@@ -0,0 +1,126 @@
+package org.oreo.smore.domain.focusrecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FocusAggregateService 단위 테스트")
+class FocusAggregateServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 10);
+
+    @Mock
+    private FocusHourlyStatRepository focusHourlyStatRepository;
+
+    @Mock
+    private FocusStreakStateRepository focusStreakStateRepository;
+
+    @Mock
+    private FocusRecordRepository focusRecordRepository;
+
+    @InjectMocks
+    private FocusAggregateService service;
+
+    private FocusRecord sample(int hour, int minute, int status) {
+        return FocusRecord.builder()
+                .userId(USER_ID)
+                .timestamp(DATE.atTime(hour, minute).toInstant(ZoneOffset.UTC))
+                .status(status)
+                .build();
+    }
+
+    private FocusStreakState emptyState() {
+        return FocusStreakState.builder().userId(USER_ID).openStreak(0).build();
+    }
+
+    @Test
+    @DisplayName("샘플을 UTC 시간대별로 합산하고 끊긴 집중 구간을 기록한다")
+    void 시간대별_누적() {
+        FocusStreakState state = emptyState();
+
+        // 순서가 섞여 들어와도 시간순으로 처리
+        Map<FocusAggregateService.Bucket, long[]> deltas = FocusAggregateService.accumulate(List.of(
+                sample(1, 2, 90), sample(1, 0, 80), sample(1, 4, 50), sample(2, 0, 100)), state);
+
+        long[] first = deltas.get(new FocusAggregateService.Bucket(DATE, 1));
+        long[] second = deltas.get(new FocusAggregateService.Bucket(DATE, 2));
+        assertThat(first).containsExactly(220, 3, 1, 2);
+        assertThat(second).containsExactly(100, 1, 0, 0);
+        assertThat(state.getOpenStreak()).isEqualTo(1);
+        assertThat(state.getLastTimestamp()).isEqualTo(DATE.atTime(2, 0).toInstant(ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("마지막 샘플보다 과거 샘플은 시간대별 합계에만 반영한다")
+    void 늦게_도착한_샘플() {
+        FocusStreakState state = emptyState();
+        state.setLastTimestamp(DATE.atTime(3, 0).toInstant(ZoneOffset.UTC));
+        state.setOpenStreak(2);
+
+        Map<FocusAggregateService.Bucket, long[]> deltas =
+                FocusAggregateService.accumulate(List.of(sample(1, 0, 10)), state);
+
+        assertThat(deltas.get(new FocusAggregateService.Bucket(DATE, 1))).containsExactly(10, 1, 0, 0);
+        assertThat(state.getOpenStreak()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 시 진행 중인 구간을 포함하고 클라이언트 오프셋만큼 회전한다")
+    void 조회_회전() {
+        Instant since = DATE.atStartOfDay().toInstant(ZoneOffset.UTC);
+        when(focusHourlyStatRepository.findAllByUserIdAndStatDateGreaterThanEqual(USER_ID, DATE))
+                .thenReturn(List.of(FocusHourlyStat.builder()
+                        .userId(USER_ID).statDate(DATE).statHour(23)
+                        .statusSum(180L).sampleCount(2L).streakCount(1L).streakSamples(4L)
+                        .build()));
+        when(focusStreakStateRepository.findById(USER_ID)).thenReturn(Optional.of(FocusStreakState.builder()
+                .userId(USER_ID)
+                .lastTimestamp(DATE.atTime(23, 30).toInstant(ZoneOffset.UTC))
+                .openStreak(2)
+                .build()));
+
+        FocusAggregateService.HourlyProfile profile =
+                service.getProfile(USER_ID, since).rotate(ZoneOffset.ofHours(9));
+
+        // UTC 23시 → +09:00 기준 8시
+        assertThat(profile.average(8)).isEqualTo(90.0);
+        assertThat(profile.sampleCount()[23]).isZero();
+        assertThat(profile.streakCount()).isEqualTo(2);
+        assertThat(profile.streakSamples()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("첫 샘플이면 상태 행을 먼저 만든 뒤 잠그고, 시간대별 집계는 한 문장으로 누적한다")
+    void 첫_샘플_상태_생성_후_누적() {
+        when(focusStreakStateRepository.findForUpdate(USER_ID)).thenReturn(Optional.of(emptyState()));
+
+        service.record(USER_ID, List.of(sample(1, 0, 90), sample(2, 0, 50)));
+
+        InOrder order = inOrder(focusStreakStateRepository, focusHourlyStatRepository);
+        order.verify(focusStreakStateRepository).insertIfAbsent(USER_ID);
+        order.verify(focusStreakStateRepository).findForUpdate(USER_ID);
+        order.verify(focusHourlyStatRepository).add(USER_ID, DATE, 1, 90, 1, 0, 0);
+        order.verify(focusHourlyStatRepository).add(USER_ID, DATE, 2, 50, 1, 1, 1);
+        verify(focusHourlyStatRepository, never()).save(any(FocusHourlyStat.class));
+    }
+}
@@ -0,0 +1,141 @@
+package org.oreo.smore.domain.focusrecord;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordsResponse.FocusTimeDto;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordsResponse.FocusTrackDto;
+import org.oreo.smore.global.common.GmsProperties;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FocusFeedbackGenerator 단위 테스트 (로컬 GMS 스텁)")
+class FocusFeedbackGeneratorTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String STUB_FEEDBACK = "스텁 피드백이에요😊";
+
+    private HttpServer gmsStub;
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile int responseStatus = 200;
+
+    private FocusFeedbackGenerator generator;
+
+    private final FocusTimeDto best = new FocusTimeDto("09:00", "11:00", 90);
+    private final FocusTimeDto worst = new FocusTimeDto("02:00", "04:00", 10);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        gmsStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        gmsStub.createContext("/api.openai.com/v1/chat/completions", exchange -> {
+            calls.incrementAndGet();
+            String body = responseStatus == 200
+                    ? "{\"choices\":[{\"message\":{\"content\":\"" + STUB_FEEDBACK + "\"}}]}"
+                    : "{\"error\":\"stub\"}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        gmsStub.start();
+
+        GmsProperties props = new GmsProperties();
+        props.setEndpoint("http://localhost:" + gmsStub.getAddress().getPort());
+        props.setKey("test-key");
+        FocusFeedbackService feedbackService = new FocusFeedbackService(WebClient.builder(), props);
+        generator = new FocusFeedbackGenerator(feedbackService, 2, 10, 2, 60, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+        gmsStub.stop(0);
+    }
+
+    private FocusTrackDto track(int score) {
+        return new FocusTrackDto(List.of(), Collections.nCopies(24, score));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("첫 조회는 기본 문구를 즉시 반환하고, 생성된 피드백은 같은 입력에서 다시 호출하지 않는다")
+    void 비동기_생성_캐시() throws InterruptedException {
+        String first = generator.getFeedback(USER_ID, best, worst, 30, track(50));
+        assertThat(first).isEqualTo(FocusFeedbackService.DEFAULT_FEEDBACKS.get(0));
+
+        await(() -> STUB_FEEDBACK.equals(generator.getFeedback(USER_ID, best, worst, 30, track(50))));
+
+        // 반올림 단위 안의 작은 변화는 같은 입력으로 취급
+        for (int i = 0; i < 5; i++) {
+            assertThat(generator.getFeedback(USER_ID, best, worst, 31, track(51))).isEqualTo(STUB_FEEDBACK);
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입력이 크게 바뀌면 이전 피드백을 반환하면서 다시 생성한다")
+    void 입력_변경_재생성() throws InterruptedException {
+        generator.getFeedback(USER_ID, best, worst, 30, track(50));
+        await(() -> calls.get() == 1 && STUB_FEEDBACK.equals(generator.getFeedback(USER_ID, best, worst, 30, track(50))));
+
+        assertThat(generator.getFeedback(USER_ID, best, worst, 30, track(80))).isEqualTo(STUB_FEEDBACK);
+        await(() -> calls.get() == 2);
+    }
+
+    @Test
+    @DisplayName("캐시는 최대 크기를 넘으면 가장 오래 조회하지 않은 사용자부터 제거한다")
+    void 캐시_크기_제한() throws InterruptedException {
+        for (long userId = 1; userId <= 3; userId++) {
+            long id = userId;
+            generator.getFeedback(id, best, worst, 30, track(50));
+            await(() -> STUB_FEEDBACK.equals(generator.getFeedback(id, best, worst, 30, track(50))));
+        }
+
+        assertThat(generator.cacheSize()).isEqualTo(2);
+        // 가장 먼저 캐시된 사용자는 제거되어 기본 문구로 돌아감
+        assertThat(generator.getFeedback(1L, best, worst, 30, track(50)))
+                .isEqualTo(FocusFeedbackService.DEFAULT_FEEDBACKS.get(0));
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 서킷이 열려 GMS를 호출하지 않는다")
+    void 서킷_브레이커() throws InterruptedException {
+        responseStatus = 500;
+
+        generator.getFeedback(USER_ID, best, worst, 30, track(10));
+        await(() -> calls.get() == 1);
+        await(() -> {
+            generator.getFeedback(USER_ID, best, worst, 30, track(20));
+            return generator.isCircuitOpen();
+        });
+        int callsWhenOpened = calls.get();
+
+        for (int score = 30; score <= 90; score += 10) {
+            assertThat(generator.getFeedback(USER_ID, best, worst, 30, track(score)))
+                    .isEqualTo(FocusFeedbackService.DEFAULT_FEEDBACKS.get(0));
+        }
+        Thread.sleep(200);
+        assertThat(calls.get()).isEqualTo(callsWhenOpened);
+    }
+}
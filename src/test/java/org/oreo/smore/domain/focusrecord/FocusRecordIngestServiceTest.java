@@ -0,0 +1,94 @@
+package org.oreo.smore.domain.focusrecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordBatchRequest;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordBatchResponse;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FocusRecordIngestService 단위 테스트")
+class FocusRecordIngestServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Instant T0 = Instant.parse("2024-01-10T01:00:00Z");
+    private static final Instant T1 = T0.plusSeconds(120);
+    private static final Instant T2 = T0.plusSeconds(240);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private FocusRecordRepository focusRecordRepository;
+
+    @Mock
+    private FocusAggregateService focusAggregateService;
+
+    @InjectMocks
+    private FocusRecordIngestService service;
+
+    private FocusRecordBatchRequest request(FocusRecordBatchRequest.Sample... samples) {
+        return new FocusRecordBatchRequest(List.of(samples));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("요청 내 중복과 이미 저장된 시각을 제외하고 한 번의 배치로 저장한다")
+    void 중복_제외_일괄_저장() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("`");
+        when(focusRecordRepository.findTimestampsBetween(USER_ID, T0, T2)).thenReturn(List.of(T0));
+
+        FocusRecordBatchResponse response = service.ingest(USER_ID, request(
+                new FocusRecordBatchRequest.Sample(T2, 70),
+                new FocusRecordBatchRequest.Sample(T0, 90),
+                new FocusRecordBatchRequest.Sample(T1, 60),
+                new FocusRecordBatchRequest.Sample(T1, 85)));
+
+        assertThat(response.getReceived()).isEqualTo(4);
+        assertThat(response.getInserted()).isEqualTo(2);
+
+        ArgumentCaptor<Collection<FocusRecord>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(batch.getValue())
+                .extracting(FocusRecord::getTimestamp, FocusRecord::getStatus)
+                .containsExactly(
+                        tuple(T1, 85),
+                        tuple(T2, 70));
+        verify(focusAggregateService).record(eq(USER_ID), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("모두 이미 저장된 샘플이면 저장과 집계를 건너뛴다")
+    void 전부_중복() {
+        when(focusRecordRepository.findTimestampsBetween(USER_ID, T0, T0)).thenReturn(List.of(T0));
+
+        FocusRecordBatchResponse response = service.ingest(USER_ID, request(new FocusRecordBatchRequest.Sample(T0, 90)));
+
+        assertThat(response.getInserted()).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(focusAggregateService, never()).record(any(), any());
+    }
+}
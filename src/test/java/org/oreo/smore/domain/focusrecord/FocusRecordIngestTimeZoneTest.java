@@ -0,0 +1,89 @@
+package org.oreo.smore.domain.focusrecord;
+
+import org.h2.util.DateTimeUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordBatchRequest;
+import org.oreo.smore.domain.focusrecord.dto.FocusRecordBatchResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// JVM 기본 시간대가 UTC가 아닐 때 JDBC 배치로 저장한 시각을 JPA가 같은 시각으로 읽는지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({FocusRecordIngestService.class, FocusRecordIngestTimeZoneTest.MockConfig.class})
+@DisplayName("FocusRecordIngestService 시간대 테스트")
+class FocusRecordIngestTimeZoneTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Instant T0 = Instant.parse("2024-01-10T01:00:00Z");
+    private static final Instant T1 = T0.plusSeconds(120);
+
+    private static TimeZone originalZone;
+
+    @Autowired
+    private FocusRecordIngestService ingestService;
+
+    @Autowired
+    private FocusRecordRepository focusRecordRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @TestConfiguration
+    static class MockConfig {
+
+        @Bean
+        public FocusAggregateService focusAggregateService() {
+            return Mockito.mock(FocusAggregateService.class);
+        }
+    }
+
+    @BeforeAll
+    static void 기본_시간대_변경() {
+        originalZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+        DateTimeUtils.resetCalendar();
+    }
+
+    @AfterAll
+    static void 기본_시간대_복원() {
+        TimeZone.setDefault(originalZone);
+        DateTimeUtils.resetCalendar();
+    }
+
+    @Test
+    @DisplayName("배치로 저장한 시각을 JPA 조회와 중복 확인에서 같은 시각으로 읽는다")
+    void 비UTC_시간대_왕복() {
+        FocusRecordBatchRequest request = new FocusRecordBatchRequest(List.of(
+                new FocusRecordBatchRequest.Sample(T0, 90),
+                new FocusRecordBatchRequest.Sample(T1, 60)));
+
+        FocusRecordBatchResponse first = ingestService.ingest(USER_ID, request);
+        entityManager.clear();
+
+        assertThat(first.getInserted()).isEqualTo(2);
+        assertThat(focusRecordRepository.findTimestampsBetween(USER_ID, T0, T1)).containsExactlyInAnyOrder(T0, T1);
+        assertThat(focusRecordRepository.findAll())
+                .extracting(FocusRecord::getTimestamp)
+                .containsExactlyInAnyOrder(T0, T1);
+
+        // 재전송은 이미 저장된 시각으로 인식되어 저장되지 않음
+        FocusRecordBatchResponse retry = ingestService.ingest(USER_ID, request);
+        assertThat(retry.getInserted()).isZero();
+    }
+}
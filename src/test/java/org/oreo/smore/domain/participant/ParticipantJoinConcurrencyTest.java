@@ -0,0 +1,118 @@
+package org.oreo.smore.domain.participant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.participant.exception.ParticipantException;
+import org.oreo.smore.domain.studyroom.StudyRoom;
+import org.oreo.smore.domain.studyroom.StudyRoomCategory;
+import org.oreo.smore.domain.studyroom.StudyRoomRepository;
+import org.oreo.smore.domain.studytime.TodayStudyTimeService;
+import org.oreo.smore.domain.user.UserRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("동시 입장 정원 초과 방지 테스트")
+class ParticipantJoinConcurrencyTest {
+
+    private static final int CONCURRENT_JOINS = 500;
+    private static final int MAX_PARTICIPANTS = 6;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+    @Mock
+    private StudyRoomRepository studyRoomRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TodayStudyTimeService todayStudyTimeService;
+    @Spy
+    private RoomOccupancyRegistry roomOccupancyRegistry = new RoomOccupancyRegistry();
+
+    @InjectMocks
+    private ParticipantService participantService;
+
+    @Test
+    @DisplayName("500명이 동시에 입장해도 최대 인원(6명)만 등록된다")
+    void 동시입장_정원초과_방지() throws InterruptedException {
+        // given
+        Long roomId = 1L;
+        StudyRoom room = new StudyRoom(100L, roomId, "동시성 테스트 방", StudyRoomCategory.SELF_STUDY);
+        room.setMaxParticipants(MAX_PARTICIPANTS);
+
+        when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(room));
+        when(participantRepository.findActiveParticipantsByRoomId(roomId)).thenReturn(List.of());
+        when(participantRepository.save(any(Participant.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch ready = new CountDownLatch(CONCURRENT_JOINS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CONCURRENT_JOINS);
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < CONCURRENT_JOINS; i++) {
+            long userId = 1000L + i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    participantService.joinRoom(roomId, userId);
+                    joined.incrementAndGet();
+                } catch (ParticipantException.RoomFullException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        assertThat(joined.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(rejected.get()).isEqualTo(CONCURRENT_JOINS - MAX_PARTICIPANTS);
+        assertThat(roomOccupancyRegistry.getCount(roomId)).isEqualTo(MAX_PARTICIPANTS);
+        verify(participantRepository, times(MAX_PARTICIPANTS)).save(any(Participant.class));
+    }
+
+    @Test
+    @DisplayName("참가자 저장에 실패하면 예약한 자리를 반환한다")
+    void 저장실패_자리반환() {
+        // given
+        Long roomId = 2L;
+        StudyRoom room = new StudyRoom(100L, roomId, "저장 실패 방", StudyRoomCategory.SELF_STUDY);
+
+        when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(room));
+        when(participantRepository.findActiveParticipantsByRoomId(roomId)).thenReturn(List.of());
+        when(participantRepository.save(any(Participant.class))).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        try {
+            participantService.joinRoom(roomId, 200L);
+        } catch (IllegalStateException ignored) {
+        }
+
+        // then
+        assertThat(roomOccupancyRegistry.getCount(roomId)).isZero();
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.oreo.smore.domain.participant.dto.ParticipantInfo;
 import org.oreo.smore.domain.participant.dto.ParticipantStatusResponse;
@@ -13,12 +14,12 @@ import org.oreo.smore.domain.participant.dto.RoomInfo;
 import org.oreo.smore.domain.participant.exception.ParticipantException;
 import org.oreo.smore.domain.studyroom.StudyRoom;
 import org.oreo.smore.domain.studyroom.StudyRoomRepository;
-import org.oreo.smore.domain.studytime.StudyTimeRepository;
-import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.studytime.TodayStudyTimeService;
 import org.oreo.smore.domain.user.UserRepository;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,7 +38,9 @@ class ParticipantServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private StudyTimeRepository studyTimeRepository;
+    private TodayStudyTimeService todayStudyTimeService;
+    @Spy
+    private RoomOccupancyRegistry roomOccupancyRegistry = new RoomOccupancyRegistry();
 
     @InjectMocks
     private ParticipantService participantService;
@@ -58,35 +61,26 @@ class ParticipantServiceTest {
             when(room.isAllMuted()).thenReturn(false);
             when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(room));
 
-            // Participants (participant 엔티티는 실제 객체 대신 mock으로 충분)
-            Participant owner = mock(Participant.class);
+            // 참가자 + 사용자 프로젝션 (한 번의 쿼리)
+            ParticipantStatusRow owner = mock(ParticipantStatusRow.class);
             when(owner.getUserId()).thenReturn(100L);
-            when(owner.isAudioEnabled()).thenReturn(true);
-            when(owner.isVideoEnabled()).thenReturn(true);
+            when(owner.getNickname()).thenReturn("방장김철수");
+            when(owner.getGoalStudyTime()).thenReturn(300);
+            when(owner.getAudioEnabled()).thenReturn(true);
+            when(owner.getVideoEnabled()).thenReturn(true);
 
-            Participant member = mock(Participant.class);
+            ParticipantStatusRow member = mock(ParticipantStatusRow.class);
             when(member.getUserId()).thenReturn(200L);
-            when(member.isAudioEnabled()).thenReturn(false);
-            when(member.isVideoEnabled()).thenReturn(true);
+            when(member.getNickname()).thenReturn("참가자이영희");
+            when(member.getGoalStudyTime()).thenReturn(240);
+            when(member.getAudioEnabled()).thenReturn(false);
+            when(member.getVideoEnabled()).thenReturn(true);
 
-            when(participantRepository.findActiveParticipantsByRoomId(roomId))
+            when(participantRepository.findParticipantStatusRows(roomId))
                     .thenReturn(List.of(owner, member));
-
-            // Users (닉네임/목표 공부시간)
-            User user100 = mock(User.class);
-            when(user100.getNickname()).thenReturn("방장김철수");
-            when(user100.getGoalStudyTime()).thenReturn(300);
-
-            User user200 = mock(User.class);
-            when(user200.getNickname()).thenReturn("참가자이영희");
-            when(user200.getGoalStudyTime()).thenReturn(240);
-
-            when(userRepository.findById(100L)).thenReturn(Optional.of(user100));
-            when(userRepository.findById(200L)).thenReturn(Optional.of(user200));
-
-            // 오늘 공부시간 계산은 내부에서 studyTimeRepository 호출 → 빈 리스트로 두면 0분 처리
-            when(studyTimeRepository.findAllByUserIdAndCreatedAtBetween(anyLong(), any(), any()))
-                    .thenReturn(List.of());
+            // 오늘 공부시간은 누적기에서 일괄 조회 (기록 없는 사용자는 결과에 0)
+            when(todayStudyTimeService.getTodaySeconds(List.of(100L, 200L)))
+                    .thenReturn(Map.of(200L, 1800L));
 
             // when
             ParticipantStatusResponse res = participantService.getParticipantStatus(roomId);
@@ -114,7 +108,7 @@ class ParticipantServiceTest {
             assertThat(p1.getAudioEnabled()).isFalse();
             assertThat(p1.getVideoEnabled()).isTrue();
             assertThat(p1.getTargetStudyTime()).isEqualTo(240);
-            assertThat(p1.getTodayStudyTime()).isEqualTo(0);
+            assertThat(p1.getTodayStudyTime()).isEqualTo(1800);
 
             RoomInfo info = res.getRoomInfo();
             assertThat(info.getTotalParticipants()).isEqualTo(2);
@@ -122,8 +116,10 @@ class ParticipantServiceTest {
 
             // verify (선택)
             verify(studyRoomRepository).findById(roomId);
-            verify(participantRepository).findActiveParticipantsByRoomId(roomId);
-            verify(userRepository, times(2)).findById(anyLong());
+            verify(participantRepository).findParticipantStatusRows(roomId);
+            // 참가자 수와 무관하게 사용자/공부시간 개별 조회 없음
+            verify(todayStudyTimeService, times(1)).getTodaySeconds(anyCollection());
+            verifyNoInteractions(userRepository);
         }
 
         @Test
@@ -139,7 +135,7 @@ class ParticipantServiceTest {
             when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(room));
 
             // 🔥 중복 제거 - 하나만 남기기
-            when(participantRepository.findActiveParticipantsByRoomId(roomId))
+            when(participantRepository.findParticipantStatusRows(roomId))
                     .thenReturn(Collections.emptyList());
 
             // when
@@ -181,14 +177,14 @@ class ParticipantServiceTest {
         }
 
         @Test
-        @DisplayName("getActiveParticipantCount(roomId): 리포지토리 위임")
+        @DisplayName("getActiveParticipantCount(roomId): 참가자 수 레지스트리 조회 (DB COUNT 없음)")
         void getActiveParticipantCount() {
             Long roomId = 7L;
-            when(participantRepository.countActiveParticipantsByRoomId(roomId)).thenReturn(3L);
+            roomOccupancyRegistry.rebuild(Map.of(roomId, 3L));
 
             long count = participantService.getActiveParticipantCount(roomId);
             assertThat(count).isEqualTo(3L);
-            verify(participantRepository).countActiveParticipantsByRoomId(roomId);
+            verify(participantRepository, never()).countActiveParticipantsByRoomId(anyLong());
         }
     }
 }
@@ -12,7 +12,7 @@ import org.oreo.smore.domain.participant.exception.ParticipantException;
 import org.oreo.smore.domain.studyroom.StudyRoom;
 import org.oreo.smore.domain.studyroom.StudyRoomCategory;
 import org.oreo.smore.domain.studyroom.StudyRoomRepository;
-import org.oreo.smore.domain.studytime.StudyTimeRepository;
+import org.oreo.smore.domain.studytime.TodayStudyTimeService;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
 
@@ -37,7 +37,7 @@ class ParticipantServiceUpdateTest {
     private UserRepository userRepository;
 
     @Mock
-    private StudyTimeRepository studyTimeRepository;
+    private TodayStudyTimeService todayStudyTimeService;
 
     @InjectMocks
     private ParticipantService participantService;
@@ -0,0 +1,157 @@
+package org.oreo.smore.domain.participant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RoomOccupancyRegistry 단위 테스트")
+class RoomOccupancyRegistryTest {
+
+    private RoomOccupancyRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RoomOccupancyRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 트랜잭션 안에서 실행하고 등록된 동기화 반환
+    private List<TransactionSynchronization> inTransaction(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        action.run();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private void rollback(List<TransactionSynchronization> synchronizations) {
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+
+    @Test
+    @DisplayName("입장/퇴장 시 참가자 수가 증감한다")
+    void 입장_퇴장_증감() {
+        registry.tryReserve(1L, 6);
+        registry.tryReserve(1L, 6);
+        registry.decrement(1L);
+
+        assertThat(registry.getCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참가자 수는 0 미만으로 내려가지 않는다")
+    void 음수_방지() {
+        registry.decrement(1L);
+        registry.tryReserve(2L, 6);
+        registry.decrement(2L);
+        registry.decrement(2L);
+
+        assertThat(registry.getCount(1L)).isZero();
+        assertThat(registry.getCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 집계로 재구성하고 여러 방을 한 번에 조회한다")
+    void 재구성_및_일괄조회() {
+        registry.tryReserve(99L, 6);
+        registry.rebuild(Map.of(1L, 3L, 2L, 5L));
+
+        Map<Long, Long> counts = registry.getCounts(List.of(1L, 2L, 99L));
+
+        assertThat(counts).containsEntry(1L, 3L)
+                .containsEntry(2L, 5L)
+                .containsEntry(99L, 0L);
+    }
+
+    @Test
+    @DisplayName("정원이 차면 자리 예약에 실패하고, 반환하면 다시 예약할 수 있다")
+    void 정원_예약_반환() {
+        assertThat(registry.tryReserve(1L, 2)).isTrue();
+        assertThat(registry.tryReserve(1L, 2)).isTrue();
+        assertThat(registry.tryReserve(1L, 2)).isFalse();
+
+        registry.release(1L);
+
+        assertThat(registry.tryReserve(1L, 2)).isTrue();
+        assertThat(registry.getCount(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("방 삭제 시 카운터가 제거된다")
+    void 방삭제_제거() {
+        registry.tryReserve(1L, 6);
+        registry.evict(1L);
+
+        assertThat(registry.getCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("퇴장이 롤백되면 줄어든 참가자 수를 되돌린다")
+    void 퇴장_롤백_복원() {
+        registry.tryReserve(1L, 6);
+        registry.tryReserve(1L, 6);
+
+        rollback(inTransaction(() -> registry.decrement(1L)));
+
+        assertThat(registry.getCount(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("0명에서 퇴장이 롤백되면 참가자 수를 늘리지 않는다")
+    void 퇴장_롤백_0명_유지() {
+        registry.rebuild(Map.of(1L, 0L));
+
+        rollback(inTransaction(() -> {
+            registry.decrement(1L);
+            registry.decrement(2L);
+        }));
+
+        assertThat(registry.getCount(1L)).isZero();
+        assertThat(registry.getCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("방 삭제로 카운터가 제거된 뒤에는 퇴장 롤백이 카운터를 되살리지 않는다")
+    void 퇴장_롤백_삭제된_방_무시() {
+        registry.tryReserve(1L, 6);
+
+        List<TransactionSynchronization> leave = inTransaction(() -> registry.decrement(1L));
+        registry.evict(1L);
+        rollback(leave);
+
+        assertThat(registry.getCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("입장이 롤백되면 예약한 자리를 반환한다")
+    void 입장_롤백_반환() {
+        rollback(inTransaction(() -> registry.tryReserve(1L, 6)));
+
+        assertThat(registry.getCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("재구성으로 카운터가 바뀐 뒤에는 입장 롤백이 새 카운터를 줄이지 않는다")
+    void 입장_롤백_재구성된_방_무시() {
+        List<TransactionSynchronization> join = inTransaction(() -> registry.tryReserve(1L, 6));
+        registry.rebuild(Map.of(1L, 3L));
+        rollback(join);
+
+        assertThat(registry.getCount(1L)).isEqualTo(3);
+    }
+}
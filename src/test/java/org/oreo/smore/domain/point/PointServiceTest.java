@@ -0,0 +1,106 @@
+package org.oreo.smore.domain.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.point.dto.response.OreoDrawResponse;
+import org.oreo.smore.domain.point.dto.response.TotalPointsResponse;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PointService 단위 테스트")
+class PointServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private PointRepository pointRepository;
+
+    @Mock
+    private UserPointBalanceRepository userPointBalanceRepository;
+
+    @Mock
+    private UserPointBalanceInitializer userPointBalanceInitializer;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private PointService pointService;
+
+    private User user() {
+        return User.builder().userId(USER_ID).level("O").build();
+    }
+
+    @Test
+    @DisplayName("잔액 조회는 원장 합계 없이 잔액 행만 읽는다")
+    void 잔액_조회() {
+        when(userPointBalanceRepository.findBalance(USER_ID)).thenReturn(Optional.of(450L));
+
+        TotalPointsResponse response = pointService.getTotalPoints(USER_ID);
+
+        assertThat(response.getTotalPoints()).isEqualTo(450L);
+        verify(pointRepository, never()).sumDeltaByUserId(any());
+    }
+
+    @Test
+    @DisplayName("뽑기는 조건부 차감이 성공했을 때만 원장에 기록한다")
+    void 뽑기_성공() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user()));
+        when(userPointBalanceRepository.addIfSufficient(USER_ID, -100)).thenReturn(1);
+        when(userPointBalanceRepository.findBalance(USER_ID)).thenReturn(Optional.of(350L));
+
+        OreoDrawResponse response = pointService.drawOreo(USER_ID);
+
+        assertThat(response.getUpdatedPoints()).isEqualTo(350L);
+        assertThat(response.getUpdatedLevel()).matches("O(O|RE)");
+        verify(pointRepository).save(any(Point.class));
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 원장에 기록하지 않고 400을 반환한다")
+    void 뽑기_잔액_부족() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user()));
+        when(userPointBalanceRepository.addIfSufficient(USER_ID, -100)).thenReturn(0);
+        when(userPointBalanceRepository.existsById(USER_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> pointService.drawOreo(USER_ID))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(pointRepository, never()).save(any());
+        verify(userPointBalanceInitializer, never()).initialize(anyLong());
+    }
+
+    @Test
+    @DisplayName("잔액 행이 없으면 원장 합계로 생성한 뒤 다시 차감한다 (동시 생성 충돌은 무시)")
+    void 잔액_행_생성() {
+        when(userPointBalanceRepository.addIfSufficient(USER_ID, 550)).thenReturn(0).thenReturn(1);
+        when(userPointBalanceRepository.existsById(USER_ID)).thenReturn(false);
+        doThrow(new DataIntegrityViolationException("duplicate")).when(userPointBalanceInitializer).initialize(USER_ID);
+        when(userPointBalanceRepository.findBalance(USER_ID)).thenReturn(Optional.of(550L));
+
+        long balance = pointService.addPoints(USER_ID, 550, "가입 기념 지급");
+
+        assertThat(balance).isEqualTo(550L);
+        verify(pointRepository).save(any(Point.class));
+    }
+}
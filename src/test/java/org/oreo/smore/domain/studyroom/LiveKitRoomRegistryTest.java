@@ -0,0 +1,93 @@
+package org.oreo.smore.domain.studyroom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveKitRoomRegistry 단위 테스트")
+class LiveKitRoomRegistryTest {
+
+    @Mock
+    private StudyRoomRepository studyRoomRepository;
+
+    private LiveKitRoomRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new LiveKitRoomRegistry(studyRoomRepository, 2);
+    }
+
+    private StudyRoom room(Long roomId, Long ownerId) {
+        return StudyRoom.builder()
+                .roomId(roomId)
+                .userId(ownerId)
+                .title("스터디룸 " + roomId)
+                .category(StudyRoomCategory.EMPLOYMENT)
+                .liveKitRoomId("study-room-" + roomId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("등록된 방은 DB 조회 없이 방ID와 방장ID를 반환한다")
+    void 등록된_방_조회() {
+        registry.register(room(1L, 10L));
+
+        Optional<LiveKitRoomRegistry.RoomRef> ref = registry.resolve("study-room-1");
+
+        assertThat(ref).contains(new LiveKitRoomRegistry.RoomRef(1L, 10L));
+        verify(studyRoomRepository, never()).findByLiveKitRoomId(anyString());
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 한 번만 DB에서 불러온다")
+    void 미스_시_한번만_조회() {
+        when(studyRoomRepository.findByLiveKitRoomId("study-room-2")).thenReturn(Optional.of(room(2L, 20L)));
+
+        registry.resolve("study-room-2");
+        Optional<LiveKitRoomRegistry.RoomRef> ref = registry.resolve("study-room-2");
+
+        assertThat(ref).contains(new LiveKitRoomRegistry.RoomRef(2L, 20L));
+        verify(studyRoomRepository, times(1)).findByLiveKitRoomId("study-room-2");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 방부터 제거한다")
+    void 최대_개수_제한() {
+        registry.register(room(1L, 10L));
+        registry.register(room(2L, 20L));
+        registry.resolve("study-room-1");
+        registry.register(room(3L, 30L));
+
+        assertThat(registry.size()).isEqualTo(2);
+        when(studyRoomRepository.findByLiveKitRoomId("study-room-2")).thenReturn(Optional.empty());
+        assertThat(registry.resolve("study-room-2")).isEmpty();
+        assertThat(registry.resolve("study-room-1")).isPresent();
+        verify(studyRoomRepository, never()).findByLiveKitRoomId("study-room-1");
+    }
+
+    @Test
+    @DisplayName("방 삭제로 제거된 방은 다시 DB에서 확인한다")
+    void 삭제_시_제거() {
+        registry.register(room(1L, 10L));
+        when(studyRoomRepository.findByLiveKitRoomId("study-room-1")).thenReturn(Optional.empty());
+
+        registry.evict("study-room-1");
+
+        assertThat(registry.size()).isZero();
+        assertThat(registry.resolve("study-room-1")).isEmpty();
+        verify(studyRoomRepository, times(1)).findByLiveKitRoomId("study-room-1");
+    }
+}
@@ -0,0 +1,200 @@
+package org.oreo.smore.domain.studyroom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.participant.RoomOccupancyRegistry;
+import org.oreo.smore.domain.studyroom.dto.StudyRoomInfoReadResponse;
+import org.oreo.smore.global.common.CursorPage;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyRoomFirstPageCache 단위 테스트")
+class StudyRoomFirstPageCacheTest {
+
+    private static final int PAGE_SIZE = StudyRoomFirstPageCache.PAGE_SIZE;
+
+    @Mock
+    private ObjectProvider<StudyRoomService> studyRoomServiceProvider;
+
+    @Mock
+    private StudyRoomService studyRoomService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RoomOccupancyRegistry registry;
+    private StudyRoomPopularityIndex popularityIndex;
+    private StudyRoomFirstPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(studyRoomServiceProvider.getObject()).thenReturn(studyRoomService);
+        registry = new RoomOccupancyRegistry();
+        popularityIndex = new StudyRoomPopularityIndex(registry);
+        cache = new StudyRoomFirstPageCache(studyRoomServiceProvider, registry, popularityIndex, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private StudyRoomInfoReadResponse room(Long roomId, long currentParticipants) {
+        return StudyRoomInfoReadResponse.builder()
+                .roomId(roomId)
+                .title("방 " + roomId)
+                .tag(List.of())
+                .category(StudyRoomCategory.SELF_STUDY.getValue())
+                .maxParticipants(6)
+                .currentParticipants(currentParticipants)
+                .createdAt("2024-01-10T01:00:00Z")
+                .isPomodoro(false)
+                .isPrivate(false)
+                .creator(new StudyRoomInfoReadResponse.CreatorDto("오레오"))
+                .build();
+    }
+
+    private CursorPage<StudyRoomInfoReadResponse> page(StudyRoomInfoReadResponse... rooms) {
+        return CursorPage.of(List.of(rooms), PAGE_SIZE);
+    }
+
+    private void stubPage(String category, String sort, boolean hideFullRooms, CursorPage<StudyRoomInfoReadResponse> page) {
+        when(studyRoomService.listStudyRooms(null, null, PAGE_SIZE, null, category, sort, hideFullRooms)).thenReturn(page);
+    }
+
+    private long participantsOf(byte[] json, Long roomId) throws Exception {
+        for (JsonNode node : objectMapper.readTree(json).get("content")) {
+            if (node.get("roomId").asLong() == roomId) {
+                return node.get("currentParticipants").asLong();
+            }
+        }
+        throw new AssertionError("방이 페이지에 없음: " + roomId);
+    }
+
+    @Test
+    @DisplayName("한 번 만든 첫 페이지는 다시 조회하지 않고 같은 JSON을 반환한다")
+    void 캐시_적중() {
+        stubPage(null, "latest", false, page(room(1L, 2)));
+
+        byte[] first = cache.get(null, "latest", false);
+        byte[] second = cache.get("", "LATEST", false);
+
+        assertThat(second).isSameAs(first);
+        verify(studyRoomService, times(1)).listStudyRooms(null, null, PAGE_SIZE, null, null, "latest", false);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 카테고리는 캐시 대상이 아니다")
+    void 알수없는_카테고리() {
+        assertThat(cache.get("unknown", "latest", false)).isNull();
+
+        verify(studyRoomService, never()).listStudyRooms(any(), any(), anyInt(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 후에 재생성한다")
+    void 커밋_후_무효화() {
+        lenient().when(studyRoomService.listStudyRooms(isNull(), isNull(), anyInt(), isNull(), any(), anyString(), anyBoolean()))
+                .thenReturn(page(room(1L, 0)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate();
+
+        verify(studyRoomService, never()).listStudyRooms(any(), any(), anyInt(), any(), any(), any(), anyBoolean());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        verify(studyRoomService, timeout(2000))
+                .listStudyRooms(null, null, PAGE_SIZE, null, null, "latest", false);
+    }
+
+    @Test
+    @DisplayName("참가자 수가 바뀌면 그 방이 든 페이지만 갱신하고, 최신순 페이지는 조회 없이 참가자 수만 바꾼다")
+    void 참가자_수_변경_부분_갱신() throws Exception {
+        String category = StudyRoomCategory.LANGUAGE.name();
+        stubPage(null, "latest", false, page(room(1L, 2), room(2L, 1)));
+        stubPage(null, "popular", false, page(room(1L, 2)));
+        stubPage(category, "latest", false, page(room(3L, 4)));
+        cache.get(null, "latest", false);
+        cache.get(null, "popular", false);
+        cache.get(category, "latest", false);
+
+        registry.rebuild(Map.of(1L, 5L));
+        cache.onOccupancyChanged(1L);
+        cache.refresh();
+
+        byte[] latest = cache.get(null, "latest", false);
+        assertThat(participantsOf(latest, 1L)).isEqualTo(5);
+        assertThat(participantsOf(latest, 2L)).isEqualTo(1);
+        verify(studyRoomService, times(1)).listStudyRooms(null, null, PAGE_SIZE, null, null, "latest", false);
+        verify(studyRoomService, times(2)).listStudyRooms(null, null, PAGE_SIZE, null, null, "popular", false);
+        verify(studyRoomService, times(1)).listStudyRooms(null, null, PAGE_SIZE, null, category, "latest", false);
+    }
+
+    @Test
+    @DisplayName("페이지에 없던 방이 인기순 마지막 항목보다 앞서면 인기순 첫 페이지를 다시 조회한다")
+    void 인기순_새로_진입() {
+        // 인기순 첫 페이지: 1~20번 방이 각 2명
+        Map<Long, Long> counts = new HashMap<>();
+        List<StudyRoom> rooms = new ArrayList<>();
+        List<StudyRoomInfoReadResponse> popular = new ArrayList<>();
+        for (long roomId = PAGE_SIZE; roomId >= 1; roomId--) {
+            counts.put(roomId, 2L);
+            rooms.add(new StudyRoom(100L, roomId, "방 " + roomId, StudyRoomCategory.SELF_STUDY));
+            popular.add(room(roomId, 2));
+        }
+        rooms.add(new StudyRoom(100L, 98L, "방 98", StudyRoomCategory.SELF_STUDY));
+        rooms.add(new StudyRoom(100L, 99L, "방 99", StudyRoomCategory.SELF_STUDY));
+        registry.rebuild(counts);
+        popularityIndex.rebuild(rooms);
+        stubPage(null, "popular", false, CursorPage.of(popular, PAGE_SIZE));
+        stubPage(null, "latest", false, page(room(99L, 0), room(98L, 0)));
+        cache.get(null, "popular", false);
+        cache.get(null, "latest", false);
+
+        // 98번은 1명이라 마지막 항목(2명)보다 뒤, 99번은 3명이라 앞
+        registry.tryReserve(98L, 6);
+        popularityIndex.onOccupancyChanged(98L);
+        cache.onOccupancyChanged(98L);
+        cache.refresh();
+        verify(studyRoomService, times(1)).listStudyRooms(null, null, PAGE_SIZE, null, null, "popular", false);
+
+        for (int i = 0; i < 3; i++) {
+            registry.tryReserve(99L, 6);
+        }
+        popularityIndex.onOccupancyChanged(99L);
+        cache.onOccupancyChanged(99L);
+        cache.refresh();
+        verify(studyRoomService, times(2)).listStudyRooms(null, null, PAGE_SIZE, null, null, "popular", false);
+    }
+}
@@ -0,0 +1,116 @@
+package org.oreo.smore.domain.studyroom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.participant.RoomOccupancyRegistry;
+import org.oreo.smore.domain.studyroom.StudyRoomPopularityIndex.RankedRoom;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StudyRoomPopularityIndex 단위 테스트")
+class StudyRoomPopularityIndexTest {
+
+    private RoomOccupancyRegistry registry;
+    private StudyRoomPopularityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RoomOccupancyRegistry();
+        index = new StudyRoomPopularityIndex(registry);
+        index.subscribe();
+    }
+
+    private StudyRoom room(Long roomId, String title, StudyRoomCategory category) {
+        return new StudyRoom(100L, roomId, title, category);
+    }
+
+    private List<Long> ids(List<RankedRoom> rooms) {
+        return rooms.stream().map(RankedRoom::roomId).toList();
+    }
+
+    @Test
+    @DisplayName("참가자 수 내림차순, 동점이면 roomId 내림차순으로 정렬된다")
+    void 인기순_정렬() {
+        registry.rebuild(Map.of(1L, 3L, 2L, 5L, 3L, 3L));
+        index.rebuild(List.of(
+                room(1L, "자바", StudyRoomCategory.SELF_STUDY),
+                room(2L, "스프링", StudyRoomCategory.SELF_STUDY),
+                room(3L, "코틀린", StudyRoomCategory.SELF_STUDY),
+                room(4L, "빈 방", StudyRoomCategory.SELF_STUDY)));
+
+        List<RankedRoom> page = index.findPage(null, null, 10, null, null, false);
+
+        assertThat(ids(page)).containsExactly(2L, 3L, 1L, 4L);
+        assertThat(page.get(0).score()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("입장/퇴장 시 순위가 즉시 갱신된다")
+    void 입장_퇴장_반영() {
+        index.rebuild(List.of(
+                room(1L, "자바", StudyRoomCategory.SELF_STUDY),
+                room(2L, "스프링", StudyRoomCategory.SELF_STUDY)));
+
+        registry.tryReserve(1L, 6);
+        assertThat(ids(index.findPage(null, null, 10, null, null, false))).containsExactly(1L, 2L);
+
+        registry.tryReserve(2L, 6);
+        registry.tryReserve(2L, 6);
+        registry.decrement(1L);
+        assertThat(ids(index.findPage(null, null, 10, null, null, false))).containsExactly(2L, 1L);
+        assertThat(index.getScore(2L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("복합 커서 (score, roomId) 이후부터 중복/누락 없이 이어서 조회된다")
+    void 복합커서_페이징() {
+        registry.rebuild(Map.of(1L, 2L, 2L, 2L, 3L, 1L, 4L, 4L));
+        index.rebuild(List.of(
+                room(1L, "a", StudyRoomCategory.SELF_STUDY),
+                room(2L, "b", StudyRoomCategory.SELF_STUDY),
+                room(3L, "c", StudyRoomCategory.SELF_STUDY),
+                room(4L, "d", StudyRoomCategory.SELF_STUDY)));
+
+        List<RankedRoom> first = index.findPage(null, null, 2, null, null, false);
+        RankedRoom last = first.get(first.size() - 1);
+        List<RankedRoom> second = index.findPage(last.score(), last.roomId(), 2, null, null, false);
+
+        assertThat(ids(first)).containsExactly(4L, 2L);
+        assertThat(ids(second)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("카테고리/검색 후보/꽉 찬 방 숨기기 필터를 적용해도 요청한 개수만큼 채운다")
+    void 필터_적용() {
+        StudyRoom full = room(1L, "자바 스터디", StudyRoomCategory.SELF_STUDY);
+        full.setMaxParticipants(2);
+        registry.rebuild(Map.of(1L, 2L, 2L, 1L));
+        index.rebuild(List.of(
+                full,
+                room(2L, "자바 기초", StudyRoomCategory.SELF_STUDY),
+                room(3L, "파이썬", StudyRoomCategory.SELF_STUDY),
+                room(4L, "자바 심화", StudyRoomCategory.SELF_STUDY)));
+
+        List<RankedRoom> page = index.findPage(null, null, 2, StudyRoomCategory.SELF_STUDY, Set.of(1L, 2L, 4L), true);
+
+        assertThat(ids(page)).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("삭제된 방은 목록에서 제외된다")
+    void 삭제_제외() {
+        index.rebuild(List.of(
+                room(1L, "a", StudyRoomCategory.SELF_STUDY),
+                room(2L, "b", StudyRoomCategory.SELF_STUDY)));
+
+        index.remove(1L);
+        registry.tryReserve(1L, 6);
+
+        assertThat(ids(index.findPage(null, null, 10, null, null, false))).containsExactly(2L);
+    }
+}
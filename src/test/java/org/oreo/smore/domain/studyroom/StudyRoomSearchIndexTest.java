@@ -0,0 +1,76 @@
+package org.oreo.smore.domain.studyroom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StudyRoomSearchIndex 단위 테스트")
+class StudyRoomSearchIndexTest {
+
+    private StudyRoomSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StudyRoomSearchIndex();
+        index.rebuild(List.of(
+                room(1L, "자바 스터디", null, StudyRoomCategory.SELF_STUDY),
+                room(2L, "Spring Boot 모각코", "백엔드,자바", StudyRoomCategory.SELF_STUDY),
+                room(3L, "토익 900 목표", "영어", StudyRoomCategory.SELF_STUDY),
+                room(4L, "자바스크립트 기초", null, StudyRoomCategory.SELF_STUDY)));
+    }
+
+    private StudyRoom room(Long roomId, String title, String tag, StudyRoomCategory category) {
+        return StudyRoom.builder()
+                .roomId(roomId)
+                .userId(100L)
+                .title(title)
+                .tag(tag)
+                .category(category)
+                .build();
+    }
+
+    @Test
+    @DisplayName("제목/태그 부분 일치 결과를 최신순(roomId 내림차순)으로 반환한다")
+    void 제목_태그_검색() {
+        assertThat(index.search("자바", null, Long.MAX_VALUE, 10)).containsExactly(4L, 2L, 1L);
+        assertThat(index.search("백엔", null, Long.MAX_VALUE, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백을 무시하고, 한 글자 검색도 지원한다")
+    void 정규화_한글자() {
+        assertThat(index.search("spring boot", null, Long.MAX_VALUE, 10)).containsExactly(2L);
+        assertThat(index.search("자바스터디", null, Long.MAX_VALUE, 10)).containsExactly(1L);
+        assertThat(index.search("토", null, Long.MAX_VALUE, 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("n-gram은 모두 포함하지만 연속되지 않은 경우는 제외한다")
+    void 부분문자열_검증() {
+        assertThat(index.search("스터디자바", null, Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 이후부터 limit 개수만큼 이어서 조회한다")
+    void 커서_페이징() {
+        List<Long> first = index.search("자바", null, Long.MAX_VALUE, 2);
+        List<Long> second = index.search("자바", null, first.get(first.size() - 1), 2);
+
+        assertThat(first).containsExactly(4L, 2L);
+        assertThat(second).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("방 등록/삭제가 즉시 반영된다")
+    void 증분_갱신() {
+        index.register(room(5L, "자바 알고리즘", null, StudyRoomCategory.SELF_STUDY));
+        index.remove(1L);
+
+        assertThat(index.search("자바", null, Long.MAX_VALUE, 10)).containsExactly(5L, 4L, 2L);
+        assertThat(index.matchAll("알고리즘")).containsExactly(5L);
+    }
+}
@@ -0,0 +1,103 @@
+package org.oreo.smore.domain.studyroom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.chat.ChatRoomService;
+import org.oreo.smore.domain.chat.StudyRoomNotificationService;
+import org.oreo.smore.domain.participant.ParticipantRepository;
+import org.oreo.smore.domain.participant.ParticipantService;
+import org.oreo.smore.domain.participant.RoomOccupancyRegistry;
+import org.oreo.smore.domain.studyroom.dto.StudyRoomInfoReadResponse;
+import org.oreo.smore.domain.user.UserRepository;
+import org.oreo.smore.domain.video.service.LiveKitRoomService;
+import org.oreo.smore.global.common.CursorPage;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyRoomService 단위 테스트")
+class StudyRoomServiceTest {
+
+    @Mock
+    private StudyRoomRepository roomRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private UserRepository userRepo;
+
+    @Mock
+    private ParticipantService participantService;
+
+    @Mock
+    private LiveKitRoomService liveKitRoomService;
+
+    @Mock
+    private ChatRoomService chatRoomService;
+
+    @Mock
+    private StudyRoomNotificationService notificationService;
+
+    @Mock
+    private RoomOccupancyRegistry roomOccupancyRegistry;
+
+    @Mock
+    private StudyRoomPopularityIndex studyRoomPopularityIndex;
+
+    @Mock
+    private StudyRoomSearchIndex studyRoomSearchIndex;
+
+    @Mock
+    private StudyRoomFirstPageCache studyRoomFirstPageCache;
+
+    @InjectMocks
+    private StudyRoomService studyRoomService;
+
+    @Test
+    @DisplayName("인기순 조회에서 알 수 없는 카테고리면 인덱스를 조회하지 않고 빈 페이지를 반환한다")
+    void 인기순_잘못된_카테고리() {
+        CursorPage<StudyRoomInfoReadResponse> page = studyRoomService.listStudyRooms(
+                null, null, 20, null, "unknown", "popular", false);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        verify(studyRoomPopularityIndex, never()).findPage(any(), any(), anyInt(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("검색에서 알 수 없는 카테고리면 검색 인덱스를 조회하지 않고 빈 페이지를 반환한다")
+    void 검색_잘못된_카테고리() {
+        CursorPage<StudyRoomInfoReadResponse> page = studyRoomService.listStudyRooms(
+                null, null, 20, "자바", "unknown", "latest", false);
+
+        assertThat(page.getContent()).isEmpty();
+        verify(studyRoomSearchIndex, never()).search(anyString(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("카테고리는 대소문자 구분 없이 해석해 검색 인덱스에 전달한다")
+    void 검색_카테고리_해석() {
+        when(studyRoomSearchIndex.search("자바", StudyRoomCategory.LANGUAGE, Long.MAX_VALUE, 21)).thenReturn(List.of());
+
+        CursorPage<StudyRoomInfoReadResponse> page = studyRoomService.listStudyRooms(
+                null, null, 20, "자바", "language", "latest", false);
+
+        assertThat(page.getContent()).isEmpty();
+        verify(studyRoomSearchIndex).search("자바", StudyRoomCategory.LANGUAGE, Long.MAX_VALUE, 21);
+    }
+}
@@ -0,0 +1,91 @@
+package org.oreo.smore.domain.studytime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyTimeRollupService 단위 테스트")
+class StudyTimeRollupServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private StudyTimeDailyRepository studyTimeDailyRepository;
+
+    @Mock
+    private StudyTimeRepository studyTimeRepository;
+
+    @InjectMocks
+    private StudyTimeRollupService studyTimeRollupService;
+
+    @Test
+    @DisplayName("자정을 넘는 구간은 날짜별로 나눠 집계한다")
+    void 자정_분할() {
+        Map<LocalDate, Long> result = StudyTimeRollupService.splitByDay(
+                LocalDateTime.of(2024, 1, 1, 23, 30),
+                LocalDateTime.of(2024, 1, 3, 0, 15));
+
+        assertThat(result).containsExactly(
+                Map.entry(LocalDate.of(2024, 1, 1), 1800L),
+                Map.entry(LocalDate.of(2024, 1, 2), 86400L),
+                Map.entry(LocalDate.of(2024, 1, 3), 900L));
+    }
+
+    @Test
+    @DisplayName("역전되었거나 길이가 0인 구간은 무시한다")
+    void 빈_구간_무시() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        assertThat(StudyTimeRollupService.splitByDay(now, now)).isEmpty();
+        assertThat(StudyTimeRollupService.splitByDay(now, now.minusMinutes(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일자별로 한 번씩 누적(없으면 생성)한다")
+    void 증분_누적() {
+        studyTimeRollupService.addInterval(USER_ID,
+                LocalDateTime.of(2024, 1, 1, 23, 50),
+                LocalDateTime.of(2024, 1, 2, 0, 5));
+
+        verify(studyTimeDailyRepository).addSeconds(USER_ID, LocalDate.of(2024, 1, 1), 600L);
+        verify(studyTimeDailyRepository).addSeconds(USER_ID, LocalDate.of(2024, 1, 2), 300L);
+        verify(studyTimeDailyRepository, never()).addSeconds(eq(USER_ID), eq(LocalDate.of(2024, 1, 3)), anyLong());
+        verify(studyTimeDailyRepository, never()).save(any(StudyTimeDaily.class));
+    }
+
+    @Test
+    @DisplayName("백필은 원본 기록으로 사용자의 집계를 다시 만든다")
+    void 백필_재계산() {
+        when(studyTimeRepository.findAllByUserId(USER_ID)).thenReturn(List.of(
+                StudyTime.builder().userId(USER_ID)
+                        .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                        .deletedAt(LocalDateTime.of(2024, 1, 1, 11, 0)).build(),
+                StudyTime.builder().userId(USER_ID)
+                        .createdAt(LocalDateTime.of(2024, 1, 1, 23, 0))
+                        .deletedAt(LocalDateTime.of(2024, 1, 2, 1, 0)).build()));
+
+        int rows = studyTimeRollupService.rebuild(USER_ID);
+
+        assertThat(rows).isEqualTo(2);
+        verify(studyTimeDailyRepository).deleteAllByUserId(USER_ID);
+        verify(studyTimeDailyRepository).addSeconds(USER_ID, LocalDate.of(2024, 1, 1), 7200L);
+        verify(studyTimeDailyRepository).addSeconds(USER_ID, LocalDate.of(2024, 1, 2), 3600L);
+    }
+}
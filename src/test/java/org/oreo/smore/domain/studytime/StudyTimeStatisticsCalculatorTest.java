@@ -0,0 +1,59 @@
+package org.oreo.smore.domain.studytime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.studytime.dto.response.StudyTimeStatisticsResponse;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StudyTimeStatisticsCalculator 단위 테스트")
+class StudyTimeStatisticsCalculatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 10); // 수요일
+    private static final LocalDate FIRST_DAY = TODAY.minusYears(1).minusDays(1);
+
+    private long[] buffer() {
+        return new long[(int) (TODAY.toEpochDay() - FIRST_DAY.toEpochDay()) + 1];
+    }
+
+    private void put(long[] secondsByDay, LocalDate date, long seconds) {
+        secondsByDay[(int) (date.toEpochDay() - FIRST_DAY.toEpochDay())] = seconds;
+    }
+
+    @Test
+    @DisplayName("연속 출석, 요일/주간 그래프, 1년 기록을 계산한다")
+    void 통계_계산() {
+        long[] secondsByDay = buffer();
+        put(secondsByDay, LocalDate.of(2024, 1, 8), 2 * 3600);   // 월
+        put(secondsByDay, LocalDate.of(2024, 1, 9), 3600 + 59);  // 화
+        put(secondsByDay, TODAY, 30 * 60);                       // 수 (출석 기준 미달)
+        put(secondsByDay, LocalDate.of(2024, 1, 1), 5 * 3600);   // 지난주 월
+
+        StudyTimeStatisticsResponse response =
+                StudyTimeStatisticsCalculator.calculate(1L, TODAY, FIRST_DAY, secondsByDay);
+
+        assertThat(response.getTotalAttendance()).isEqualTo(2);
+        assertThat(response.getWeekdayGraph()).containsExactly(0, 2, 1, 0, 0, 0, 0);
+        assertThat(response.getWeeklyGraph()).containsExactly(0, 0, 0, 5, 3);
+        assertThat(response.getStudyTrack().getPoints()).hasSize(366);
+        assertThat(response.getStudyTrack().getPoints().get(0).getDate()).isEqualTo("2023-01-10");
+        StudyTimeStatisticsResponse.Point last = response.getStudyTrack().getPoints().get(365);
+        assertThat(last.getDate()).isEqualTo("2024-01-10");
+        assertThat(last.getMinutes()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("오늘 출석하면 연속 출석에 포함되고 배열 시작에서 멈춘다")
+    void 연속출석_범위() {
+        long[] secondsByDay = buffer();
+        Arrays.fill(secondsByDay, 3600);
+
+        StudyTimeStatisticsResponse response =
+                StudyTimeStatisticsCalculator.calculate(1L, TODAY, FIRST_DAY, secondsByDay);
+
+        assertThat(response.getTotalAttendance()).isEqualTo(secondsByDay.length);
+    }
+}
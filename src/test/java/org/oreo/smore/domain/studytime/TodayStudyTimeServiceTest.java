@@ -0,0 +1,155 @@
+package org.oreo.smore.domain.studytime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TodayStudyTimeService 단위 테스트")
+class TodayStudyTimeServiceTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 10);
+
+    @Mock
+    private StudyTimeDailyRepository studyTimeDailyRepository;
+
+    private MutableClock clock;
+    private TodayStudyTimeService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(TODAY.atTime(12, 0));
+        service = new TodayStudyTimeService(studyTimeDailyRepository, clock, 60);
+    }
+
+    private StudyTimeDaily row(Long userId, LocalDate date, long seconds) {
+        return StudyTimeDaily.builder().userId(userId).studyDate(date).seconds(seconds).build();
+    }
+
+    @Test
+    @DisplayName("여러 사용자를 한 번의 쿼리로 조회하고 이후에는 메모리에서 응답한다")
+    void 일괄_조회_캐시() {
+        when(studyTimeDailyRepository.findAllByUserIdInAndStudyDate(List.of(1L, 2L), TODAY))
+                .thenReturn(List.of(row(1L, TODAY, 600)));
+
+        Map<Long, Long> first = service.getTodaySeconds(List.of(1L, 2L));
+        Map<Long, Long> second = service.getTodaySeconds(List.of(1L, 2L));
+
+        assertThat(first).containsEntry(1L, 600L).containsEntry(2L, 0L);
+        assertThat(second).isEqualTo(first);
+        verify(studyTimeDailyRepository, times(1)).findAllByUserIdInAndStudyDate(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("공부 시간 갱신 시 오늘에 해당하는 구간만 누적한다")
+    void 갱신_누적() {
+        when(studyTimeDailyRepository.findAllByUserIdInAndStudyDate(List.of(1L), TODAY))
+                .thenReturn(List.of(row(1L, TODAY, 600)));
+        service.getTodaySeconds(1L);
+
+        // 어제 23:50 ~ 오늘 00:10 → 오늘 몫 600초
+        service.record(1L, TODAY.minusDays(1).atTime(23, 50), TODAY.atTime(0, 10));
+
+        assertThat(service.getTodaySeconds(1L)).isEqualTo(1200L);
+    }
+
+    @Test
+    @DisplayName("자정이 지나면 전날 누적값을 버리고 새 날짜로 다시 조회한다")
+    void 자정_초기화() {
+        LocalDate tomorrow = TODAY.plusDays(1);
+        when(studyTimeDailyRepository.findAllByUserIdInAndStudyDate(List.of(1L), TODAY))
+                .thenReturn(List.of(row(1L, TODAY, 3600)));
+        when(studyTimeDailyRepository.findAllByUserIdInAndStudyDate(List.of(1L), tomorrow))
+                .thenReturn(List.of());
+
+        assertThat(service.getTodaySeconds(1L)).isEqualTo(3600L);
+
+        clock.set(tomorrow.atTime(0, 0, 1));
+        assertThat(service.getTodaySeconds(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋 전에 읽은 조회 결과가 조회 중 커밋된 누적을 덮어쓰지 않는다")
+    void 조회_중_누적_유지() {
+        when(studyTimeDailyRepository.findAllByUserIdInAndStudyDate(List.of(1L), TODAY))
+                .thenReturn(List.of(row(1L, TODAY, 600)))
+                .thenAnswer(invocation -> {
+                    // 갱신 주기가 지나 다시 읽는 동안 다른 요청의 커밋 후 누적이 먼저 반영됨
+                    service.record(1L, TODAY.atTime(11, 0), TODAY.atTime(11, 10));
+                    return List.of(row(1L, TODAY, 600));
+                })
+                .thenReturn(List.of(row(1L, TODAY, 1200)));
+        service.getTodaySeconds(1L);
+        clock.set(TODAY.atTime(12, 1, 1));
+
+        assertThat(service.getTodaySeconds(1L)).isEqualTo(1200L);
+        // 덮어쓰지 않은 항목은 다음 조회에서 커밋된 DB 값으로 다시 채움
+        assertThat(service.getTodaySeconds(1L)).isEqualTo(1200L);
+        assertThat(service.getTodaySeconds(1L)).isEqualTo(1200L);
+        verify(studyTimeDailyRepository, times(3)).findAllByUserIdInAndStudyDate(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("처음 조회하는 중에 누적이 반영되면 그 조회 결과는 캐싱하지 않고 다음에 다시 읽는다")
+    void 첫_조회_중_누적_재조회() {
+        when(studyTimeDailyRepository.findAllByUserIdInAndStudyDate(List.of(1L), TODAY))
+                .thenAnswer(invocation -> {
+                    service.record(1L, TODAY.atTime(11, 0), TODAY.atTime(11, 10));
+                    return List.of(row(1L, TODAY, 0));
+                })
+                .thenReturn(List.of(row(1L, TODAY, 600)));
+
+        service.getTodaySeconds(1L);
+
+        assertThat(service.getTodaySeconds(1L)).isEqualTo(600L);
+        assertThat(service.getTodaySeconds(1L)).isEqualTo(600L);
+        verify(studyTimeDailyRepository, times(2)).findAllByUserIdInAndStudyDate(anyCollection(), any());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime time) {
+            set(time);
+        }
+
+        void set(LocalDateTime time) {
+            this.instant = time.atZone(ZONE).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
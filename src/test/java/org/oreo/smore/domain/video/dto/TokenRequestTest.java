@@ -91,4 +91,26 @@ class TokenRequestTest {
         assertEquals(builderRequest.getCanSubscribe(), constructorRequest.getCanSubscribe());
         assertEquals(builderRequest.getTokenExpirySeconds(), constructorRequest.getTokenExpirySeconds());
     }
+
+    @Test
+    void testNameDefaultsToIdentity() {
+        // given & when
+        TokenRequest withName = TokenRequest.builder()
+                .roomName("test")
+                .identity("42")
+                .name("오레오")
+                .canPublish(true)
+                .build();
+
+        TokenRequest withoutName = new TokenRequest(
+                "test", "42", true, null, null
+        );
+
+        // then
+        assertEquals("42", withName.getIdentity());
+        assertEquals("오레오", withName.getName());
+        assertEquals("42", withoutName.getName());
+        assertTrue(withName.getCanSubscribe());
+        assertEquals(3600, withName.getTokenExpirySeconds());
+    }
 }
@@ -0,0 +1,151 @@
+package org.oreo.smore.domain.video.service;
+
+import io.livekit.server.RoomServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import livekit.LivekitModels;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.video.exception.LiveKitException;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveKitAdminClient 단위 테스트")
+class LiveKitAdminClientTest {
+
+    private static final String ROOM = "study-room-1";
+
+    @Mock
+    private RoomServiceClient roomServiceClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LiveKitAdminClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        client = new LiveKitAdminClient(roomServiceClient, meterRegistry, 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Call<T> respond(Response<T> response) {
+        Call<T> call = mock(Call.class);
+        doAnswer(invocation -> {
+            Callback<T> callback = invocation.getArgument(0);
+            callback.onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+        return call;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Call<T> networkError() {
+        Call<T> call = mock(Call.class);
+        doAnswer(invocation -> {
+            Callback<T> callback = invocation.getArgument(0);
+            callback.onFailure(call, new IOException("connection reset"));
+            return null;
+        }).when(call).enqueue(any());
+        return call;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Call<T> pending() {
+        return mock(Call.class);
+    }
+
+    private static <T> Response<T> error(int code) {
+        return Response.error(code, ResponseBody.create("error", MediaType.get("text/plain")));
+    }
+
+    private static LivekitModels.Room room(String name) {
+        return LivekitModels.Room.newBuilder().setName(name).build();
+    }
+
+    @Test
+    @DisplayName("네트워크 오류와 5xx는 백오프 후 재시도하고 횟수를 기록한다")
+    void 재시도_후_성공() {
+        Call<Void> failed = networkError();
+        Call<Void> unavailable = respond(error(503));
+        Call<Void> ok = respond(Response.success(null));
+        when(roomServiceClient.deleteRoom(ROOM)).thenReturn(failed, unavailable, ok);
+
+        client.deleteRoom(ROOM).join();
+
+        verify(roomServiceClient, times(3)).deleteRoom(ROOM);
+        assertThat(meterRegistry.counter("livekit.admin.retries", "operation", "deleteRoom").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer("livekit.admin.requests", "operation", "deleteRoom", "outcome", "success").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 없는 방(404)은 성공으로, 4xx 오류는 재시도 없이 실패로 처리한다")
+    void 상태코드별_처리() {
+        Call<Void> notFound = respond(error(404));
+        when(roomServiceClient.deleteRoom(ROOM)).thenReturn(notFound);
+        client.deleteRoom(ROOM).join();
+
+        Call<Void> unauthorized = respond(error(401));
+        when(roomServiceClient.deleteRoom("study-room-2")).thenReturn(unauthorized);
+        assertThatThrownBy(() -> client.deleteRoom("study-room-2").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(LiveKitException.class);
+
+        verify(roomServiceClient, times(1)).deleteRoom("study-room-2");
+        assertThat(meterRegistry.timer("livekit.admin.requests", "operation", "deleteRoom", "outcome", "failure").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 중인 같은 방 삭제 요청은 하나로 합친다")
+    void 삭제_요청_병합() {
+        Call<Void> call = pending();
+        when(roomServiceClient.deleteRoom(ROOM)).thenReturn(call);
+
+        CompletableFuture<Void> first = client.deleteRoom(ROOM);
+        CompletableFuture<Void> second = client.deleteRoom(ROOM);
+
+        assertThat(second).isSameAs(first);
+        verify(roomServiceClient, times(1)).deleteRoom(ROOM);
+    }
+
+    @Test
+    @DisplayName("방 목록을 조회하고, 응답 본문이 없으면 빈 목록을 반환한다")
+    void 방_목록_조회() {
+        Call<List<LivekitModels.Room>> first = respond(Response.success(List.of(room(ROOM), room("study-room-2"))));
+        Call<List<LivekitModels.Room>> second = respond(Response.success(null));
+        when(roomServiceClient.listRooms()).thenReturn(first, second);
+
+        assertThat(client.listRooms().join())
+                .extracting(LivekitModels.Room::getName)
+                .containsExactly(ROOM, "study-room-2");
+        assertThat(client.listRooms().join()).isEmpty();
+    }
+}
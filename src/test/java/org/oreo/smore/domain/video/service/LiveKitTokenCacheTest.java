@@ -0,0 +1,130 @@
+package org.oreo.smore.domain.video.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.video.dto.TokenRequest;
+import org.oreo.smore.domain.video.dto.TokenResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LiveKitTokenCache 단위 테스트")
+class LiveKitTokenCacheTest {
+
+    private MutableClock clock;
+    private LiveKitTokenCache cache;
+    private LiveKitTokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-08-20T10:00:00Z"));
+        cache = new LiveKitTokenCache(clock, 0.5, 100);
+        tokenService = new LiveKitTokenService("test-api-key", "test-api-secret-test-api-secret-123", cache);
+    }
+
+    private TokenRequest request(String roomName, String identity, boolean canPublish) {
+        return TokenRequest.builder()
+                .roomName(roomName)
+                .identity(identity)
+                .name("오레오")
+                .canPublish(canPublish)
+                .tokenExpirySeconds(3600)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 조건의 재요청은 남은 수명이 절반을 넘는 동안 같은 토큰을 반환한다")
+    void 캐시_재사용() {
+        TokenResponse first = tokenService.generateToken(request("room-a", "1", true));
+
+        clock.advance(Duration.ofMinutes(29));
+        TokenResponse second = tokenService.generateToken(request("room-a", "1", true));
+
+        clock.advance(Duration.ofMinutes(2));
+        TokenResponse third = tokenService.generateToken(request("room-a", "1", true));
+
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("권한이 다르면 다른 토큰을 발급한다")
+    void 권한별_분리() {
+        TokenResponse publisher = tokenService.generateToken(request("room-a", "1", true));
+        TokenResponse viewer = tokenService.generateToken(request("room-a", "1", false));
+
+        assertThat(viewer).isNotSameAs(publisher);
+        assertThat(viewer.getCanPublish()).isFalse();
+    }
+
+    @Test
+    @DisplayName("강퇴와 방 삭제 시 해당 토큰을 제거한다")
+    void 강퇴_방삭제_제거() {
+        TokenResponse banned = tokenService.generateToken(request("room-a", "1", true));
+        tokenService.generateToken(request("room-a", "2", true));
+        tokenService.generateToken(request("room-b", "3", true));
+
+        tokenService.evictIdentity("1");
+        cache.evictRoom("room-b");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(tokenService.generateToken(request("room-a", "1", true))).isNotSameAs(banned);
+    }
+
+    @Test
+    @DisplayName("최대 크기에 도달하면 기한 지난 토큰을 먼저, 그다음 재사용 기한이 가장 빠른 토큰을 제거한다")
+    void 최대_크기_제거() {
+        cache = new LiveKitTokenCache(clock, 0.5, 2);
+        tokenService = new LiveKitTokenService("test-api-key", "test-api-secret-test-api-secret-123", cache);
+
+        TokenResponse oldest = tokenService.generateToken(request("room-a", "1", true));
+        clock.advance(Duration.ofMinutes(1));
+        TokenResponse second = tokenService.generateToken(request("room-a", "2", true));
+        clock.advance(Duration.ofMinutes(1));
+        TokenResponse third = tokenService.generateToken(request("room-a", "3", true));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(tokenService.generateToken(request("room-a", "2", true))).isSameAs(second);
+        assertThat(tokenService.generateToken(request("room-a", "3", true))).isSameAs(third);
+
+        clock.advance(Duration.ofMinutes(29));
+        tokenService.generateToken(request("room-a", "4", true));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(tokenService.generateToken(request("room-a", "3", true))).isSameAs(third);
+        assertThat(tokenService.generateToken(request("room-a", "1", true))).isNotSameAs(oldest);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            this.instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
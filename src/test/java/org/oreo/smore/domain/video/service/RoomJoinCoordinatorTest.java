@@ -0,0 +1,158 @@
+package org.oreo.smore.domain.video.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.participant.ParticipantService;
+import org.oreo.smore.domain.studyroom.LiveKitRoomRegistry;
+import org.oreo.smore.domain.studyroom.StudyRoom;
+import org.oreo.smore.domain.studyroom.StudyRoomCategory;
+import org.oreo.smore.domain.studyroom.StudyRoomRepository;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.oreo.smore.domain.video.dto.JoinRoomRequest;
+import org.oreo.smore.domain.video.dto.TokenRequest;
+import org.oreo.smore.domain.video.dto.TokenResponse;
+import org.oreo.smore.domain.video.exception.WrongPasswordException;
+import org.oreo.smore.domain.video.validator.StudyRoomValidator;
+import org.oreo.smore.global.exception.RoomNotFoundException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomJoinCoordinator 단위 테스트")
+class RoomJoinCoordinatorTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long OWNER_ID = 10L;
+    private static final Long USER_ID = 20L;
+
+    @Mock
+    private StudyRoomRepository studyRoomRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ParticipantService participantService;
+
+    @Mock
+    private LiveKitRoomRegistry liveKitRoomRegistry;
+
+    @Mock
+    private LiveKitTokenService tokenService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomJoinCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        UserIdentityService userIdentityService = new UserIdentityService(userRepository);
+        StudyRoomValidator studyRoomValidator = new StudyRoomValidator(studyRoomRepository, userIdentityService);
+        coordinator = new RoomJoinCoordinator(studyRoomRepository, userRepository, userIdentityService,
+                studyRoomValidator, participantService, liveKitRoomRegistry, tokenService, meterRegistry);
+    }
+
+    private StudyRoom room(String liveKitRoomId, String password) {
+        return StudyRoom.builder()
+                .roomId(ROOM_ID)
+                .userId(OWNER_ID)
+                .title("스터디룸")
+                .category(StudyRoomCategory.EMPLOYMENT)
+                .password(password)
+                .liveKitRoomId(liveKitRoomId)
+                .build();
+    }
+
+    private void stubUser(Long userId) {
+        when(userRepository.findById(userId))
+                .thenReturn(Optional.of(User.builder().userId(userId).nickname("오레오").build()));
+    }
+
+    private JoinRoomRequest request(String password) {
+        return JoinRoomRequest.builder().password(password).canPublish(true).build();
+    }
+
+    @Test
+    @DisplayName("방과 사용자를 한 번씩만 조회하고 userId identity로 토큰을 발급한다")
+    void 참가자_입장() {
+        StudyRoom studyRoom = room("study-room-abc", null);
+        when(studyRoomRepository.findByRoomIdAndDeletedAtIsNull(ROOM_ID)).thenReturn(Optional.of(studyRoom));
+        stubUser(USER_ID);
+        when(participantService.registerJoin(studyRoom, USER_ID)).thenReturn(true);
+        TokenResponse token = TokenResponse.builder().accessToken("jwt").build();
+        when(tokenService.generateToken(any())).thenReturn(token);
+
+        TokenResponse response = coordinator.join(ROOM_ID, USER_ID, request(null));
+
+        assertThat(response).isSameAs(token);
+        ArgumentCaptor<TokenRequest> captor = ArgumentCaptor.forClass(TokenRequest.class);
+        verify(tokenService).generateToken(captor.capture());
+        assertThat(captor.getValue().getRoomName()).isEqualTo("study-room-abc");
+        assertThat(captor.getValue().getIdentity()).isEqualTo(String.valueOf(USER_ID));
+        assertThat(captor.getValue().getName()).isEqualTo("오레오");
+
+        verify(studyRoomRepository, never()).findById(anyLong());
+        verify(studyRoomRepository, never()).assignLiveKitRoomId(anyLong(), anyString());
+        verify(liveKitRoomRegistry).register(studyRoom);
+        assertThat(meterRegistry.timer("room.join", "outcome", "success").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("room.join.step", "step", "register").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("room.join.step", "step", "token").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("방장의 첫 입장이면 LiveKit 방 ID를 조건부 UPDATE로 지정한다")
+    void 방장_첫_입장() {
+        StudyRoom studyRoom = room(null, null);
+        when(studyRoomRepository.findByRoomIdAndDeletedAtIsNull(ROOM_ID)).thenReturn(Optional.of(studyRoom));
+        stubUser(OWNER_ID);
+        when(participantService.registerJoin(studyRoom, OWNER_ID)).thenReturn(true);
+        when(studyRoomRepository.assignLiveKitRoomId(ROOM_ID, "study-room-1")).thenReturn(1);
+        when(tokenService.generateToken(any())).thenReturn(TokenResponse.builder().accessToken("jwt").build());
+
+        coordinator.join(ROOM_ID, OWNER_ID, request(null));
+
+        assertThat(studyRoom.getLiveKitRoomId()).isEqualTo("study-room-1");
+        verify(studyRoomRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 참가자를 등록하지 않고 실패로 기록한다")
+    void 비밀번호_오류() {
+        when(studyRoomRepository.findByRoomIdAndDeletedAtIsNull(ROOM_ID))
+                .thenReturn(Optional.of(room("study-room-abc", "1234")));
+        stubUser(USER_ID);
+
+        assertThatThrownBy(() -> coordinator.join(ROOM_ID, USER_ID, request("0000")))
+                .isInstanceOf(WrongPasswordException.class);
+
+        verify(participantService, never()).registerJoin(any(), anyLong());
+        assertThat(meterRegistry.timer("room.join", "outcome", "failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제되었거나 없는 방이면 RoomNotFoundException")
+    void 없는_방() {
+        when(studyRoomRepository.findByRoomIdAndDeletedAtIsNull(ROOM_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> coordinator.join(ROOM_ID, USER_ID, request(null)))
+                .isInstanceOf(RoomNotFoundException.class);
+
+        verify(userRepository, never()).findById(anyLong());
+    }
+}
@@ -0,0 +1,151 @@
+package org.oreo.smore.domain.webhook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.webhook.dto.WebhookPayload;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookEventQueue 단위 테스트")
+class WebhookEventQueueTest {
+
+    @Mock
+    private WebhookEventRepository webhookEventRepository;
+
+    @Mock
+    private WebhookService webhookService;
+
+    private WebhookEventQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new WebhookEventQueue(webhookEventRepository, webhookService, 4, 1);
+    }
+
+    private WebhookPayload left(String id, String roomName, String identity) {
+        return new WebhookPayload(id, "participant_left",
+                new WebhookPayload.RoomInfo(roomName),
+                new WebhookPayload.ParticipantInfo(identity));
+    }
+
+    @Test
+    @DisplayName("같은 이벤트 ID로 재전송되면 한 번만 처리한다")
+    void 중복_이벤트_무시() {
+        when(webhookEventRepository.insert(any()))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThat(queue.accept(left("EV_1", "room-a", "1"))).isTrue();
+        assertThat(queue.accept(left("EV_1", "room-a", "1"))).isFalse();
+        queue.shutdown();
+
+        verify(webhookService, times(1)).handleParticipantLeft(eq("room-a"), eq("1"), any());
+        verify(webhookEventRepository).markProcessed(eq("EV_1"), any());
+    }
+
+    @Test
+    @DisplayName("같은 방의 이벤트는 받은 순서대로 처리한다")
+    void 방별_순서_보장() {
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        when(webhookService.handleParticipantLeft(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            processed.add(invocation.getArgument(0) + ":" + invocation.getArgument(1));
+            return 0;
+        });
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            queue.accept(left("EV_" + i, "room-a", String.valueOf(i)));
+            queue.accept(left("EV_B_" + i, "room-b", String.valueOf(i)));
+            expected.add("room-a:" + i);
+        }
+        queue.shutdown();
+
+        assertThat(processed).hasSize(200);
+        assertThat(processed.stream().filter(entry -> entry.startsWith("room-a:")).toList())
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("처리하지 않는 이벤트는 저장하지 않고 무시한다")
+    void 처리_대상_아닌_이벤트_무시() {
+        WebhookPayload started = new WebhookPayload("EV_1", "room_started",
+                new WebhookPayload.RoomInfo("room-a"), null);
+
+        assertThat(queue.accept(started)).isFalse();
+        queue.shutdown();
+
+        verify(webhookEventRepository, never()).insert(any());
+        verify(webhookService, never()).handleParticipantLeft(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 시도 횟수를 늘리고 백오프 후 다시 처리한다")
+    void 처리_실패_재시도() {
+        when(webhookService.handleParticipantLeft(eq("room-a"), eq("1"), any()))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenReturn(0);
+        when(webhookEventRepository.claim(eq("EV_1"), anyString(), any(), any())).thenReturn(1);
+
+        queue.accept(left("EV_1", "room-a", "1"));
+
+        verify(webhookEventRepository, timeout(1000)).markProcessed(eq("EV_1"), any());
+        verify(webhookEventRepository).incrementAttempts("EV_1");
+        verify(webhookService, times(2)).handleParticipantLeft(eq("room-a"), eq("1"), any());
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패하면 처리 완료로 표시하지 않고 포기한다")
+    void 최대_시도_후_포기() {
+        when(webhookService.handleParticipantLeft(eq("room-a"), eq("1"), any()))
+                .thenThrow(new IllegalStateException("DB 오류"));
+        when(webhookEventRepository.claim(eq("EV_1"), anyString(), any(), any())).thenReturn(1);
+
+        queue.accept(left("EV_1", "room-a", "1"));
+
+        verify(webhookEventRepository, timeout(1000).times(3)).incrementAttempts("EV_1");
+        queue.shutdown();
+        verify(webhookService, times(3)).handleParticipantLeft(eq("room-a"), eq("1"), any());
+        verify(webhookEventRepository, never()).markProcessed(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("복구 시 오래된 이벤트는 만료시키고 점유에 성공한 이벤트만 처리한다")
+    void 복구_점유() {
+        WebhookEvent mine = WebhookEvent.builder().eventId("EV_1").event("participant_left")
+                .roomName("room-a").identity("1").receivedAt(LocalDateTime.now()).attempts(0).build();
+        WebhookEvent others = WebhookEvent.builder().eventId("EV_2").event("participant_left")
+                .roomName("room-b").identity("2").receivedAt(LocalDateTime.now()).attempts(0).build();
+        when(webhookEventRepository.findAllByProcessedAtIsNullAndAttemptsLessThanOrderByReceivedAtAsc(3))
+                .thenReturn(List.of(mine, others));
+        when(webhookEventRepository.claim(eq("EV_1"), anyString(), any(), any())).thenReturn(1);
+        when(webhookEventRepository.claim(eq("EV_2"), anyString(), any(), any())).thenReturn(0);
+
+        queue.recover();
+        queue.shutdown();
+
+        verify(webhookEventRepository).expirePendingBefore(any(), any());
+        verify(webhookService).handleParticipantLeft(eq("room-a"), eq("1"), any());
+        verify(webhookService, never()).handleParticipantLeft(eq("room-b"), eq("2"), any());
+        verify(webhookEventRepository).markProcessed(eq("EV_1"), any());
+    }
+}
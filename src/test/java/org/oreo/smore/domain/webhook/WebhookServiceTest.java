@@ -0,0 +1,144 @@
+package org.oreo.smore.domain.webhook;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.participant.Participant;
+import org.oreo.smore.domain.participant.ParticipantRepository;
+import org.oreo.smore.domain.participant.RoomOccupancyRegistry;
+import org.oreo.smore.domain.studyroom.LiveKitRoomRegistry;
+import org.oreo.smore.domain.studyroom.StudyRoomService;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookService 단위 테스트")
+class WebhookServiceTest {
+
+    private static final String LIVEKIT_ROOM = "study-room-abc";
+    private static final Long ROOM_ID = 1L;
+    private static final Long OWNER_ID = 10L;
+    private static final Long USER_ID = 20L;
+    private static final LocalDateTime RECEIVED_AT = LocalDateTime.of(2024, 1, 10, 10, 0);
+
+    @Mock
+    private LiveKitRoomRegistry liveKitRoomRegistry;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private StudyRoomService studyRoomService;
+
+    @Mock
+    private RoomOccupancyRegistry roomOccupancyRegistry;
+
+    @InjectMocks
+    private WebhookService webhookService;
+
+    private void stubRoom() {
+        when(liveKitRoomRegistry.resolve(LIVEKIT_ROOM))
+                .thenReturn(Optional.of(new LiveKitRoomRegistry.RoomRef(ROOM_ID, OWNER_ID)));
+    }
+
+    @Test
+    @DisplayName("identity가 userId면 사용자 조회 없이 참가자를 퇴장 처리한다")
+    void 참가자_퇴장() {
+        stubRoom();
+        Participant participant = Participant.builder().roomId(ROOM_ID).userId(USER_ID).build();
+        when(participantRepository.findAllByRoomIdAndUserIdAndLeftAtIsNull(ROOM_ID, USER_ID))
+                .thenReturn(List.of(participant));
+
+        int result = webhookService.handleParticipantLeft(LIVEKIT_ROOM, String.valueOf(USER_ID), RECEIVED_AT);
+
+        assertThat(result).isZero();
+        assertThat(participant.getLeftAt()).isNotNull();
+        verify(roomOccupancyRegistry).decrement(ROOM_ID);
+        verify(userRepository, never()).findByNickname(anyString());
+    }
+
+    @Test
+    @DisplayName("방장이 나가면 방을 삭제하고 1을 반환한다")
+    void 방장_퇴장() {
+        stubRoom();
+
+        int result = webhookService.handleParticipantLeft(LIVEKIT_ROOM, String.valueOf(OWNER_ID), RECEIVED_AT);
+
+        assertThat(result).isEqualTo(1);
+        verify(studyRoomService).deleteStudyRoom(ROOM_ID, OWNER_ID);
+    }
+
+    @Test
+    @DisplayName("이전 토큰의 닉네임 identity는 닉네임으로 사용자를 찾는다")
+    void 닉네임_identity_호환() {
+        stubRoom();
+        when(userRepository.findByNickname("오레오"))
+                .thenReturn(Optional.of(User.builder().userId(OWNER_ID).nickname("오레오").build()));
+
+        int result = webhookService.handleParticipantLeft(LIVEKIT_ROOM, "오레오", RECEIVED_AT);
+
+        assertThat(result).isEqualTo(1);
+        verify(studyRoomService).deleteStudyRoom(ROOM_ID, OWNER_ID);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 LiveKit 방이면 아무것도 하지 않는다")
+    void 알수없는_방() {
+        when(liveKitRoomRegistry.resolve("unknown")).thenReturn(Optional.empty());
+
+        int result = webhookService.handleParticipantLeft("unknown", String.valueOf(USER_ID), RECEIVED_AT);
+
+        assertThat(result).isZero();
+        verify(participantRepository, never()).findAllByRoomIdAndUserIdAndLeftAtIsNull(ROOM_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("이벤트 수신 이후 다시 입장한 참가 기록은 퇴장 처리하지 않는다")
+    void 재입장_이후_퇴장_이벤트_무시() {
+        stubRoom();
+        Participant rejoined = Participant.builder().roomId(ROOM_ID).userId(USER_ID).build();
+        ReflectionTestUtils.setField(rejoined, "joinedAt", RECEIVED_AT.plusSeconds(5));
+        when(participantRepository.findAllByRoomIdAndUserIdAndLeftAtIsNull(ROOM_ID, USER_ID))
+                .thenReturn(List.of(rejoined));
+
+        int result = webhookService.handleParticipantLeft(LIVEKIT_ROOM, String.valueOf(USER_ID), RECEIVED_AT);
+
+        assertThat(result).isZero();
+        assertThat(rejoined.getLeftAt()).isNull();
+        verify(roomOccupancyRegistry, never()).decrement(anyLong());
+    }
+
+    @Test
+    @DisplayName("방장이 이벤트 수신 이후 다시 입장했으면 방을 삭제하지 않는다")
+    void 방장_재입장_이후_퇴장_이벤트_무시() {
+        stubRoom();
+        Participant rejoined = Participant.builder().roomId(ROOM_ID).userId(OWNER_ID).build();
+        ReflectionTestUtils.setField(rejoined, "joinedAt", RECEIVED_AT.plusSeconds(5));
+        when(participantRepository.findAllByRoomIdAndUserIdAndLeftAtIsNull(ROOM_ID, OWNER_ID))
+                .thenReturn(List.of(rejoined));
+
+        int result = webhookService.handleParticipantLeft(LIVEKIT_ROOM, String.valueOf(OWNER_ID), RECEIVED_AT);
+
+        assertThat(result).isZero();
+        verify(studyRoomService, never()).deleteStudyRoom(any(), any());
+    }
+}
@@ -0,0 +1,108 @@
+package org.oreo.smore.global.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatPrincipalRegistry 단위 테스트")
+class ChatPrincipalRegistryTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private ChatPrincipalRegistry registry;
+
+    private User user(String nickname) {
+        return User.builder()
+                .userId(USER_ID)
+                .nickname(nickname)
+                .email("test@example.com")
+                .profileUrl("https://example.com/profile.png")
+                .build();
+    }
+
+    private Map<String, Object> connectedSession() {
+        Map<String, Object> attributes = new HashMap<>();
+        ChatPrincipal principal = registry.load(USER_ID);
+        attributes.put(ChatPrincipal.SESSION_ATTRIBUTE, principal);
+        registry.connect(principal);
+        return attributes;
+    }
+
+    @Test
+    @DisplayName("핸드셰이크 이후 메시지마다 사용자를 다시 조회하지 않는다")
+    void 스냅샷_재사용() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user("오레오")));
+        Map<String, Object> session = connectedSession();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(registry.resolve(session).nickname()).isEqualTo("오레오");
+        }
+
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("무효화되면 다음 조회에서 한 번만 다시 불러와 세션 스냅샷을 갱신한다")
+    void 무효화_후_갱신() {
+        when(userRepository.findById(USER_ID))
+                .thenReturn(Optional.of(user("오레오")))
+                .thenReturn(Optional.of(user("스모어")));
+        Map<String, Object> first = connectedSession();
+        Map<String, Object> second = new HashMap<>(first);
+        registry.connect((ChatPrincipal) second.get(ChatPrincipal.SESSION_ATTRIBUTE));
+
+        registry.invalidate(USER_ID);
+
+        assertThat(registry.resolve(first).nickname()).isEqualTo("스모어");
+        assertThat(registry.resolve(second).nickname()).isEqualTo("스모어");
+        assertThat(((ChatPrincipal) second.get(ChatPrincipal.SESSION_ATTRIBUTE)).nickname()).isEqualTo("스모어");
+        verify(userRepository, times(2)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 끊기면 스냅샷을 정리한다")
+    void 연결_해제_정리() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user("오레오")));
+        Map<String, Object> session = connectedSession();
+
+        registry.disconnect(USER_ID);
+        registry.invalidate(USER_ID);
+
+        // 추적 중인 세션이 없으면 세션 스냅샷을 그대로 반환
+        assertThat(registry.resolve(session).nickname()).isEqualTo("오레오");
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("핸드셰이크 후 CONNECT가 오지 않으면 스냅샷을 추적하지 않는다")
+    void 연결_없는_핸드셰이크_미추적() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user("오레오")));
+        Map<String, Object> session = new HashMap<>();
+        session.put(ChatPrincipal.SESSION_ATTRIBUTE, registry.load(USER_ID));
+
+        registry.invalidate(USER_ID);
+
+        // 추적 항목이 없으므로 무효화/재조회 대상이 아님
+        assertThat(registry.resolve(session).nickname()).isEqualTo("오레오");
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+}
@@ -0,0 +1,116 @@
+package org.oreo.smore.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Redis 클러스터 브로드캐스트 릴레이 테스트")
+class RedisBroadcastRelayTest {
+
+    private static final String CHANNEL = "test:stomp:broadcast";
+
+    // 인메모리 Redis pub/sub 대역: 발행된 메시지를 모든 노드의 릴레이에 전달
+    private final List<RedisBroadcastRelay> subscribers = new CopyOnWriteArrayList<>();
+    private StringRedisTemplate redis;
+
+    private Node nodeA;
+    private Node nodeB;
+
+    // 한 인스턴스: brokerChannel + 릴레이 인터셉터 + 로컬 구독자 + 서버 전송 템플릿
+    private static class Node {
+        final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        final List<Message<?>> delivered = new CopyOnWriteArrayList<>();
+        final SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+        RedisBroadcastRelay relay;
+
+        Node() {
+            brokerChannel.subscribe(delivered::add);
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        when(redis.convertAndSend(eq(CHANNEL), anyString())).thenAnswer(inv -> {
+            byte[] body = inv.<String>getArgument(1).getBytes(StandardCharsets.UTF_8);
+            subscribers.forEach(relay -> relay.onMessage(
+                    new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null));
+            return (long) subscribers.size();
+        });
+
+        nodeA = node();
+        nodeB = node();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node node() {
+        Node node = new Node();
+        ObjectProvider<MessageChannel> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(node.brokerChannel);
+        node.relay = new RedisBroadcastRelay(redis, provider, new ObjectMapper(), CHANNEL);
+        node.brokerChannel.addInterceptor(node.relay);
+        subscribers.add(node.relay);
+        return node;
+    }
+
+    @Test
+    @DisplayName("한 노드에서 보낸 /topic 메시지가 예외 없이 한 번 발행되고 각 노드에 한 번씩 전달된다")
+    void 다른_노드로_전달() {
+        assertThatCode(() -> nodeA.template.convertAndSend("/topic/study-rooms/1/chat", Map.of("content", "안녕")))
+                .doesNotThrowAnyException();
+
+        verify(redis, times(1)).convertAndSend(eq(CHANNEL), anyString());
+        assertThat(nodeA.delivered).hasSize(1);
+        assertThat(nodeB.delivered).hasSize(1);
+
+        Message<?> relayed = nodeB.delivered.get(0);
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(relayed);
+        assertThat(accessor.getDestination()).isEqualTo("/topic/study-rooms/1/chat");
+        assertThat(accessor.getContentType().isCompatibleWith(MimeTypeUtils.APPLICATION_JSON)).isTrue();
+        assertThat(new String((byte[]) relayed.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"content\":\"안녕\"}");
+    }
+
+    @Test
+    @DisplayName("Redis 발행이 실패해도 로컬 구독자에게는 전달된다")
+    void Redis_장애시_로컬_전달() {
+        doThrow(new IllegalStateException("down")).when(redis).convertAndSend(eq(CHANNEL), anyString());
+
+        assertThatCode(() -> nodeA.template.convertAndSend("/topic/study-rooms/1/events", Map.of()))
+                .doesNotThrowAnyException();
+
+        assertThat(nodeA.delivered).hasSize(1);
+        assertThat(nodeB.delivered).isEmpty();
+    }
+
+    @Test
+    @DisplayName("/queue 등 /topic 이외의 목적지는 로컬로만 전달된다")
+    void 개인_큐는_로컬() {
+        nodeA.template.convertAndSend("/queue/chat/error-user123", Map.of());
+
+        verify(redis, never()).convertAndSend(anyString(), anyString());
+        assertThat(nodeA.delivered).hasSize(1);
+        assertThat(nodeB.delivered).isEmpty();
+    }
+}